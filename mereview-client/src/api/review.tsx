@@ -42,6 +42,20 @@ export async function createReviewComment(data: Object, success, fail) {
   await api.post(`/comments/`, data).then(success).catch(fail);
 }
 
+export async function searchReviewComments(data: Object, success, fail) {
+  const queryParams = new URLSearchParams({
+    reviewId: data["reviewId"],
+    cursor: data["cursor"] ?? "",
+  });
+  if (data["loginMemberId"]) {
+    queryParams.append("loginMemberId", data["loginMemberId"]);
+  }
+  await api
+    .get(`/comments?${queryParams.toString()}`)
+    .then(success)
+    .catch(fail);
+}
+
 export async function updateReviewComment(
   commentId: number,
   data: JSON,
@@ -90,21 +104,34 @@ export async function getUnConfirmedNotifications(memberId, success, fail) {
     .catch(fail);
 }
 
-export async function toggleNotificationStatus(notificationId, success, fail) {
+export async function toggleNotificationStatus(notificationId, loginMemberId, success, fail) {
   try {
-    
-    const response = await api.put(`/notifications/${notificationId}`);
+    const queryString = new URLSearchParams({ loginMemberId }).toString();
+    const response = await api.put(`/notifications/${notificationId}?${queryString}`);
     success(response.data);
   } catch (error) {
     fail(error);
   }
 }
 
-export async function deleteNotification(notificationId, success, fail){
+export async function deleteNotification(notificationId, loginMemberId, success, fail){
   try{
-    const response = await api.delete(`/notifications/${notificationId}`);
+    const queryString = new URLSearchParams({ loginMemberId }).toString();
+    const response = await api.delete(`/notifications/${notificationId}?${queryString}`);
     success(response.data)
   } catch(error){
     fail(error)
   }
-}
\ No newline at end of file
+}
+
+/** 새 알림 구독 (SSE). 끊기면 브라우저가 다시 연결한다. 닫을 때는 반환된 EventSource 를 close 한다. */
+export function subscribeNotifications(loginMemberId, onNotification) {
+  const queryString = new URLSearchParams({ loginMemberId }).toString();
+  const eventSource = new EventSource(
+    `${process.env.REACT_APP_API_URL}/reviews/notifications/subscribe?${queryString}`
+  );
+  eventSource.addEventListener("notification", (event: MessageEvent) =>
+    onNotification(JSON.parse(event.data))
+  );
+  return eventSource;
+}
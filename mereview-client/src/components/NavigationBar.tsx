@@ -4,9 +4,12 @@ import { useNavigate } from "react-router-dom";
 import "../styles/css/NavigationBar.css";
 import { useEffect, useState } from "react";
 import ProfileModal from "./ProfileModal";
+import { subscribeNotifications } from "../api/review";
+import { userActions } from "../store/user-slice";
 const NavigationBar = ({ user }) => {
   const [isModal, setIsModal] = useState(false);
 
+  const dispatch = useDispatch();
   const [notification, setNotification] = useState(false);
   const notifications = useSelector((state: any) => state.notification.notific);
 
@@ -20,12 +23,23 @@ const NavigationBar = ({ user }) => {
     setIsModal((currentState: boolean) => !currentState);
   };
   const checkNotifications = (): boolean => {
-    return user.notifications?.some((notification) => notification.status === "UNCONFIRMED");
+    return user.unreadNotificationCount > 0;
   };
   useEffect(() => {
     // console.log("알람 확인");
     checkNotifications() ? setNotification(true) : setNotification(false);
   });
+  // 새 알림이 오면 안 읽은 개수를 올려 배지를 띄운다.
+  useEffect(() => {
+    const id = localStorage.getItem("id");
+    if (!id) {
+      return;
+    }
+    const eventSource = subscribeNotifications(id, () =>
+      dispatch(userActions.increaseUnreadNotificationCount())
+    );
+    return () => eventSource.close();
+  }, [dispatch]);
 
   return (
     <div>
@@ -41,6 +41,7 @@ const NotificationReviewCard = (props: NotificationReviewCardInterface) => {
     setUnconfirmedReviewList,
   } = props;
   const navigate = useNavigate();
+  const loginId = localStorage.getItem("id");
   const [pressStartTime, setPressStartTime] = useState(0);
   const [isPressing, setIsPressing] = useState(false);
   const pressThreshold = 100;
@@ -74,6 +75,7 @@ const NotificationReviewCard = (props: NotificationReviewCardInterface) => {
     if (confirmed) {
       deleteNotification(
         notificationId,
+        loginId,
         () => {},
         () => {}
       );
@@ -83,6 +85,7 @@ const NotificationReviewCard = (props: NotificationReviewCardInterface) => {
     } else {
       deleteNotification(
         notificationId,
+        loginId,
         () => {},
         () => {}
       );
@@ -95,6 +98,7 @@ const NotificationReviewCard = (props: NotificationReviewCardInterface) => {
   const handlerToggleStatus = () => {
     toggleNotificationStatus(
       notificationId,
+      loginId,
       () => {},
       () => {}
     );
@@ -1,14 +1,11 @@
 import "../../styles/css/Comments.css";
 import { useState } from "react";
 import { deleteReviewComment, updateCommentLike } from "../../api/review";
-import { searchReview } from "../../api/review";
-import { useParams } from "react-router-dom";
 const Comments = ({ comment, setComments, setcommentCNT }) => {
   const profileImageURL = comment.profileImage
     ? `${process.env.REACT_APP_API_URL}/image/download/profiles/${comment.profileImage.id}`
     : "/testProfile.gif";
   const userId = localStorage.getItem("id");
-  const { id } = useParams();
   const [evCnt, setEvCnt] = useState({
     likeCount: comment.likeCount,
     dislikeCount: comment.disLikeCount,
@@ -47,26 +44,30 @@ const Comments = ({ comment, setComments, setcommentCNT }) => {
       comment.commentId,
       (res) => {
         alert("삭제되었습니다.");
-        const data = {
-          reviewId: id,
-          loginMemberId: Number(userId),
-        };
-        searchReview(
-          data,
-          (res) => {
-            setComments(res.data.data.comments);
-            setcommentCNT((cur) => --cur);
-          },
-          (err) => {
-            console.log(err);
-          }
+        setComments((cur) =>
+          cur.filter((c) => c.commentId !== comment.commentId)
         );
+        setcommentCNT((cur) => --cur);
       },
       (err) => {
         console.log("댓글삭제실패");
       }
     );
   };
+  // 다시 불러오면 받아 둔 댓글 페이지가 사라지므로 이 댓글의 숫자만 바꾼다.
+  const updateLikeCounts = (likeResponse) => {
+    setComments((cur) =>
+      cur.map((c) =>
+        c.commentId === comment.commentId
+          ? {
+              ...c,
+              likeCount: likeResponse.likeCount,
+              dislikeCount: likeResponse.dislikeCount,
+            }
+          : c
+      )
+    );
+  };
   const likeHandler = () => {
     const data = {
       commentId: comment.commentId,
@@ -76,19 +77,7 @@ const Comments = ({ comment, setComments, setcommentCNT }) => {
     updateCommentLike(
       data,
       (res) => {
-        const data = {
-          reviewId: id,
-          loginMemberId: Number(userId),
-        };
-        searchReview(
-          data,
-          (res) => {
-            setComments(res.data.data.comments);
-          },
-          (err) => {
-            console.log(err);
-          }
-        );
+        updateLikeCounts(res.data.data);
       },
       (err) => {
         alert("이미 추천/비추천을 눌렀습니다.");
@@ -104,19 +93,7 @@ const Comments = ({ comment, setComments, setcommentCNT }) => {
     updateCommentLike(
       data,
       (res) => {
-        const data = {
-          reviewId: id,
-          loginMemberId: Number(userId),
-        };
-        searchReview(
-          data,
-          (res) => {
-            setComments(res.data.data.comments);
-          },
-          (err) => {
-            console.log(err);
-          }
-        );
+        updateLikeCounts(res.data.data);
       },
       (err) => {
         alert("이미 추천/비추천을 눌렀습니다.");
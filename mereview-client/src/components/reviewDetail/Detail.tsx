@@ -4,10 +4,10 @@ import { Button } from "../common";
 import { useState, useEffect } from "react";
 import {
   createReviewComment,
-  searchReview,
   deleteReview,
   evaluationsReview,
   searchReviews,
+  searchReviewComments,
 } from "../../api/review";
 import Comments from "./Comments";
 import { useNavigate } from "react-router-dom";
@@ -26,8 +26,28 @@ const Detail = ({ review, setReview }: any) => {
   // 댓글 관련
   const [isFetched, setFetched] = useState(false);
   const [comments, setComments] = useState(review.comments);
+  const [commentCursor, setCommentCursor] = useState(review.commentNextCursor);
   const [inputComment, setInputComment] = useState("");
-  const [commentCNT, setcommentCNT] = useState(comments.length);
+  const [commentCNT, setcommentCNT] = useState(review.commentCount);
+  // 댓글은 오래된 순으로 한 페이지씩 받아 목록 뒤에 붙인다.
+  const loadComments = (cursor) => {
+    const data = {
+      reviewId: review.reviewId,
+      cursor: cursor,
+      loginMemberId: userId,
+    };
+    searchReviewComments(
+      data,
+      (res) => {
+        const page = res.data.data;
+        setComments((cur) => [...cur, ...page.data]);
+        setCommentCursor(page.nextCursor);
+      },
+      (err) => {
+        console.log(err);
+      }
+    );
+  };
   const inputCommentHandler = (event: any) => {
     setInputComment(event.target.value);
   };
@@ -41,17 +61,11 @@ const Detail = ({ review, setReview }: any) => {
     };
     const success = (res) => {
       setcommentCNT((cur) => ++cur);
-      const data = { reviewId: review.reviewId, loginMemberId: userId };
-      searchReview(
-        data,
-        (res) => {
-          setReview(res.data.data);
-          setComments(res.data.data.comments);
-        },
-        (err) => {
-          console.log(err);
-        }
-      );
+      // 마지막 페이지까지 받아 둔 경우에만 방금 쓴 댓글을 이어서 받는다. 남은 페이지가 있으면 더보기로 보인다.
+      if (!commentCursor) {
+        const lastComment = comments[comments.length - 1];
+        loadComments(lastComment ? String(lastComment.commentId) : "");
+      }
       setInputComment("");
     };
     const fail = () => {
@@ -63,6 +77,8 @@ const Detail = ({ review, setReview }: any) => {
 
   useEffect(() => {
     setComments(review.comments);
+    setCommentCursor(review.commentNextCursor);
+    setcommentCNT(review.commentCount);
   }, [review]);
   // 리뷰평가 중복 확인
   const [evIsDone, setEvIsDone] = useState(review.done);
@@ -321,14 +337,15 @@ const Detail = ({ review, setReview }: any) => {
               marginTop: "20px",
               padding: "50px",
               height: "90vh",
+              overflowY: "auto",
             }}
           >
             <div className="cnt">댓글 : {commentCNT}개</div>
             <br />
             {comments.length ? (
-              comments.map((comment, idx) => (
+              comments.map((comment) => (
                 <Comments
-                  key={idx}
+                  key={comment.commentId}
                   comment={comment}
                   setComments={setComments}
                   setcommentCNT={setcommentCNT}
@@ -342,6 +359,13 @@ const Detail = ({ review, setReview }: any) => {
                 첫 댓글을 작성해 보세요!
               </div>
             )}
+            {commentCursor ? (
+              <Button
+                text="댓글 더보기"
+                styles="btn-secondary"
+                onClick={() => loadComments(commentCursor)}
+              />
+            ) : null}
           </div>
         </div>
 
@@ -62,6 +62,7 @@ const ReviewDetail = () => {
           setLoading(true);
           toggleNotificationStatus(
             data,
+            userId,
             (toggleRes) => {},
             (toggleErr) => {}
           );
@@ -25,6 +25,10 @@ const userSlice = createSlice({
     authToggler(state) {
       state.isAthenticated = true;
     },
+    increaseUnreadNotificationCount(state) {
+      state.user["unreadNotificationCount"] =
+        (state.user["unreadNotificationCount"] ?? 0) + 1;
+    },
   },
 });
 
@@ -1,8 +1,10 @@
 package com.ssafy.mereview.api.controller.movie;
 
+import com.ssafy.mereview.api.service.movie.MovieImportService;
 import com.ssafy.mereview.api.service.movie.MovieQueryService;
 import com.ssafy.mereview.api.service.movie.MovieService;
 import com.ssafy.mereview.api.service.movie.dto.response.MovieDetailResponse;
+import com.ssafy.mereview.api.service.movie.dto.response.MovieImportStatusResponse;
 import com.ssafy.mereview.api.service.movie.dto.response.MovieResponse;
 import com.ssafy.mereview.common.response.ApiResponse;
 import io.swagger.annotations.Api;
@@ -23,6 +25,7 @@ public class MovieController {
 
     private final MovieService movieService;
     private final MovieQueryService movieQueryService;
+    private final MovieImportService movieImportService;
 
     @GetMapping
     @ApiOperation(value = "영화 키워드로 검색")
@@ -57,4 +60,16 @@ public class MovieController {
 
         return ApiResponse.ok(movieId);
     }
+
+    @PostMapping("/import")
+    @ApiOperation(value = "TMDB 영화 가져오기 시작")
+    public ApiResponse<MovieImportStatusResponse> startImport() {
+        return ApiResponse.ok(movieImportService.startImport());
+    }
+
+    @GetMapping("/import/status")
+    @ApiOperation(value = "TMDB 영화 가져오기 진행 상태 조회")
+    public ApiResponse<MovieImportStatusResponse> searchImportStatus() {
+        return ApiResponse.ok(movieImportService.getStatus());
+    }
 }
@@ -4,9 +4,12 @@ import com.ssafy.mereview.api.controller.review.dto.request.CommentCreateRequest
 import com.ssafy.mereview.api.controller.review.dto.request.CommentLikeRequest;
 import com.ssafy.mereview.api.controller.review.dto.request.CommentUpdateRequest;
 import com.ssafy.mereview.api.service.review.CommentLikeService;
+import com.ssafy.mereview.api.service.review.CommentQueryService;
 import com.ssafy.mereview.api.service.review.CommentService;
 import com.ssafy.mereview.api.service.review.dto.response.CommentLikeResponse;
+import com.ssafy.mereview.api.service.review.dto.response.CommentResponse;
 import com.ssafy.mereview.common.response.ApiResponse;
+import com.ssafy.mereview.common.response.CursorPageResponse;
 import com.ssafy.mereview.domain.member.repository.MemberAchievementQueryRepository;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -15,6 +18,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.util.List;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -25,6 +29,16 @@ public class CommentController {
 
     private final CommentService commentService;
     private final CommentLikeService commentLikeService;
+    private final CommentQueryService commentQueryService;
+
+    @GetMapping
+    @ApiOperation(value = "리뷰 댓글 목록 조회")
+    public ApiResponse<CursorPageResponse<List<CommentResponse>>> searchReviewComments(@RequestParam Long reviewId,
+                                                                                      @RequestParam(defaultValue = "") String cursor,
+                                                                                      @RequestParam(required = false) Long loginMemberId) {
+        CursorPageResponse<List<CommentResponse>> response = commentQueryService.searchByReviewId(reviewId, cursor, loginMemberId);
+        return ApiResponse.ok(response);
+    }
 
     @PostMapping
     @ApiOperation(value = "리뷰 댓글 생성")
@@ -1,17 +1,25 @@
 package com.ssafy.mereview.api.controller.review;
 
+import com.ssafy.mereview.api.service.review.NotificationOutboxDispatcher;
+import com.ssafy.mereview.api.service.review.NotificationPushRegistry;
 import com.ssafy.mereview.api.service.review.NotificationService;
 import com.ssafy.mereview.api.service.review.ReviewQueryService;
+import com.ssafy.mereview.api.service.review.dto.response.NotificationBulkResponse;
+import com.ssafy.mereview.api.service.review.dto.response.NotificationOutboxStatusResponse;
 import com.ssafy.mereview.api.service.review.dto.response.NotificationResponse;
 import com.ssafy.mereview.api.service.review.dto.response.NotifiedReviewResponse;
 import com.ssafy.mereview.common.response.ApiResponse;
+import com.ssafy.mereview.common.response.CursorPageResponse;
+import com.ssafy.mereview.common.response.PageCount;
 import com.ssafy.mereview.common.response.PageResponse;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -26,6 +34,8 @@ public class NotificationController {
 
     private final NotificationService notificationService;
     private final ReviewQueryService reviewQueryService;
+    private final NotificationOutboxDispatcher notificationOutboxDispatcher;
+    private final NotificationPushRegistry notificationPushRegistry;
 
     @GetMapping
     @ApiOperation(value = "알림 리뷰 조회")
@@ -36,23 +46,72 @@ public class NotificationController {
         PageRequest pageRequest = PageRequest.of(pageNumber - 1, PAGE_SIZE);
         List<NotifiedReviewResponse> responses = reviewQueryService.searchNotifiedReviews(loginMemberId, status, pageRequest);
 
-        int pageCount = reviewQueryService.calculateNotifiedPageCount(loginMemberId, status);
+        PageCount pageCount = reviewQueryService.calculateNotifiedPageCount(loginMemberId, status);
         PageResponse<List<NotifiedReviewResponse>> pageResponse = new PageResponse<>(responses, pageNumber, PAGE_SIZE, pageCount);
 
         return ApiResponse.ok(pageResponse);
     }
 
+    @GetMapping(params = "cursor")
+    @ApiOperation(value = "알림 리뷰 조회 (커서 기반)")
+    public ApiResponse<CursorPageResponse<List<NotifiedReviewResponse>>> searchNotifiedReviewsByCursor(
+            @RequestParam Long loginMemberId,
+            @RequestParam String status,
+            @RequestParam String cursor) {
+        CursorPageResponse<List<NotifiedReviewResponse>> response = reviewQueryService.searchNotifiedReviewsByCursor(loginMemberId, status, cursor);
+        return ApiResponse.ok(response);
+    }
+
+    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ApiOperation(value = "새 알림 구독 (SSE)")
+    public SseEmitter subscribe(@RequestParam Long loginMemberId) {
+        return notificationPushRegistry.connect(loginMemberId);
+    }
+
+    @GetMapping("/outbox-status")
+    @ApiOperation(value = "알림 발송 대기열 상태 조회")
+    public ApiResponse<NotificationOutboxStatusResponse> searchOutboxStatus() {
+        NotificationOutboxStatusResponse response = notificationOutboxDispatcher.getStatus();
+        return ApiResponse.ok(response);
+    }
+
+    @PutMapping("/read-all")
+    @ApiOperation(value = "알림 전체 확인")
+    public ApiResponse<NotificationBulkResponse> markAllRead(@RequestParam Long loginMemberId) {
+        NotificationBulkResponse response = notificationService.markAllRead(loginMemberId);
+        return ApiResponse.ok(response);
+    }
+
+    @PutMapping("/read")
+    @ApiOperation(value = "선택한 알림 확인")
+    public ApiResponse<NotificationBulkResponse> markRead(@RequestParam Long loginMemberId,
+                                                         @RequestParam List<Long> notificationIds) {
+        NotificationBulkResponse response = notificationService.markRead(loginMemberId, notificationIds);
+        return ApiResponse.ok(response);
+    }
+
+    @DeleteMapping
+    @ApiOperation(value = "선택한 알림 또는 상태별 알림 일괄 삭제")
+    public ApiResponse<NotificationBulkResponse> deleteNotifications(@RequestParam Long loginMemberId,
+                                                                     @RequestParam(required = false) List<Long> notificationIds,
+                                                                     @RequestParam(required = false) String status) {
+        NotificationBulkResponse response = notificationService.deleteAll(loginMemberId, notificationIds, status);
+        return ApiResponse.ok(response);
+    }
+
     @PutMapping("/{notificationId}")
     @ApiOperation(value = "알림 여부 토글")
-    public ApiResponse<NotificationResponse> toggleStatus(@PathVariable Long notificationId) {
-        NotificationResponse response = notificationService.toggleStatus(notificationId);
+    public ApiResponse<NotificationResponse> toggleStatus(@PathVariable Long notificationId,
+                                                         @RequestParam(required = false) Long loginMemberId) {
+        NotificationResponse response = notificationService.toggleStatus(notificationId, loginMemberId);
         return ApiResponse.ok(response);
     }
 
     @DeleteMapping("/{notificationId}")
     @ApiOperation(value = "알림 삭제")
-    public ApiResponse<Long> deleteNotification(@PathVariable Long notificationId) {
-        Long deleteId = notificationService.delete(notificationId);
+    public ApiResponse<Long> deleteNotification(@PathVariable Long notificationId,
+                                                @RequestParam(required = false) Long loginMemberId) {
+        Long deleteId = notificationService.delete(notificationId, loginMemberId);
         return ApiResponse.ok(deleteId);
     }
 }
@@ -6,7 +6,10 @@ import com.ssafy.mereview.api.service.review.ReviewQueryService;
 import com.ssafy.mereview.api.service.review.ReviewService;
 import com.ssafy.mereview.api.service.review.dto.response.ReviewDetailResponse;
 import com.ssafy.mereview.api.service.review.dto.response.ReviewResponse;
+import com.ssafy.mereview.api.service.review.dto.response.TrendingReviewResponse;
 import com.ssafy.mereview.common.response.ApiResponse;
+import com.ssafy.mereview.common.response.CursorPageResponse;
+import com.ssafy.mereview.common.response.PageCount;
 import com.ssafy.mereview.common.response.PageResponse;
 import com.ssafy.mereview.common.util.file.FileExtensionFilter;
 import com.ssafy.mereview.common.util.file.FileStore;
@@ -70,12 +73,37 @@ public class ReviewController {
         PageRequest pageRequest = PageRequest.of(pageNumber - 1, PAGE_SIZE);
         List<ReviewResponse> responses = reviewQueryService.searchByCondition(condition, pageRequest);
 
-        int pageCount = reviewQueryService.calculatePageCount(condition);
+        PageCount pageCount = reviewQueryService.calculatePageCount(condition);
         PageResponse<List<ReviewResponse>> pageResponse = new PageResponse<>(responses, pageNumber, PAGE_SIZE, pageCount);
 
         return ApiResponse.ok(pageResponse);
     }
 
+    @GetMapping(params = "cursor")
+    @ApiOperation(value = "리뷰 검색 (커서 기반)")
+    public ApiResponse<CursorPageResponse<List<ReviewResponse>>> searchReviewsByCursor(
+            @RequestParam(defaultValue = "") String title,
+            @RequestParam(defaultValue = "") String content,
+            @RequestParam(defaultValue = "") String memberId,
+            @RequestParam(defaultValue = "") String myInterest,
+            @RequestParam(defaultValue = "") String nickname,
+            @RequestParam(defaultValue = "") String orderBy,
+            @RequestParam(defaultValue = "DESC") String orderDir,
+            @RequestParam(defaultValue = "") String term,
+            @RequestParam(defaultValue = "") String genreId,
+            @RequestParam String cursor) {
+        SearchCondition condition = createCondition(title, content, memberId, nickname, myInterest, orderBy, orderDir, term, genreId);
+        CursorPageResponse<List<ReviewResponse>> response = reviewQueryService.searchByCursor(condition, cursor);
+        return ApiResponse.ok(response);
+    }
+
+    @GetMapping("/trending")
+    @ApiOperation(value = "인기 리뷰 조회")
+    public ApiResponse<List<TrendingReviewResponse>> searchTrendingReviews(@RequestParam(required = false) Long genreId) {
+        List<TrendingReviewResponse> responses = reviewQueryService.searchTrending(genreId);
+        return ApiResponse.ok(responses);
+    }
+
     @GetMapping("/{reviewId}")
     @ApiOperation(value = "리뷰 상세 검색")
     public ApiResponse<ReviewDetailResponse> searchReview(@PathVariable Long reviewId,
@@ -0,0 +1,192 @@
+package com.ssafy.mereview.api.service.member;
+
+import com.ssafy.mereview.domain.member.repository.MemberInterestQueryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.ssafy.mereview.common.util.TransactionUtils.afterCommit;
+
+/**
+ * 장르별 관심 회원 id 를 정렬된 long 배열로 메모리에 들고 있다가 알림 받을 회원을 뽑는다.
+ * 배열은 변경 시 새로 만들어 교체하므로(copy-on-write) 조회는 잠금 없이 한다.
+ * 다른 인스턴스에서 바뀐 관심사는 주기적인 전체 재적재로 반영된다.
+ */
+@Slf4j
+@Component
+public class MemberInterestIndex {
+
+    private static final long[] EMPTY = new long[0];
+    private static final double ACTIVE_WEIGHT = 4.0;
+    private static final double INACTIVE_WEIGHT = 1.0;
+    private static final int MAX_ATTEMPTS_PER_MEMBER = 20;
+
+    private final MemberInterestQueryRepository interestQueryRepository;
+    private final boolean activityWeighted;
+    private final long activeWindowMillis;
+
+    private volatile Map<Long, long[]> memberIdsByGenre;
+    private final Map<Long, Long> lastActiveTimes = new ConcurrentHashMap<>();
+
+    public MemberInterestIndex(MemberInterestQueryRepository interestQueryRepository,
+                               @Value("${app.member.interest-index.activity-weighted:false}") boolean activityWeighted,
+                               @Value("${app.member.interest-index.active-window-days:7}") long activeWindowDays) {
+        this.interestQueryRepository = interestQueryRepository;
+        this.activityWeighted = activityWeighted;
+        this.activeWindowMillis = activeWindowDays * 24 * 60 * 60 * 1000;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.member.interest-index.reload-interval-ms:3600000}",
+            fixedDelayString = "${app.member.interest-index.reload-interval-ms:3600000}")
+    public void reload() {
+        Map<Long, long[]> loaded = new HashMap<>();
+        interestQueryRepository.searchAllMemberIdsGroupByGenre()
+                .forEach((genreId, memberIds) -> loaded.put(genreId, toSortedArray(memberIds)));
+        synchronized (this) {
+            memberIdsByGenre = loaded;
+        }
+        log.info("member interest index loaded: {} genres", loaded.size());
+    }
+
+    public boolean isLoaded() {
+        return memberIdsByGenre != null;
+    }
+
+    // 회원의 관심 장르를 통째로 교체한다. 커밋된 뒤에 반영한다.
+    public void updateInterests(Long memberId, Collection<Long> genreIds) {
+        Set<Long> newGenreIds = new HashSet<>(genreIds);
+        afterCommit(() -> replaceInterests(memberId, newGenreIds));
+    }
+
+    // 정렬된 공유 배열을 그대로 돌려주므로 호출하는 쪽에서 고치면 안 된다.
+    public long[] getMemberIds(Long genreId) {
+        Map<Long, long[]> snapshot = memberIdsByGenre;
+        return snapshot == null ? EMPTY : snapshot.getOrDefault(genreId, EMPTY);
+    }
+
+    public void recordActivity(Long memberId) {
+        if (activityWeighted) {
+            lastActiveTimes.put(memberId, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 장르에 관심 있는 회원 중 excludeMemberId 를 뺀 count 명을 중복 없이 뽑는다.
+     * 기본은 Floyd 샘플링(O(k))이고, 활동 가중치를 쓰면 최근 활동 회원을 더 자주 뽑는 거절 샘플링을 한다.
+     */
+    public List<Long> sample(Long genreId, Long excludeMemberId, int count) {
+        long[] memberIds = memberIdsByGenre.getOrDefault(genreId, EMPTY);
+        int excludedIndex = excludeMemberId == null ? -1 : Arrays.binarySearch(memberIds, excludeMemberId);
+        int size = excludedIndex >= 0 ? memberIds.length - 1 : memberIds.length;
+
+        if (size <= count) {
+            List<Long> all = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                all.add(memberIds[skipExcluded(i, excludedIndex)]);
+            }
+            return all;
+        }
+
+        Set<Long> selected = new LinkedHashSet<>();
+        if (activityWeighted) {
+            sampleByActivity(memberIds, excludedIndex, size, count, selected);
+        }
+        if (selected.size() < count) {
+            sampleUniformly(memberIds, excludedIndex, size, count, selected);
+        }
+        return new ArrayList<>(selected);
+    }
+
+    /**
+     * private methods
+     */
+
+    private synchronized void replaceInterests(Long memberId, Set<Long> genreIds) {
+        if (memberIdsByGenre == null) {
+            return;
+        }
+        Map<Long, long[]> updated = new HashMap<>(memberIdsByGenre);
+        updated.replaceAll((genreId, memberIds) -> genreIds.contains(genreId) ? memberIds : removeMember(memberIds, memberId));
+        for (Long genreId : genreIds) {
+            updated.put(genreId, addMember(updated.getOrDefault(genreId, EMPTY), memberId));
+        }
+        memberIdsByGenre = updated;
+    }
+
+    // Floyd 알고리즘: j 를 size-count..size-1 로 늘려 가며 [0, j] 에서 하나씩 뽑는다.
+    private void sampleUniformly(long[] memberIds, int excludedIndex, int size, int count, Set<Long> selected) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Set<Integer> indexes = new HashSet<>();
+        for (int j = size - count; j < size && selected.size() < count; j++) {
+            int index = random.nextInt(j + 1);
+            if (!indexes.add(index)) {
+                index = j;
+                indexes.add(index);
+            }
+            selected.add(memberIds[skipExcluded(index, excludedIndex)]);
+        }
+        // 가중 샘플로 일부가 채워져 있었다면 겹친 만큼 비어 있을 수 있다.
+        for (int i = 0; i < size && selected.size() < count; i++) {
+            selected.add(memberIds[skipExcluded(i, excludedIndex)]);
+        }
+    }
+
+    private void sampleByActivity(long[] memberIds, int excludedIndex, int size, int count, Set<Long> selected) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now = System.currentTimeMillis();
+        int maxAttempts = count * MAX_ATTEMPTS_PER_MEMBER;
+        for (int attempt = 0; attempt < maxAttempts && selected.size() < count; attempt++) {
+            long memberId = memberIds[skipExcluded(random.nextInt(size), excludedIndex)];
+            if (random.nextDouble() * ACTIVE_WEIGHT < getWeight(memberId, now)) {
+                selected.add(memberId);
+            }
+        }
+    }
+
+    private double getWeight(long memberId, long now) {
+        Long lastActiveTime = lastActiveTimes.get(memberId);
+        return lastActiveTime != null && now - lastActiveTime <= activeWindowMillis ? ACTIVE_WEIGHT : INACTIVE_WEIGHT;
+    }
+
+    private int skipExcluded(int index, int excludedIndex) {
+        return excludedIndex >= 0 && index >= excludedIndex ? index + 1 : index;
+    }
+
+    private long[] toSortedArray(List<Long> memberIds) {
+        long[] array = memberIds.stream().mapToLong(Long::longValue).distinct().toArray();
+        Arrays.sort(array);
+        return array;
+    }
+
+    private long[] addMember(long[] memberIds, long memberId) {
+        int index = Arrays.binarySearch(memberIds, memberId);
+        if (index >= 0) {
+            return memberIds;
+        }
+        int insertAt = -index - 1;
+        long[] added = new long[memberIds.length + 1];
+        System.arraycopy(memberIds, 0, added, 0, insertAt);
+        added[insertAt] = memberId;
+        System.arraycopy(memberIds, insertAt, added, insertAt + 1, memberIds.length - insertAt);
+        return added;
+    }
+
+    private long[] removeMember(long[] memberIds, long memberId) {
+        int index = Arrays.binarySearch(memberIds, memberId);
+        if (index < 0) {
+            return memberIds;
+        }
+        long[] removed = new long[memberIds.length - 1];
+        System.arraycopy(memberIds, 0, removed, 0, index);
+        System.arraycopy(memberIds, index + 1, removed, index, memberIds.length - index - 1);
+        return removed;
+    }
+}
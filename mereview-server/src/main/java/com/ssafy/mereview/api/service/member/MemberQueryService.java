@@ -3,17 +3,16 @@ package com.ssafy.mereview.api.service.member;
 import com.ssafy.mereview.api.controller.member.dto.request.MemberLoginRequest;
 import com.ssafy.mereview.api.service.member.dto.request.MemberVerifyRequest;
 import com.ssafy.mereview.api.service.member.dto.response.*;
-import com.ssafy.mereview.api.service.movie.dto.response.GenreResponse;
+import com.ssafy.mereview.api.service.review.NotificationCounter;
 import com.ssafy.mereview.api.service.review.dto.response.*;
 import com.ssafy.mereview.common.util.jwt.JwtUtils;
 import com.ssafy.mereview.domain.member.entity.*;
 import com.ssafy.mereview.domain.member.repository.MemberAchievementQueryRepository;
 import com.ssafy.mereview.domain.member.repository.MemberFollowQueryRepository;
 import com.ssafy.mereview.domain.member.repository.MemberQueryRepository;
-import com.ssafy.mereview.domain.movie.entity.Movie;
 import com.ssafy.mereview.domain.review.entity.*;
-import com.ssafy.mereview.domain.review.repository.query.NotificationQueryRepository;
-import com.ssafy.mereview.domain.review.repository.query.ReviewEvaluationQueryRepository;
+import com.ssafy.mereview.domain.review.repository.dto.NotificationCounts;
+import com.ssafy.mereview.domain.review.repository.query.ReviewQueryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -28,7 +27,6 @@ import static com.ssafy.mereview.common.util.SizeConstants.COMMENT_ACHIEVEMENT_M
 import static com.ssafy.mereview.common.util.SizeConstants.REVIEW_ACHIEVEMENT_MAX_COUNT_MAP;
 import static com.ssafy.mereview.domain.member.entity.AchievementType.COMMENT;
 import static com.ssafy.mereview.domain.member.entity.AchievementType.REVIEW;
-import static com.ssafy.mereview.domain.review.entity.ReviewEvaluationType.*;
 
 @Service
 @Slf4j
@@ -37,11 +35,12 @@ import static com.ssafy.mereview.domain.review.entity.ReviewEvaluationType.*;
 public class MemberQueryService {
     private final MemberQueryRepository memberQueryRepository;
     private final MemberAchievementQueryRepository memberAchievementQueryRepository;
-    private final NotificationQueryRepository notificationQueryRepository;
+    private final NotificationCounter notificationCounter;
     private final PasswordEncoder passwordEncoder;
-    private final ReviewEvaluationQueryRepository reviewEvaluationQueryRepository;
+    private final ReviewQueryRepository reviewQueryRepository;
     private final MemberFollowQueryRepository memberFollowQueryRepository;
     private final JwtUtils jwtUtils;
+    private final MemberInterestIndex memberInterestIndex;
 
 
     public MemberLoginResponse login(MemberLoginRequest request) {
@@ -57,6 +56,7 @@ public class MemberQueryService {
             throw new IllegalArgumentException("잘못된 비밀번호입니다.");
         }
 
+        memberInterestIndex.recordActivity(searchMember.getId());
         return createMemberLoginResponse(searchMember);
     }
 
@@ -112,7 +112,7 @@ public class MemberQueryService {
 
         List<MemberAchievementResponse> memberAchievementResponses = searchMemberAchievementResponse(memberId);
 
-        List<ReviewResponse> reviewResponses = createReviewResponses(member.getReviews());
+        List<ReviewResponse> reviewResponses = createReviewResponses(memberId);
         Long commentCount = memberQueryRepository.searchCommnetCountByMemberId(memberId);
 
 
@@ -121,10 +121,9 @@ public class MemberQueryService {
     }
 
     public MemberDataResponse searchMemberData(Long id) {
-        List<NotificationResponse> notificationResponses = notificationQueryRepository.searchByMemberId(id);
-        int count = notificationQueryRepository.countByMemberId(id);
         Member member = memberQueryRepository.searchById(id).orElseThrow(() -> new NoSuchElementException("존재하지 않는 회원입니다."));
-        return MemberDataResponse.of(member, notificationResponses, count);
+        NotificationCounts notificationCounts = notificationCounter.getCounts(id);
+        return MemberDataResponse.of(member, notificationCounts);
     }
 
     public List<FollowingResponse> searchFollowingResponse(Long memberId) {
@@ -255,56 +254,10 @@ public class MemberQueryService {
                 .collect(Collectors.toList());
     }
 
-    private List<ReviewResponse> createReviewResponses(List<Review> reviews) {
-        return reviews.stream()
-                .map(review -> {
-                            Movie movie = review.getMovie();
-                            Member writeMember = review.getMember();
-                            return ReviewResponse.builder()
-                                    .reviewId(review.getId())
-                                    .reviewTitle(review.getTitle())
-                                    .hits(review.getHits())
-                                    .highlight(review.getHighlight())
-                                    .movieRecommendType(review.getType())
-                                    .commentCount(review.getComments().size())
-                                    .positiveCount(getPositiveCount(review.getId()))
-                                    .funCount(getTypeCountByReviewAndType(FUN, review.getId()))
-                                    .usefulCount(getTypeCountByReviewAndType(USEFUL, review.getId()))
-                                    .badCount(getTypeCountByReviewAndType(BAD, review.getId()))
-                                    .backgroundImageResponse(createBackgroundImageResponse(review.getBackgroundImage()))
-                                    .createdTime(review.getCreatedTime())
-                                    .memberId(writeMember.getId())
-                                    .nickname(writeMember.getNickname())
-                                    .profileImage(getProfileImageResponse(writeMember.getProfileImage()))
-                                    .movieId(movie.getId())
-                                    .movieTitle(movie.getTitle())
-                                    .movieReleaseDate(movie.getReleaseDate())
-                                    .genreResponse(GenreResponse.of(review.getGenre()))
-                                    .build();
-                        }
-                ).collect(Collectors.toList());
-    }
-
-    private int getPositiveCount(Long reviewId) {
-        return getTypeCountByReviewAndType(FUN, reviewId) + getTypeCountByReviewAndType(USEFUL, reviewId);
-    }
-
-    private int getTypeCountByReviewAndType(ReviewEvaluationType type, Long reviewId) {
-        return reviewEvaluationQueryRepository.getCountByReviewIdAndType(reviewId, type);
-    }
-
-    private BackgroundImageResponse createBackgroundImageResponse(BackgroundImage backgroundImage) {
-        if (backgroundImage == null) {
-            return null;
-        }
-        return BackgroundImageResponse.of(backgroundImage);
-    }
-
-    private ProfileImageResponse getProfileImageResponse(ProfileImage profileImage) {
-        if (profileImage == null) {
-            return null;
-        }
-        return ProfileImageResponse.of(profileImage);
+    private List<ReviewResponse> createReviewResponses(Long memberId) {
+        return reviewQueryRepository.searchByMemberId(memberId).stream()
+                .map(ReviewResponse::of)
+                .collect(Collectors.toList());
     }
 
     private void createExperiencePercent(MemberTierResponse memberTierResponse) {
@@ -3,12 +3,14 @@ package com.ssafy.mereview.api.service.member;
 import com.ssafy.mereview.api.controller.member.dto.request.MemberIntroduceRequest;
 import com.ssafy.mereview.api.service.member.dto.request.*;
 import com.ssafy.mereview.api.service.member.dto.response.MemberFollowResponse;
+import com.ssafy.mereview.api.service.movie.GenreDictionary;
 import com.ssafy.mereview.common.util.file.UploadFile;
 import com.ssafy.mereview.common.util.jwt.JwtUtils;
 import com.ssafy.mereview.domain.member.entity.*;
 import com.ssafy.mereview.domain.member.repository.*;
 import com.ssafy.mereview.domain.movie.entity.Genre;
-import com.ssafy.mereview.domain.movie.repository.command.GenreRepository;
+import com.ssafy.mereview.domain.review.entity.MemberContentCleanup;
+import com.ssafy.mereview.domain.review.repository.command.MemberContentCleanupRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DuplicateKeyException;
@@ -17,6 +19,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
@@ -47,7 +50,7 @@ public class MemberService {
 
     private final MemberTierRepository memberTierRepository;
 
-    private final GenreRepository genreRepository;
+    private final GenreDictionary genreDictionary;
 
     private final MemberFollowRepository memberFollowRepository;
 
@@ -55,6 +58,10 @@ public class MemberService {
 
     private final MemberAchievementQueryRepository memberAchievementQueryRepository;
 
+    private final MemberInterestIndex memberInterestIndex;
+
+    private final MemberContentCleanupRepository memberContentCleanupRepository;
+
     public Long createMember(MemberCreateServiceRequest request, UploadFile uploadFile) {
         EmailCheckCode emailCheckCode = EMAIL_CHECK_CODE_HASH_MAP.getOrDefault(request.getEmail(), null);
 
@@ -76,6 +83,7 @@ public class MemberService {
 
         // 회원 관심사 초기화
         createInterests(request.getInterests(), member);
+        memberInterestIndex.updateInterests(savedMember.getId(), getGenreIds(request.getInterests()));
 
         // 회원 티어 초기화
         createTier(member);
@@ -155,6 +163,7 @@ public class MemberService {
             member.getInterests().clear();
             createInterests(request.getInterests(), member);
         }
+        memberInterestIndex.updateInterests(member.getId(), getGenreIds(interestServiceRequests));
         log.debug("Member interest 확인 : {}", member.getInterests());
         return member.getId();
     }
@@ -176,6 +185,9 @@ public class MemberService {
         // 현재 로그인한 유저가 맞는지 확인
         if (member.getEmail().equals(memberInToken)) {
             member.delete();
+            memberInterestIndex.updateInterests(id, Collections.emptyList());
+            // 남긴 리뷰와 활동 기록은 같은 트랜잭션에 남긴 정리 기록을 보고 MemberContentCleanupWorker 가 지운다.
+            memberContentCleanupRepository.save(MemberContentCleanup.builder().memberId(id).build());
         } else {
             throw new IllegalArgumentException("현재 로그인한 유저가 아닙니다.");
         }
@@ -245,12 +257,21 @@ public class MemberService {
         memberVisitCountRepository.save(memberVisitCount);
     }
 
+    private List<Long> getGenreIds(List<InterestServiceRequest> requests) {
+        if (requests == null) {
+            return new ArrayList<>();
+        }
+        return requests.stream()
+                .map(InterestServiceRequest::getGenreId)
+                .collect(Collectors.toList());
+    }
+
     private void createInterests(List<InterestServiceRequest> requests, Member member) {
         List<Interest> interests = new ArrayList<>();
         log.debug("requests = " + requests);
 
         for (InterestServiceRequest request : requests) {
-            Genre genre = genreRepository.findById(request.getGenreId()).orElseThrow(NoSuchElementException::new);
+            Genre genre = genreDictionary.getReference(request.getGenreId());
             Interest interest = Interest.builder().member(Member.builder().id(member.getId()).build())
                     .genre(genre).build();
 
@@ -267,7 +288,7 @@ public class MemberService {
         interests.clear();
         log.debug("member interests : {}", requests);
         for (InterestServiceRequest request : requests) {
-            Genre genre = genreRepository.findById(request.getGenreId()).orElseThrow(NoSuchElementException::new);
+            Genre genre = genreDictionary.getReference(request.getGenreId());
             Interest interest = Interest.builder().member(Member.builder().id(updateMember.getId()).build())
                     .genre(genre).build();
             interests.add(interest);
@@ -284,7 +305,7 @@ public class MemberService {
     }
 
     private void createTier(Member member) {
-        List<Genre> genres = memberQueryRepository.searchAllGenre();
+        List<Genre> genres = genreDictionary.getAllReferences();
         log.debug("genres = " + genres.size());
         List<MemberTier> memberTiers = new ArrayList<>();
         genres.forEach(genre -> memberTiers.add(MemberTier.builder()
@@ -297,8 +318,7 @@ public class MemberService {
     }
 
     private void createAchievement(Member member) {
-        // TODO: 2023-08-03 장르 레포지토리로 바꾸기
-        List<Genre> genres = genreRepository.findAll();
+        List<Genre> genres = genreDictionary.getAllReferences();
 
         List<MemberAchievement> commentMemberAchievements = genres.stream().map(genre -> MemberAchievement.builder()
                 .member(member)
@@ -1,6 +1,7 @@
 package com.ssafy.mereview.api.service.member;
 
 import com.ssafy.mereview.domain.member.entity.Member;
+import com.ssafy.mereview.domain.member.entity.Role;
 import com.ssafy.mereview.domain.member.repository.MemberQueryRepository;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -8,8 +9,6 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-
 @Service
 public class UserDetailsServiceImpl implements UserDetailsService {
     private final MemberQueryRepository memberRepository;
@@ -25,9 +24,11 @@ public class UserDetailsServiceImpl implements UserDetailsService {
             return null;
         }
 
+        // role 은 DB 기본값(USER)으로 채워지므로 가입 직후 같은 영속성 컨텍스트에서는 비어 있을 수 있다.
+        Role role = member.getRole() == null ? Role.USER : member.getRole();
         return User.withUsername(member.getEmail())
                 .password(member.getPassword())
-                .authorities(new ArrayList<>()) // 여기에 필요한 경우 권한을 부여할 수 있습니다.
+                .roles(role.name())
                 .build();
     }
 
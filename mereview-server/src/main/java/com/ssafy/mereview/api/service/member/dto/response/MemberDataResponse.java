@@ -1,14 +1,12 @@
 package com.ssafy.mereview.api.service.member.dto.response;
 
-import com.ssafy.mereview.api.service.review.dto.response.NotificationResponse;
 import com.ssafy.mereview.domain.member.entity.Member;
 import com.ssafy.mereview.domain.member.entity.ProfileImage;
+import com.ssafy.mereview.domain.review.repository.dto.NotificationCounts;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.util.List;
-
 @Getter
 @NoArgsConstructor
 public class MemberDataResponse {
@@ -17,27 +15,27 @@ public class MemberDataResponse {
     private String nickname;
     private ProfileImageResponse profileImage;
     private String role;
-    private List<NotificationResponse> notifications;
     private int notificationCount;
+    private int unreadNotificationCount;
 
 
     @Builder
-    public MemberDataResponse(Long id, String nickname, ProfileImageResponse profileImage, String role, List<NotificationResponse> notifications, int notificationCount) {
+    public MemberDataResponse(Long id, String nickname, ProfileImageResponse profileImage, String role, int notificationCount, int unreadNotificationCount) {
         this.id = id;
         this.nickname = nickname;
         this.profileImage = profileImage;
         this.role = role;
-        this.notifications = notifications;
         this.notificationCount = notificationCount;
+        this.unreadNotificationCount = unreadNotificationCount;
     }
 
-    public static MemberDataResponse of(Member member, List<NotificationResponse> notificationResponses, int count) {
+    public static MemberDataResponse of(Member member, NotificationCounts notificationCounts) {
         ProfileImage profileImage = member.getProfileImage();
         return MemberDataResponse.builder()
                 .id(member.getId())
                 .nickname(member.getNickname())
-                .notificationCount(count)
-                .notifications(notificationResponses)
+                .notificationCount(notificationCounts.getTotalCount())
+                .unreadNotificationCount(notificationCounts.getUnreadCount())
                 .profileImage(ProfileImageResponse.of(profileImage))
                 .role(member.getRole().toString())
                 .build();
@@ -0,0 +1,117 @@
+package com.ssafy.mereview.api.service.movie;
+
+import com.ssafy.mereview.api.service.movie.dto.response.GenreResponse;
+import com.ssafy.mereview.domain.movie.entity.Genre;
+import com.ssafy.mereview.domain.movie.repository.command.GenreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 장르는 TMDB 기준 20개 남짓이고 거의 바뀌지 않으므로 시작할 때 한 번 읽어 두고 id, genreNumber, 이름으로 찾는다.
+ * 장르를 새로 받아 오면 reload 로 통째로 교체한다. 사전에 없는 값을 찾으면 다시 읽어 보되,
+ * 없는 id 로 반복해서 찾아도 전체 조회가 몰리지 않도록 마지막으로 읽은 뒤 miss-reload-interval 이 지났을 때만 읽는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class GenreDictionary {
+
+    private final GenreRepository genreRepository;
+
+    @Value("${app.movie.genre-dictionary.miss-reload-interval-ms:60000}")
+    private long missReloadIntervalMillis;
+
+    private volatile Genres genres = Genres.EMPTY;
+    private volatile long loadedTimeMillis;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        List<GenreResponse> loaded = genreRepository.findAll().stream()
+                .map(GenreResponse::of)
+                .sorted(Comparator.comparing(GenreResponse::getGenreId))
+                .collect(Collectors.toList());
+        genres = new Genres(loaded);
+        loadedTimeMillis = System.currentTimeMillis();
+        log.info("genre dictionary loaded: {} genres", loaded.size());
+    }
+
+    public List<GenreResponse> getAll() {
+        if (genres.all.isEmpty()) {
+            reloadIfStale();
+        }
+        return genres.all;
+    }
+
+    public GenreResponse getById(Long genreId) {
+        return find(current -> current.byId.get(genreId))
+                .orElseThrow(() -> new NoSuchElementException("존재하지 않는 장르입니다."));
+    }
+
+    public Optional<GenreResponse> findByGenreNumber(int genreNumber) {
+        return find(current -> current.byGenreNumber.get(genreNumber));
+    }
+
+    public Optional<GenreResponse> findByName(String genreName) {
+        return find(current -> current.byName.get(genreName));
+    }
+
+    // 연관관계에 넣을 참조만 만들고 조회는 하지 않는다. 없는 장르면 예외를 던진다.
+    public Genre getReference(Long genreId) {
+        return genreRepository.getReferenceById(getById(genreId).getGenreId());
+    }
+
+    public Optional<Genre> findReferenceByGenreNumber(int genreNumber) {
+        return findByGenreNumber(genreNumber).map(genre -> genreRepository.getReferenceById(genre.getGenreId()));
+    }
+
+    public List<Genre> getAllReferences() {
+        return getAll().stream()
+                .map(genre -> genreRepository.getReferenceById(genre.getGenreId()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * private methods
+     */
+
+    private Optional<GenreResponse> find(Function<Genres, GenreResponse> lookup) {
+        GenreResponse genre = lookup.apply(genres);
+        if (genre == null) {
+            reloadIfStale();
+            genre = lookup.apply(genres);
+        }
+        return Optional.ofNullable(genre);
+    }
+
+    // 동시에 놓친 요청들은 잠금을 기다린 뒤 방금 읽은 사전을 그대로 쓴다.
+    private synchronized void reloadIfStale() {
+        if (System.currentTimeMillis() - loadedTimeMillis >= missReloadIntervalMillis) {
+            reload();
+        }
+    }
+
+    private static class Genres {
+
+        private static final Genres EMPTY = new Genres(Collections.emptyList());
+
+        private final List<GenreResponse> all;
+        private final Map<Long, GenreResponse> byId;
+        private final Map<Integer, GenreResponse> byGenreNumber;
+        private final Map<String, GenreResponse> byName;
+
+        private Genres(List<GenreResponse> genres) {
+            this.all = Collections.unmodifiableList(genres);
+            this.byId = genres.stream().collect(Collectors.toUnmodifiableMap(GenreResponse::getGenreId, genre -> genre));
+            this.byGenreNumber = genres.stream().collect(Collectors.toUnmodifiableMap(GenreResponse::getGenreNumber, genre -> genre));
+            this.byName = genres.stream().collect(Collectors.toUnmodifiableMap(GenreResponse::getGenreName, genre -> genre));
+        }
+    }
+}
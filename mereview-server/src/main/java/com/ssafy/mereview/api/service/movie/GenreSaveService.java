@@ -13,11 +13,14 @@ import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
 import java.net.URL;
 
+import static com.ssafy.mereview.common.util.TransactionUtils.afterCommit;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class GenreSaveService {
     private final GenreRepository genreRepository;
+    private final GenreDictionary genreDictionary;
 
     private static final String API_KEY = "787f1e65a4a8fc1475399f09db832612";
     private static final String GENRE_API_URL = "https://api.themoviedb.org/3/genre/movie/list";
@@ -63,6 +66,8 @@ public class GenreSaveService {
 
         }
 
+        afterCommit(genreDictionary::reload);
+
         System.out.println("장르 저장이 성공했습니다aaaaaaaaaaa");
         
     }
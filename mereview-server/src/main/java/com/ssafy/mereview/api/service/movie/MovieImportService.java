@@ -0,0 +1,440 @@
+package com.ssafy.mereview.api.service.movie;
+
+import com.ssafy.mereview.api.service.movie.dto.response.MovieImportStatusResponse;
+import com.ssafy.mereview.api.service.movie.dto.response.TmdbMovieResponse;
+import com.ssafy.mereview.api.service.movie.dto.response.TmdbPageResponse;
+import com.ssafy.mereview.domain.movie.entity.Movie;
+import com.ssafy.mereview.domain.movie.entity.MovieImportCheckpoint;
+import com.ssafy.mereview.domain.movie.repository.command.MovieBatchRepository;
+import com.ssafy.mereview.domain.movie.repository.command.MovieImportCheckpointRepository;
+import com.ssafy.mereview.domain.movie.repository.query.MovieGenreQueryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * TMDB discover API 로 개봉일 하루씩 영화를 가져온다.
+ * 하루치 페이지는 fetch-concurrency 개 스레드가 나눠 받고(요청 간격은 TmdbClient 가 지킨다), 받은 영화는 batch-size 개씩 upsert 한다.
+ * 하루를 다 반영하면 체크포인트에 날짜를 남기므로 중간에 죽어도 다음 실행은 마지막으로 끝낸 다음 날부터 이어 간다.
+ * 새 개봉일을 다 가져온 뒤에는 TMDB changes API 로 이미 가진 영화 중 정보가 바뀐 것만 다시 받아 반영하고, 이 위치도 따로 체크포인트에 남긴다.
+ * 내용이 그대로인 영화는 upsert 에서 빠진다.
+ */
+@Slf4j
+@Service
+public class MovieImportService {
+
+    public static final String DISCOVER_IMPORT = "tmdb-discover";
+    public static final String CHANGES_IMPORT = "tmdb-changes";
+    // TMDB discover 는 500 페이지까지만 돌려준다.
+    private static final int MAX_PAGES = 500;
+    // TMDB changes 는 한 번에 14일까지만 조회할 수 있다.
+    private static final int MAX_CHANGES_DAYS = 14;
+
+    private final TmdbClient tmdbClient;
+    private final MovieBatchRepository movieBatchRepository;
+    private final MovieGenreQueryRepository movieGenreQueryRepository;
+    private final MovieImportCheckpointRepository checkpointRepository;
+    private final GenreDictionary genreDictionary;
+    private final MovieTitleIndex movieTitleIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final LocalDate startDate;
+    private final int batchSize;
+
+    private final ExecutorService fetchExecutor;
+    private final ExecutorService importRunner = Executors.newSingleThreadExecutor();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile ImportMetrics metrics = new ImportMetrics();
+
+    public MovieImportService(TmdbClient tmdbClient,
+                              MovieBatchRepository movieBatchRepository,
+                              MovieGenreQueryRepository movieGenreQueryRepository,
+                              MovieImportCheckpointRepository checkpointRepository,
+                              GenreDictionary genreDictionary,
+                              MovieTitleIndex movieTitleIndex,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${app.movie.import.start-date:2021-02-07}") String startDate,
+                              @Value("${app.movie.import.fetch-concurrency:4}") int fetchConcurrency,
+                              @Value("${app.movie.import.batch-size:500}") int batchSize) {
+        this.tmdbClient = tmdbClient;
+        this.movieBatchRepository = movieBatchRepository;
+        this.movieGenreQueryRepository = movieGenreQueryRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.genreDictionary = genreDictionary;
+        this.movieTitleIndex = movieTitleIndex;
+        this.transactionTemplate = transactionTemplate;
+        this.startDate = LocalDate.parse(startDate);
+        this.batchSize = batchSize;
+        this.fetchExecutor = Executors.newFixedThreadPool(fetchConcurrency);
+    }
+
+    // 백그라운드에서 가져오기를 시작한다. 이미 돌고 있으면 지금 상태만 돌려준다.
+    public MovieImportStatusResponse startImport() {
+        if (running.compareAndSet(false, true)) {
+            metrics = new ImportMetrics();
+            importRunner.submit(this::runImport);
+        }
+        return getStatus();
+    }
+
+    // 매일 밤 어제까지 개봉한 영화와 바뀐 영화를 반영한다. 수동 가져오기가 돌고 있으면 건너뛴다.
+    // 몇 시간 걸릴 수 있으므로 스케줄러 스레드를 붙잡지 않고 importRunner 에 넘긴다.
+    @Scheduled(cron = "${app.movie.import.sync-cron:0 0 3 * * *}")
+    public void syncMovies() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("movie sync skipped, import is already running");
+            return;
+        }
+        metrics = new ImportMetrics();
+        importRunner.submit(this::runImport);
+    }
+
+    public MovieImportStatusResponse getStatus() {
+        ImportMetrics current = metrics;
+        return MovieImportStatusResponse.builder()
+                .running(running.get())
+                .lastCompletedDate(findLastCompletedDate(DISCOVER_IMPORT).orElse(null))
+                .lastSyncedDate(findLastCompletedDate(CHANGES_IMPORT).orElse(null))
+                .startedTime(current.startedTime)
+                .finishedTime(current.finishedTime)
+                .lastError(current.lastError)
+                .fetchedPages(current.fetchedPages.sum())
+                .retriedRequests(current.retriedRequests)
+                .failedPages(current.failedPages.sum())
+                .fetchedMovies(current.fetchedMovies.sum())
+                .fetchMillis(current.fetchMillis.sum())
+                .changedMovies(current.changedMovies.sum())
+                .unchangedMovies(current.unchangedMovies.sum())
+                .upsertedBatches(current.upsertedBatches.sum())
+                .upsertedMovies(current.upsertedMovies.sum())
+                .upsertedMovieGenres(current.upsertedMovieGenres.sum())
+                .upsertMillis(current.upsertMillis.sum())
+                .completedDays(current.completedDays.sum())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        importRunner.shutdownNow();
+        fetchExecutor.shutdownNow();
+    }
+
+    /**
+     * private methods
+     */
+
+    private void runImport() {
+        ImportMetrics current = metrics;
+        current.startedTime = LocalDateTime.now();
+        long retryCountBefore = tmdbClient.getRetryCount();
+        try {
+            LocalDate lastDate = LocalDate.now().minusDays(1);
+            for (LocalDate date = getNextDate(); !date.isAfter(lastDate); date = date.plusDays(1)) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedIOException("영화 가져오기가 중단되었습니다.");
+                }
+                importDate(date, current);
+                saveCheckpoint(DISCOVER_IMPORT, date);
+                current.completedDays.increment();
+            }
+            syncChanges(lastDate, current);
+        } catch (IOException | RuntimeException e) {
+            current.lastError = e.getMessage();
+            log.error("movie import stopped, resume from checkpoint on next run", e);
+        } finally {
+            current.retriedRequests = tmdbClient.getRetryCount() - retryCountBefore;
+            current.finishedTime = LocalDateTime.now();
+            running.set(false);
+            log.info("movie import finished: {}", getStatus());
+        }
+    }
+
+    private LocalDate getNextDate() {
+        return findLastCompletedDate(DISCOVER_IMPORT)
+                .map(date -> date.plusDays(1))
+                .orElse(startDate);
+    }
+
+    private Optional<LocalDate> findLastCompletedDate(String importName) {
+        return checkpointRepository.findById(importName)
+                .map(MovieImportCheckpoint::getLastCompletedDate);
+    }
+
+    // 처음 돌 때는 방금 discover 로 받은 정보가 최신이므로 마지막 하루치 변경만 본다.
+    private void syncChanges(LocalDate lastDate, ImportMetrics current) throws IOException {
+        LocalDate from = findLastCompletedDate(CHANGES_IMPORT)
+                .map(date -> date.plusDays(1))
+                .orElse(lastDate);
+        while (!from.isAfter(lastDate)) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException("영화 가져오기가 중단되었습니다.");
+            }
+            LocalDate to = from.plusDays(MAX_CHANGES_DAYS - 1);
+            if (to.isAfter(lastDate)) {
+                to = lastDate;
+            }
+            syncChanges(from, to, current);
+            saveCheckpoint(CHANGES_IMPORT, to);
+            from = to.plusDays(1);
+        }
+    }
+
+    // 기간 안에 바뀐 영화 id 를 모두 받고, 그중 이미 가진 영화만 batch-size 개씩 상세를 다시 받아 반영한다.
+    private void syncChanges(LocalDate from, LocalDate to, ImportMetrics current) throws IOException {
+        PageFetcher fetcher = page -> tmdbClient.changedMovies(from, to, page);
+        TmdbPageResponse firstPage = fetchPage(fetcher, 1, current);
+        Set<Integer> changedContentIds = new LinkedHashSet<>();
+        firstPage.getMovies().forEach(movie -> changedContentIds.add(movie.getMovieContentId()));
+        for (TmdbPageResponse page : awaitAll(fetchRemainingPages(fetcher, firstPage.getTotalPages(), current))) {
+            page.getMovies().forEach(movie -> changedContentIds.add(movie.getMovieContentId()));
+        }
+
+        List<Integer> contentIds = new ArrayList<>(changedContentIds);
+        for (int start = 0; start < contentIds.size(); start += batchSize) {
+            List<Integer> chunk = contentIds.subList(start, Math.min(start + batchSize, contentIds.size()));
+            Set<Integer> savedContentIds = movieBatchRepository.findIdsByContentIds(chunk).keySet();
+            if (savedContentIds.isEmpty()) {
+                continue;
+            }
+            current.changedMovies.add(savedContentIds.size());
+
+            List<Future<Optional<TmdbMovieResponse>>> details = new ArrayList<>();
+            savedContentIds.forEach(contentId -> details.add(fetchExecutor.submit(() -> fetchMovie(contentId, current))));
+            List<TmdbMovieResponse> movies = new ArrayList<>();
+            awaitAll(details).forEach(movie -> movie.ifPresent(movies::add));
+            if (!movies.isEmpty()) {
+                upsert(movies, current);
+            }
+        }
+        log.info("movie changes synced: {} ~ {}, {} changed ids", from, to, changedContentIds.size());
+    }
+
+    // 첫 페이지로 전체 페이지 수를 알아낸 뒤 나머지 페이지를 병렬로 받고, 받은 순서대로 batch-size 개씩 반영한다.
+    private void importDate(LocalDate date, ImportMetrics current) throws IOException {
+        PageFetcher fetcher = page -> tmdbClient.discoverByReleaseDate(date, page);
+        TmdbPageResponse firstPage = fetchPage(fetcher, 1, current);
+        if (firstPage.getTotalPages() > MAX_PAGES) {
+            log.warn("movie import: {} has {} pages, only first {} pages are available", date, firstPage.getTotalPages(), MAX_PAGES);
+        }
+        List<Future<TmdbPageResponse>> pages = fetchRemainingPages(fetcher, firstPage.getTotalPages(), current);
+
+        List<TmdbMovieResponse> buffer = new ArrayList<>(firstPage.getMovies());
+        try {
+            for (Future<TmdbPageResponse> page : pages) {
+                upsertFullBatches(buffer, current);
+                buffer.addAll(page.get().getMovies());
+            }
+            upsertFullBatches(buffer, current);
+            if (!buffer.isEmpty()) {
+                upsert(buffer, current);
+            }
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("영화 가져오기가 중단되었습니다.");
+        } finally {
+            pages.forEach(page -> page.cancel(true));
+        }
+    }
+
+    private List<Future<TmdbPageResponse>> fetchRemainingPages(PageFetcher fetcher, int totalPages, ImportMetrics current) {
+        List<Future<TmdbPageResponse>> pages = new ArrayList<>();
+        for (int page = 2; page <= Math.min(totalPages, MAX_PAGES); page++) {
+            int pageNumber = page;
+            pages.add(fetchExecutor.submit(() -> fetchPage(fetcher, pageNumber, current)));
+        }
+        return pages;
+    }
+
+    // 하나라도 실패하면 남은 요청은 취소한다.
+    private <T> List<T> awaitAll(List<Future<T>> futures) throws IOException {
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("영화 가져오기가 중단되었습니다.");
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private TmdbPageResponse fetchPage(PageFetcher fetcher, int page, ImportMetrics current) throws IOException {
+        long startTime = System.currentTimeMillis();
+        try {
+            TmdbPageResponse response = fetcher.fetch(page);
+            current.fetchedPages.increment();
+            current.fetchedMovies.add(response.getMovies().size());
+            return response;
+        } catch (IOException e) {
+            current.failedPages.increment();
+            throw e;
+        } finally {
+            current.fetchMillis.add(System.currentTimeMillis() - startTime);
+        }
+    }
+
+    private Optional<TmdbMovieResponse> fetchMovie(int contentId, ImportMetrics current) throws IOException {
+        long startTime = System.currentTimeMillis();
+        try {
+            Optional<TmdbMovieResponse> movie = tmdbClient.getMovie(contentId);
+            current.fetchedMovies.add(movie.isPresent() ? 1 : 0);
+            return movie;
+        } catch (IOException e) {
+            current.failedPages.increment();
+            throw e;
+        } finally {
+            current.fetchMillis.add(System.currentTimeMillis() - startTime);
+        }
+    }
+
+    private void upsertFullBatches(List<TmdbMovieResponse> buffer, ImportMetrics current) {
+        while (buffer.size() >= batchSize) {
+            List<TmdbMovieResponse> batch = buffer.subList(0, batchSize);
+            upsert(new ArrayList<>(batch), current);
+            batch.clear();
+        }
+    }
+
+    // 영화는 저장된 내용과 비교해 새로 들어왔거나 바뀐 것만 movie_content_id 로 upsert 하고, 장르도 바뀐 행만 고친다.
+    private void upsert(List<TmdbMovieResponse> movies, ImportMetrics current) {
+        long startTime = System.currentTimeMillis();
+        Map<Integer, TmdbMovieResponse> moviesByContentId = new LinkedHashMap<>();
+        movies.forEach(movie -> moviesByContentId.put(movie.getMovieContentId(), movie));
+
+        Integer changedMovieCount = transactionTemplate.execute(status -> {
+            Map<Integer, Movie> savedMovies = movieBatchRepository.findMoviesByContentIds(moviesByContentId.keySet());
+            List<Movie> changedMovies = moviesByContentId.values().stream()
+                    .map(TmdbMovieResponse::toEntity)
+                    .filter(movie -> !isSameContent(savedMovies.get(movie.getMovieContentId()), movie))
+                    .collect(Collectors.toList());
+            movieBatchRepository.upsertMovies(changedMovies);
+
+            Map<Integer, Long> movieIds = new HashMap<>();
+            savedMovies.forEach((contentId, movie) -> movieIds.put(contentId, movie.getId()));
+            List<Integer> insertedContentIds = changedMovies.stream()
+                    .map(Movie::getMovieContentId)
+                    .filter(contentId -> !savedMovies.containsKey(contentId))
+                    .collect(Collectors.toList());
+            movieIds.putAll(movieBatchRepository.findIdsByContentIds(insertedContentIds));
+
+            Map<Long, String> titlesById = new HashMap<>();
+            changedMovies.forEach(movie -> {
+                Movie saved = savedMovies.get(movie.getMovieContentId());
+                Long movieId = movieIds.get(movie.getMovieContentId());
+                if (movieId != null && (saved == null || !Objects.equals(saved.getTitle(), movie.getTitle()))) {
+                    titlesById.put(movieId, movie.getTitle());
+                }
+            });
+            movieTitleIndex.add(titlesById);
+
+            current.upsertedMovieGenres.add(syncMovieGenres(moviesByContentId, movieIds));
+            return changedMovies.size();
+        });
+
+        int upsertedCount = changedMovieCount == null ? 0 : changedMovieCount;
+        current.upsertedBatches.increment();
+        current.upsertedMovies.add(upsertedCount);
+        current.unchangedMovies.add(moviesByContentId.size() - upsertedCount);
+        current.upsertMillis.add(System.currentTimeMillis() - startTime);
+    }
+
+    private boolean isSameContent(Movie saved, Movie movie) {
+        return saved != null
+                && Objects.equals(saved.getTitle(), movie.getTitle())
+                && Objects.equals(saved.getOverview(), movie.getOverview())
+                && Objects.equals(saved.getVoteAverage(), movie.getVoteAverage())
+                && Objects.equals(saved.getPosterImg(), movie.getPosterImg())
+                && Objects.equals(saved.getReleaseDate(), movie.getReleaseDate());
+    }
+
+    private int syncMovieGenres(Map<Integer, TmdbMovieResponse> moviesByContentId, Map<Integer, Long> movieIds) {
+        Map<Long, List<Long>> savedGenreIds = movieGenreQueryRepository.searchGenreIdsByMovieIds(movieIds.values());
+        Map<Long, List<Long>> genresToInsert = new HashMap<>();
+        Map<Long, List<Long>> genresToDelete = new HashMap<>();
+
+        moviesByContentId.forEach((contentId, movie) -> {
+            Long movieId = movieIds.get(contentId);
+            if (movieId == null) {
+                return;
+            }
+            Set<Long> genreIds = toGenreIds(movie.getGenreNumbers());
+            Set<Long> saved = new HashSet<>(savedGenreIds.getOrDefault(movieId, Collections.emptyList()));
+
+            List<Long> inserted = genreIds.stream().filter(genreId -> !saved.contains(genreId)).collect(Collectors.toList());
+            List<Long> deleted = saved.stream().filter(genreId -> !genreIds.contains(genreId)).collect(Collectors.toList());
+            if (!inserted.isEmpty()) {
+                genresToInsert.put(movieId, inserted);
+            }
+            if (!deleted.isEmpty()) {
+                genresToDelete.put(movieId, deleted);
+            }
+        });
+
+        return movieBatchRepository.deleteMovieGenres(genresToDelete) + movieBatchRepository.insertMovieGenres(genresToInsert);
+    }
+
+    // 사전에 없는 장르 번호는 건너뛴다.
+    private Set<Long> toGenreIds(List<Integer> genreNumbers) {
+        if (genreNumbers == null) {
+            return Collections.emptySet();
+        }
+        Set<Long> genreIds = new LinkedHashSet<>();
+        for (Integer genreNumber : genreNumbers) {
+            genreDictionary.findByGenreNumber(genreNumber).ifPresent(genre -> genreIds.add(genre.getGenreId()));
+        }
+        return genreIds;
+    }
+
+    private void saveCheckpoint(String importName, LocalDate date) {
+        transactionTemplate.executeWithoutResult(status -> {
+            MovieImportCheckpoint checkpoint = checkpointRepository.findById(importName)
+                    .orElseGet(() -> checkpointRepository.save(MovieImportCheckpoint.builder().importName(importName).build()));
+            checkpoint.complete(date);
+        });
+    }
+
+    @FunctionalInterface
+    private interface PageFetcher {
+        TmdbPageResponse fetch(int page) throws IOException;
+    }
+
+    private static class ImportMetrics {
+        private final LongAdder fetchedPages = new LongAdder();
+        private final LongAdder failedPages = new LongAdder();
+        private final LongAdder fetchedMovies = new LongAdder();
+        private final LongAdder fetchMillis = new LongAdder();
+        private final LongAdder changedMovies = new LongAdder();
+        private final LongAdder unchangedMovies = new LongAdder();
+        private final LongAdder upsertedBatches = new LongAdder();
+        private final LongAdder upsertedMovies = new LongAdder();
+        private final LongAdder upsertedMovieGenres = new LongAdder();
+        private final LongAdder upsertMillis = new LongAdder();
+        private final LongAdder completedDays = new LongAdder();
+        private volatile long retriedRequests;
+        private volatile LocalDateTime startedTime;
+        private volatile LocalDateTime finishedTime;
+        private volatile String lastError;
+    }
+}
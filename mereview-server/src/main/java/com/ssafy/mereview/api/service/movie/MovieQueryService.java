@@ -1,32 +1,27 @@
 package com.ssafy.mereview.api.service.movie;
 
-import com.ssafy.mereview.api.service.member.dto.response.ProfileImageResponse;
 import com.ssafy.mereview.api.service.movie.dto.response.GenreResponse;
 import com.ssafy.mereview.api.service.movie.dto.response.MovieDetailResponse;
 import com.ssafy.mereview.api.service.movie.dto.response.MovieKeywordResponse;
-import com.ssafy.mereview.api.service.review.dto.response.BackgroundImageResponse;
 import com.ssafy.mereview.api.service.review.dto.response.ReviewResponse;
-import com.ssafy.mereview.domain.member.entity.Member;
-import com.ssafy.mereview.domain.member.entity.ProfileImage;
 import com.ssafy.mereview.domain.movie.entity.Movie;
-import com.ssafy.mereview.domain.movie.entity.MovieGenre;
 import com.ssafy.mereview.domain.movie.repository.query.MovieGenreQueryRepository;
 import com.ssafy.mereview.domain.movie.repository.query.MovieQueryRepository;
-import com.ssafy.mereview.domain.review.entity.*;
-import com.ssafy.mereview.domain.review.repository.query.ReviewEvaluationQueryRepository;
+import com.ssafy.mereview.domain.review.entity.MovieRecommendType;
+import com.ssafy.mereview.domain.review.repository.query.KeywordQueryRepository;
+import com.ssafy.mereview.domain.review.repository.query.ReviewQueryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
 
-import static com.ssafy.mereview.domain.review.entity.ReviewEvaluationType.*;
-
 @Slf4j
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -34,10 +29,14 @@ import static com.ssafy.mereview.domain.review.entity.ReviewEvaluationType.*;
 public class MovieQueryService {
     private final MovieQueryRepository movieQueryRepository;
 
-    private final ReviewEvaluationQueryRepository reviewEvaluationQueryRepository;
+    private final ReviewQueryRepository reviewQueryRepository;
+
+    private final KeywordQueryRepository keywordQueryRepository;
 
     private final MovieGenreQueryRepository movieGenreQueryRepository;
 
+    private final GenreDictionary genreDictionary;
+
     public MovieDetailResponse searchById(Long movieId) {
         Movie movie = movieQueryRepository.searchById(movieId);
         if (movie == null) {
@@ -59,120 +58,55 @@ public class MovieQueryService {
      * private methods
      */
 
+    // 리뷰는 엔티티 대신 목록 projection 으로 읽고, 키워드는 DB 에서 묶어 온다.
     private MovieDetailResponse createMovieDetailResponse(Movie movie){
+        List<Long> genreIds = movieGenreQueryRepository.searchGenreIdsByMovieIds(List.of(movie.getId()))
+                .getOrDefault(movie.getId(), Collections.emptyList());
+        List<GenreResponse> genreResponses = genreIds.stream().map(genreDictionary::getById).collect(Collectors.toList());
+        List<ReviewResponse> reviewResponses = createReviewResponses(movie.getId());
+        Double evaluation = getMovieEvaluation(reviewResponses);
 
-        List<Review> reviews = movie.getReviews();
+        List<ReviewResponse> topReviewResponses = createTopReviewResponse(reviewResponses);
+        List<ReviewResponse> recentReviewResponses = createRecentReviewResponse(reviewResponses);
 
-        List<MovieGenre> movieGenres = movieGenreQueryRepository.searchMovieGenreByMovieId(movie.getId());
-        List<GenreResponse> genreResponses = movieGenres.stream().map(MovieGenre::getGenre).map(GenreResponse::of).collect(Collectors.toList());
-        Double evaluation = getMovieEvaluation(reviews);
-
-        List<ReviewResponse> topReviewResponses = createTopReviewResponse(reviews);
-        List<ReviewResponse> recentReviewResponses = createRecentReviewResponse(reviews);
-
-        List<MovieKeywordResponse> movieKeywordResponses= createMovieKeywordResponse(reviews);
+        List<MovieKeywordResponse> movieKeywordResponses= createMovieKeywordResponse(movie.getId());
 
         return MovieDetailResponse.of(movie, genreResponses, evaluation, movieKeywordResponses, topReviewResponses, recentReviewResponses);
     }
 
-    private Double getMovieEvaluation(List<Review> reviews){
+    private Double getMovieEvaluation(List<ReviewResponse> reviews){
         long totalReviews = reviews.size();
 
         long positiveCount = reviews.stream()
-                .filter(review -> review.getType() == MovieRecommendType.YES)
+                .filter(review -> review.getMovieRecommendType() == MovieRecommendType.YES)
                 .count();
 
         return (double) positiveCount / totalReviews * 100;
     }
 
-    private List<ReviewResponse> createTopReviewResponse(List<Review> reviews){
-        List<ReviewResponse> reviewResponses = createReviewResponse(reviews);
-
+    private List<ReviewResponse> createTopReviewResponse(List<ReviewResponse> reviewResponses){
         return reviewResponses.stream()
-                .sorted(Comparator.comparingInt(response -> {
-                    ReviewResponse reviewResponse = (ReviewResponse) response;
-                    return reviewResponse.getFunCount() + reviewResponse.getUsefulCount();
-                }).reversed())
+                .sorted(Comparator.comparingInt(ReviewResponse::getPositiveCount).reversed())
                 .collect(Collectors.toList());
     }
 
-    private List<ReviewResponse> createRecentReviewResponse(List<Review> reviews){
-        List<ReviewResponse> reviewResponses = createReviewResponse(reviews);
-
-        Collections.reverse(reviewResponses);
-
-        return reviewResponses;
-    }
-
-    private List<ReviewResponse> createReviewResponse(List<Review> reviews){
-        return reviews.stream()
-                .map(review -> {
-                            Movie movie = review.getMovie();
-                            Member writeMember = review.getMember();
-                            return ReviewResponse.builder()
-                                    .reviewId(review.getId())
-                                    .reviewTitle(review.getTitle())
-                                    .hits(review.getHits())
-                                    .highlight(review.getHighlight())
-                                    .movieRecommendType(review.getType())
-                                    .commentCount(review.getComments().size())
-                                    .positiveCount(getPositiveCount(review.getId()))
-                                    .funCount(getTypeCountByReviewAndType(FUN, review.getId()))
-                                    .usefulCount(getTypeCountByReviewAndType(USEFUL, review.getId()))
-                                    .badCount(getTypeCountByReviewAndType(BAD, review.getId()))
-                                    .backgroundImageResponse(createBackgroundImageResponse(review.getBackgroundImage()))
-                                    .createdTime(review.getCreatedTime())
-                                    .memberId(writeMember.getId())
-                                    .nickname(writeMember.getNickname())
-                                    .profileImage(getProfileImageResponse(writeMember.getProfileImage()))
-                                    .movieId(movie.getId())
-                                    .movieTitle(movie.getTitle())
-                                    .movieReleaseDate(movie.getReleaseDate())
-                                    .genreResponse(GenreResponse.of(review.getGenre()))
-                                    .build();
-                        }
-                ).collect(Collectors.toList());
-    }
-
-    private int getPositiveCount(Long reviewId) {
-        return getTypeCountByReviewAndType(FUN, reviewId) + getTypeCountByReviewAndType(USEFUL, reviewId);
-    }
+    private List<ReviewResponse> createRecentReviewResponse(List<ReviewResponse> reviewResponses){
+        List<ReviewResponse> recentReviewResponses = new ArrayList<>(reviewResponses);
 
-    private int getTypeCountByReviewAndType(ReviewEvaluationType type, Long reviewId) {
-        return reviewEvaluationQueryRepository.getCountByReviewIdAndType(reviewId, type);
-    }
+        Collections.reverse(recentReviewResponses);
 
-    private BackgroundImageResponse createBackgroundImageResponse(BackgroundImage backgroundImage) {
-        if (backgroundImage == null) {
-            return null;
-        }
-        return BackgroundImageResponse.of(backgroundImage);
+        return recentReviewResponses;
     }
 
-    private ProfileImageResponse getProfileImageResponse(ProfileImage profileImage) {
-        if (profileImage == null) {
-            return null;
-        }
-        return ProfileImageResponse.of(profileImage);
-    }
-
-    private List<MovieKeywordResponse> createMovieKeywordResponse(List<Review> reviews){
-        List<Keyword> keywords = createMovieKeyword(reviews);
-
-        return keywords.stream()
-                .collect(Collectors.groupingBy(
-                        Keyword::getName,
-                        Collectors.summingInt(Keyword::getWeight)
-                ))
-                .entrySet().stream()
-                .map(entry -> MovieKeywordResponse.of(entry.getKey(), entry.getValue()))
+    private List<ReviewResponse> createReviewResponses(Long movieId){
+        return reviewQueryRepository.searchByMovieId(movieId).stream()
+                .map(ReviewResponse::of)
                 .collect(Collectors.toList());
     }
 
-    private List<Keyword> createMovieKeyword(List<Review> reviews){
-        return reviews.stream()
-                .flatMap(review -> review.getKeywords().stream())
+    private List<MovieKeywordResponse> createMovieKeywordResponse(Long movieId){
+        return keywordQueryRepository.searchWeightsByMovieId(movieId).entrySet().stream()
+                .map(entry -> MovieKeywordResponse.of(entry.getKey(), entry.getValue()))
                 .collect(Collectors.toList());
     }
 }
-
@@ -3,7 +3,6 @@ package com.ssafy.mereview.api.service.movie;
 import com.ssafy.mereview.api.service.movie.dto.response.GenreResponse;
 import com.ssafy.mereview.api.service.movie.dto.response.MovieResponse;
 import com.ssafy.mereview.domain.movie.entity.Movie;
-import com.ssafy.mereview.domain.movie.entity.MovieGenre;
 import com.ssafy.mereview.domain.movie.repository.query.MovieGenreQueryRepository;
 import com.ssafy.mereview.domain.movie.repository.query.MovieQueryRepository;
 import com.ssafy.mereview.domain.movie.repository.command.MovieRepository;
@@ -14,8 +13,12 @@ import org.springframework.stereotype.Service;
 import javax.transaction.Transactional;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
+import static com.ssafy.mereview.common.util.SizeConstants.MOVIE_SIZE;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -26,24 +29,41 @@ public class MovieService {
 
     private final MovieGenreQueryRepository movieGenreQueryRepository;
 
+    private final GenreDictionary genreDictionary;
+
     private final MovieRepository movieRepository;
 
+    private final MovieTitleIndex movieTitleIndex;
+
     public List<MovieResponse> searchMovies(String keyword) {
         log.debug("keyword = {}", keyword);
 
-        List<Movie> movies = movieQueryRepository.searchMovieByKeyword(keyword);
+        // 색인을 적재하기 전에는 DB 접두어 검색으로 대신한다.
+        if (!movieTitleIndex.isLoaded()) {
+            return createMovieResponses(movieQueryRepository.searchMovieByKeyword(keyword));
+        }
+
+        List<Long> movieIds = movieTitleIndex.search(keyword, MOVIE_SIZE);
+        Map<Long, Movie> moviesById = movieRepository.findAllById(movieIds).stream()
+                .collect(Collectors.toMap(Movie::getId, movie -> movie));
+        List<Movie> movies = movieIds.stream()
+                .map(moviesById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
 
         return createMovieResponses(movies);
 
     }
 
+    // 장르 id 는 한 번에 읽고 장르 정보는 사전에서 채우므로 영화 수와 상관없이 쿼리는 한 번이다.
     private List<MovieResponse> createMovieResponses(List<Movie> movies) {
-        List<MovieResponse> movieResponses = new ArrayList<>();
+        List<Long> movieIds = movies.stream().map(Movie::getId).collect(Collectors.toList());
+        Map<Long, List<Long>> genreIdsByMovie = movieGenreQueryRepository.searchGenreIdsByMovieIds(movieIds);
 
+        List<MovieResponse> movieResponses = new ArrayList<>();
         for(Movie movie : movies){
-            List<MovieGenre> movieGenres = movieGenreQueryRepository.searchMovieGenreByMovieId(movie.getId());
-            List<GenreResponse> genreResponses = movieGenres.stream().map(MovieGenre::getGenre).map(GenreResponse::of).collect(Collectors.toList());
-            MovieResponse movieResponse = MovieResponse.of(movie, genreResponses); //
+            List<GenreResponse> genreResponses = createGenreResponses(genreIdsByMovie.get(movie.getId()));
+            MovieResponse movieResponse = MovieResponse.of(movie, genreResponses);
             movieResponses.add(movieResponse);
         }
         return movieResponses;
@@ -51,10 +71,14 @@ public class MovieService {
 
     public MovieResponse searchMovieById(Long movieId) {
         Movie movie = movieRepository.findById(movieId).orElseThrow(IllegalArgumentException::new);
-        List<MovieGenre> movieGenres = movieGenreQueryRepository.searchMovieGenreByMovieId(movieId);
-        List<GenreResponse> genreResponses = movieGenres.stream().map(MovieGenre::getGenre).map(GenreResponse::of).collect(Collectors.toList());
+        return createMovieResponses(List.of(movie)).get(0);
+    }
 
-        return MovieResponse.of(movie, genreResponses);
+    private List<GenreResponse> createGenreResponses(List<Long> genreIds) {
+        if (genreIds == null) {
+            return new ArrayList<>();
+        }
+        return genreIds.stream().map(genreDictionary::getById).collect(Collectors.toList());
     }
 
 }
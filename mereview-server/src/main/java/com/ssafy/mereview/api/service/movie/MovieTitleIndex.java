@@ -0,0 +1,302 @@
+package com.ssafy.mereview.api.service.movie;
+
+import com.ssafy.mereview.domain.movie.repository.query.MovieQueryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+import static com.ssafy.mereview.common.util.HangulUtils.containsChosung;
+import static com.ssafy.mereview.common.util.HangulUtils.isChosung;
+import static com.ssafy.mereview.common.util.HangulUtils.toChosung;
+import static com.ssafy.mereview.common.util.SizeConstants.PAGE_SIZE;
+import static com.ssafy.mereview.common.util.TransactionUtils.afterCommit;
+
+/**
+ * 영화 제목 자동완성용 메모리 색인.
+ * 제목의 각 단어 시작 위치부터 잘라낸 문자열을 음절 그대로, 그리고 초성으로 바꿔 각각 정렬된 배열에 담고
+ * 접두어 검색은 이진 탐색으로 범위를 찾는다. 비교할 때는 대소문자, 공백과 문장부호를 무시한다.
+ * 색인은 변경 시 새로 만들어 교체하므로(copy-on-write) 조회는 잠금 없이 한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MovieTitleIndex {
+
+    // 키는 앞부분만 저장하고, 더 긴 검색어는 제목과 직접 비교해 거른다.
+    private static final int KEY_LENGTH = 20;
+    // 한두 글자 검색처럼 범위가 넓은 접두어는 결과를 스냅샷에 캐시한다. 검색어마다 키가 생기므로 개수를 제한한다.
+    private static final int CACHE_RANGE_THRESHOLD = 2000;
+    private static final int CACHE_MAX_SIZE = 1000;
+    private static final int LOAD_CHUNK_SIZE = PAGE_SIZE * 50;
+
+    private final MovieQueryRepository movieQueryRepository;
+
+    private final Queue<Map.Entry<Long, String>> pendingTitles = new ConcurrentLinkedQueue<>();
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.movie.title-index.reload-interval-ms:21600000}",
+            fixedDelayString = "${app.movie.title-index.reload-interval-ms:21600000}")
+    public void reload() {
+        Map<Long, String> titlesById = new LinkedHashMap<>();
+        Long lastMovieId = 0L;
+        while (true) {
+            Map<Long, String> chunk = movieQueryRepository.searchTitlesAfter(lastMovieId, LOAD_CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            titlesById.putAll(chunk);
+            for (Long movieId : chunk.keySet()) {
+                lastMovieId = movieId;
+            }
+        }
+        synchronized (this) {
+            snapshot = Snapshot.EMPTY.merge(titlesById);
+        }
+        log.info("movie title index loaded: {} movies", titlesById.size());
+    }
+
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    // 커밋된 뒤 대기열에 넣고, 다음 병합 주기에 한 번에 반영한다.
+    public void add(Map<Long, String> titlesById) {
+        List<Map.Entry<Long, String>> titles = titlesById.entrySet().stream()
+                .filter(entry -> entry.getValue() != null)
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+        afterCommit(() -> pendingTitles.addAll(titles));
+    }
+
+    @Scheduled(fixedDelayString = "${app.movie.title-index.merge-interval-ms:5000}")
+    public synchronized void mergePending() {
+        if (snapshot == null || pendingTitles.isEmpty()) {
+            return;
+        }
+        Map<Long, String> titlesById = new LinkedHashMap<>();
+        Map.Entry<Long, String> entry;
+        while ((entry = pendingTitles.poll()) != null) {
+            titlesById.put(entry.getKey(), entry.getValue());
+        }
+        snapshot = snapshot.merge(titlesById);
+        log.debug("movie title index merged: {} movies", titlesById.size());
+    }
+
+    // 제목 맨 앞이 맞는 영화를 먼저, 그다음 중간 단어가 맞는 영화를 제목 순으로 돌려준다.
+    public List<Long> search(String keyword, int limit) {
+        Snapshot current = snapshot;
+        String query = normalize(keyword, null);
+        if (current == null || query.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return current.search(query, containsChosung(query), limit);
+    }
+
+    /**
+     * private methods
+     */
+
+    // 글자와 숫자만 남기고 소문자로 바꾼다. wordStarts 가 있으면 단어가 시작하는 위치를 정규화된 문자열 기준으로 담는다.
+    private static String normalize(String text, List<Integer> wordStarts) {
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean previousLetter = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            boolean letter = Character.isLetterOrDigit(c);
+            if (letter) {
+                if (!previousLetter && wordStarts != null) {
+                    wordStarts.add(normalized.length());
+                }
+                normalized.append(Character.toLowerCase(c));
+            }
+            previousLetter = letter;
+        }
+        return normalized.toString();
+    }
+
+    private static boolean matchesAt(String normalizedTitle, int offset, String query) {
+        if (offset + query.length() > normalizedTitle.length()) {
+            return false;
+        }
+        for (int i = 0; i < query.length(); i++) {
+            char q = query.charAt(i);
+            char t = normalizedTitle.charAt(offset + i);
+            if (q != t && !(isChosung(q) && toChosung(t) == q)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(new long[0], new String[0], Collections.emptyMap(), KeyTable.EMPTY, KeyTable.EMPTY);
+
+        private final long[] movieIds;
+        // 다시 들어온 영화의 예전 자리는 null 로 비워 둔다.
+        private final String[] titles;
+        private final Map<Long, Integer> ordinalsById;
+        private final KeyTable syllableKeys;
+        private final KeyTable chosungKeys;
+        private final Cache<String, List<Long>> cachedResults = Caffeine.newBuilder()
+                .maximumSize(CACHE_MAX_SIZE)
+                .build();
+
+        private Snapshot(long[] movieIds, String[] titles, Map<Long, Integer> ordinalsById, KeyTable syllableKeys, KeyTable chosungKeys) {
+            this.movieIds = movieIds;
+            this.titles = titles;
+            this.ordinalsById = ordinalsById;
+            this.syllableKeys = syllableKeys;
+            this.chosungKeys = chosungKeys;
+        }
+
+        private Snapshot merge(Map<Long, String> titlesById) {
+            int size = movieIds.length + titlesById.size();
+            long[] mergedIds = Arrays.copyOf(movieIds, size);
+            String[] mergedTitles = Arrays.copyOf(titles, size);
+            Map<Long, Integer> mergedOrdinals = new HashMap<>(ordinalsById);
+
+            List<KeyEntry> syllableEntries = new ArrayList<>();
+            List<KeyEntry> chosungEntries = new ArrayList<>();
+            int ordinal = movieIds.length;
+            for (Map.Entry<Long, String> entry : titlesById.entrySet()) {
+                Integer previous = mergedOrdinals.put(entry.getKey(), ordinal);
+                if (previous != null) {
+                    mergedTitles[previous] = null;
+                }
+                mergedIds[ordinal] = entry.getKey();
+                mergedTitles[ordinal] = entry.getValue();
+
+                List<Integer> wordStarts = new ArrayList<>();
+                String normalized = normalize(entry.getValue(), wordStarts);
+                for (int offset : wordStarts) {
+                    String key = normalized.substring(offset, Math.min(normalized.length(), offset + KEY_LENGTH));
+                    syllableEntries.add(new KeyEntry(key, ordinal, offset));
+                    chosungEntries.add(new KeyEntry(toChosung(key), ordinal, offset));
+                }
+                ordinal++;
+            }
+            return new Snapshot(mergedIds, mergedTitles, mergedOrdinals,
+                    syllableKeys.merge(syllableEntries), chosungKeys.merge(chosungEntries));
+        }
+
+        private List<Long> search(String query, boolean chosungMode, int limit) {
+            KeyTable table = chosungMode ? chosungKeys : syllableKeys;
+            String prefix = chosungMode ? toChosung(query) : query;
+            if (prefix.length() > KEY_LENGTH) {
+                prefix = prefix.substring(0, KEY_LENGTH);
+            }
+            int from = table.lowerBound(prefix);
+            int to = table.lowerBound(prefix + Character.MAX_VALUE);
+            if (to - from <= CACHE_RANGE_THRESHOLD) {
+                return collect(table, from, to, query, chosungMode, limit);
+            }
+            return cachedResults.get(chosungMode + ":" + query + ":" + limit,
+                    key -> collect(table, from, to, query, chosungMode, limit));
+        }
+
+        private List<Long> collect(KeyTable table, int from, int to, String query, boolean chosungMode, int limit) {
+            // 초성이 섞였거나 키보다 긴 검색어는 범위만으로 확정할 수 없어 제목과 다시 비교한다.
+            boolean verify = chosungMode || query.length() > KEY_LENGTH;
+            Map<Integer, Boolean> titleStartByOrdinal = new HashMap<>();
+            for (int i = from; i < to; i++) {
+                int ordinal = table.ordinals[i];
+                int offset = table.offsets[i];
+                if (titles[ordinal] == null) {
+                    continue;
+                }
+                if (verify && !matchesAt(normalize(titles[ordinal], null), offset, query)) {
+                    continue;
+                }
+                titleStartByOrdinal.merge(ordinal, offset == 0, Boolean::logicalOr);
+            }
+
+            Comparator<Map.Entry<Integer, Boolean>> order = Comparator
+                    .comparing((Map.Entry<Integer, Boolean> entry) -> !entry.getValue())
+                    .thenComparing(entry -> titles[entry.getKey()])
+                    .thenComparingLong(entry -> movieIds[entry.getKey()]);
+            return titleStartByOrdinal.entrySet().stream()
+                    .sorted(order)
+                    .limit(limit)
+                    .map(entry -> movieIds[entry.getKey()])
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static class KeyTable {
+
+        private static final KeyTable EMPTY = new KeyTable(new String[0], new int[0], new int[0]);
+
+        private final String[] keys;
+        private final int[] ordinals;
+        private final int[] offsets;
+
+        private KeyTable(String[] keys, int[] ordinals, int[] offsets) {
+            this.keys = keys;
+            this.ordinals = ordinals;
+            this.offsets = offsets;
+        }
+
+        private int lowerBound(String prefix) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(prefix) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // 새 키만 정렬한 뒤 기존 배열과 한 번에 병합한다.
+        private KeyTable merge(List<KeyEntry> entries) {
+            entries.sort(Comparator.comparing((KeyEntry entry) -> entry.key));
+            int size = keys.length + entries.size();
+            String[] mergedKeys = new String[size];
+            int[] mergedOrdinals = new int[size];
+            int[] mergedOffsets = new int[size];
+
+            int i = 0;
+            int j = 0;
+            for (int k = 0; k < size; k++) {
+                if (j >= entries.size() || (i < keys.length && keys[i].compareTo(entries.get(j).key) <= 0)) {
+                    mergedKeys[k] = keys[i];
+                    mergedOrdinals[k] = ordinals[i];
+                    mergedOffsets[k] = offsets[i];
+                    i++;
+                } else {
+                    KeyEntry entry = entries.get(j++);
+                    mergedKeys[k] = entry.key;
+                    mergedOrdinals[k] = entry.ordinal;
+                    mergedOffsets[k] = entry.offset;
+                }
+            }
+            return new KeyTable(mergedKeys, mergedOrdinals, mergedOffsets);
+        }
+    }
+
+    private static class KeyEntry {
+        private final String key;
+        private final int ordinal;
+        private final int offset;
+
+        private KeyEntry(String key, int ordinal, int offset) {
+            this.key = key;
+            this.ordinal = ordinal;
+            this.offset = offset;
+        }
+    }
+}
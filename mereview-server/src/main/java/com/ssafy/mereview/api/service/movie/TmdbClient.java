@@ -0,0 +1,229 @@
+package com.ssafy.mereview.api.service.movie;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.mereview.api.service.movie.dto.response.TmdbMovieResponse;
+import com.ssafy.mereview.api.service.movie.dto.response.TmdbPageResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TMDB API 클라이언트. 모든 요청은 초당 requests-per-second 개를 넘지 않도록 간격을 두고 보내고,
+ * 429 와 5xx, 네트워크 오류는 max-retry 번까지 다시 시도한다. 응답은 문자열로 모으지 않고 스트림에서 바로 읽는다.
+ */
+@Slf4j
+@Component
+public class TmdbClient {
+
+    private static final String DISCOVER_PATH = "/3/discover/movie";
+    private static final String CHANGES_PATH = "/3/movie/changes";
+    private static final String MOVIE_PATH = "/3/movie/";
+    private static final long RETRY_BACKOFF_MILLIS = 500;
+
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final String apiKey;
+    private final long requestIntervalNanos;
+    private final int maxRetry;
+    private final Duration timeout;
+
+    private final LongAdder retryCount = new LongAdder();
+    private long nextRequestNanos = System.nanoTime();
+
+    public TmdbClient(ObjectMapper objectMapper,
+                      @Value("${app.movie.tmdb.base-url:https://api.themoviedb.org}") String baseUrl,
+                      @Value("${app.movie.tmdb.api-key}") String apiKey,
+                      @Value("${app.movie.tmdb.requests-per-second:20}") int requestsPerSecond,
+                      @Value("${app.movie.tmdb.max-retry:3}") int maxRetry,
+                      @Value("${app.movie.tmdb.timeout-ms:10000}") long timeoutMillis) {
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.apiKey = apiKey;
+        this.requestIntervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, requestsPerSecond);
+        this.maxRetry = maxRetry;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    // 하루 동안 개봉한 영화 한 페이지
+    public TmdbPageResponse discoverByReleaseDate(LocalDate releaseDate, int page) throws IOException {
+        String query = "api_key=" + apiKey +
+                "&language=ko" +
+                "&sort_by=primary_release_date.asc" +
+                "&primary_release_date.gte=" + releaseDate +
+                "&primary_release_date.lte=" + releaseDate +
+                "&page=" + page;
+        return send(URI.create(baseUrl + DISCOVER_PATH + "?" + query), this::parsePage);
+    }
+
+    // 기간 동안 정보가 바뀐 영화 한 페이지. 결과에는 movieContentId 만 채워진다.
+    public TmdbPageResponse changedMovies(LocalDate startDate, LocalDate endDate, int page) throws IOException {
+        String query = "api_key=" + apiKey +
+                "&start_date=" + startDate +
+                "&end_date=" + endDate +
+                "&page=" + page;
+        return send(URI.create(baseUrl + CHANGES_PATH + "?" + query), this::parsePage);
+    }
+
+    // 영화 상세. TMDB 에서 지워진 영화면 비어 있다.
+    public Optional<TmdbMovieResponse> getMovie(int movieContentId) throws IOException {
+        String query = "api_key=" + apiKey + "&language=ko";
+        try {
+            return Optional.of(send(URI.create(baseUrl + MOVIE_PATH + movieContentId + "?" + query),
+                    body -> objectMapper.readValue(body, TmdbMovieResponse.class)));
+        } catch (TmdbRequestException e) {
+            if (e.getStatus() == 404) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    public long getRetryCount() {
+        return retryCount.sum();
+    }
+
+    /**
+     * private methods
+     */
+
+    private <T> T send(URI uri, ResponseReader<T> reader) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        for (int attempt = 0; ; attempt++) {
+            IOException failure;
+            try {
+                awaitRateLimit();
+                HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+                try (InputStream body = response.body()) {
+                    int status = response.statusCode();
+                    if (status == 200) {
+                        return reader.read(body);
+                    }
+                    if (status == 429) {
+                        delayAll(response.headers().firstValueAsLong("Retry-After").orElse(1));
+                    } else if (status < 500) {
+                        throw new TmdbRequestException(status, "TMDB 요청 실패: status=" + status + ", path=" + uri.getPath());
+                    }
+                    failure = new IOException("TMDB 요청 실패: status=" + status + ", path=" + uri.getPath());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("TMDB 요청 중 인터럽트");
+            } catch (TmdbRequestException e) {
+                throw e;
+            } catch (IOException e) {
+                failure = e;
+            }
+
+            if (attempt >= maxRetry) {
+                throw failure;
+            }
+            retryCount.increment();
+            log.debug("TMDB request retry {}/{}: {}", attempt + 1, maxRetry, failure.getMessage());
+            sleep(RETRY_BACKOFF_MILLIS << attempt);
+        }
+    }
+
+    // 최상위 필드를 차례로 읽고, results 배열은 영화 하나씩 바로 객체로 바꾼다.
+    private TmdbPageResponse parsePage(InputStream body) throws IOException {
+        int page = 0;
+        int totalPages = 0;
+        List<TmdbMovieResponse> movies = new ArrayList<>();
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("TMDB 응답 형식이 올바르지 않습니다.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("page".equals(field)) {
+                    page = parser.getIntValue();
+                } else if ("total_pages".equals(field)) {
+                    totalPages = parser.getIntValue();
+                } else if ("results".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        movies.add(objectMapper.readValue(parser, TmdbMovieResponse.class));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return TmdbPageResponse.builder()
+                .page(page)
+                .totalPages(totalPages)
+                .movies(movies)
+                .build();
+    }
+
+    private void awaitRateLimit() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextRequestNanos);
+            nextRequestNanos = slot + requestIntervalNanos;
+            waitNanos = slot - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    // 429 를 받으면 다른 작업 스레드의 요청도 함께 미룬다.
+    private synchronized void delayAll(long seconds) {
+        nextRequestNanos = Math.max(nextRequestNanos, System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds));
+    }
+
+    private void sleep(long millis) throws InterruptedIOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("TMDB 재시도 대기 중 인터럽트");
+        }
+    }
+
+    @FunctionalInterface
+    private interface ResponseReader<T> {
+        T read(InputStream body) throws IOException;
+    }
+
+    // 다시 보내도 결과가 같은 4xx 응답. 재시도하지 않는다.
+    public static class TmdbRequestException extends IOException {
+        private final int status;
+
+        public TmdbRequestException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+    }
+}
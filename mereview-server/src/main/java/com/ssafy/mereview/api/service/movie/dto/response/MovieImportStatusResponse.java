@@ -0,0 +1,64 @@
+package com.ssafy.mereview.api.service.movie.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@ToString
+@Getter
+@NoArgsConstructor
+public class MovieImportStatusResponse {
+    private boolean running;
+    private LocalDate lastCompletedDate;
+    private LocalDate lastSyncedDate;
+    private LocalDateTime startedTime;
+    private LocalDateTime finishedTime;
+    private String lastError;
+
+    // fetch 단계: 요청한 페이지, 재시도, 실패한 요청, 응답에서 읽은 영화 수와 걸린 시간(스레드 합계)
+    private long fetchedPages;
+    private long retriedRequests;
+    private long failedPages;
+    private long fetchedMovies;
+    private long fetchMillis;
+    // changes 로 받은 id 중 이미 가진 영화 수
+    private long changedMovies;
+
+    // upsert 단계: 커밋한 배치, 반영한 영화, 내용이 같아 건너뛴 영화, 장르 행 수와 걸린 시간
+    private long upsertedBatches;
+    private long upsertedMovies;
+    private long unchangedMovies;
+    private long upsertedMovieGenres;
+    private long upsertMillis;
+
+    private long completedDays;
+
+    @Builder
+    public MovieImportStatusResponse(boolean running, LocalDate lastCompletedDate, LocalDate lastSyncedDate, LocalDateTime startedTime,
+                                     LocalDateTime finishedTime, String lastError, long fetchedPages, long retriedRequests, long failedPages,
+                                     long fetchedMovies, long fetchMillis, long changedMovies, long upsertedBatches, long upsertedMovies,
+                                     long unchangedMovies, long upsertedMovieGenres, long upsertMillis, long completedDays) {
+        this.running = running;
+        this.lastCompletedDate = lastCompletedDate;
+        this.lastSyncedDate = lastSyncedDate;
+        this.startedTime = startedTime;
+        this.finishedTime = finishedTime;
+        this.lastError = lastError;
+        this.fetchedPages = fetchedPages;
+        this.retriedRequests = retriedRequests;
+        this.failedPages = failedPages;
+        this.fetchedMovies = fetchedMovies;
+        this.fetchMillis = fetchMillis;
+        this.changedMovies = changedMovies;
+        this.upsertedBatches = upsertedBatches;
+        this.upsertedMovies = upsertedMovies;
+        this.unchangedMovies = unchangedMovies;
+        this.upsertedMovieGenres = upsertedMovieGenres;
+        this.upsertMillis = upsertMillis;
+        this.completedDays = completedDays;
+    }
+}
@@ -0,0 +1,71 @@
+package com.ssafy.mereview.api.service.movie.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.ssafy.mereview.domain.movie.entity.Movie;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@ToString
+@Getter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TmdbMovieResponse {
+
+    @JsonProperty("id")
+    private int movieContentId;
+
+    private String title;
+
+    private String overview;
+
+    @JsonProperty("poster_path")
+    private String posterPath;
+
+    @JsonProperty("vote_average")
+    private Double voteAverage;
+
+    @JsonProperty("release_date")
+    private String releaseDate;
+
+    @JsonProperty("genre_ids")
+    private List<Integer> genreNumbers = new ArrayList<>();
+
+    @Builder
+    public TmdbMovieResponse(int movieContentId, String title, String overview, String posterPath, Double voteAverage, String releaseDate, List<Integer> genreNumbers) {
+        this.movieContentId = movieContentId;
+        this.title = title;
+        this.overview = overview;
+        this.posterPath = posterPath;
+        this.voteAverage = voteAverage;
+        this.releaseDate = releaseDate;
+        this.genreNumbers = genreNumbers == null ? new ArrayList<>() : genreNumbers;
+    }
+
+    // 상세 응답은 genre_ids 대신 {id, name} 목록을 준다.
+    @JsonProperty("genres")
+    private void setGenres(List<Map<String, Object>> genres) {
+        this.genreNumbers = new ArrayList<>();
+        if (genres != null) {
+            genres.forEach(genre -> genreNumbers.add(((Number) genre.get("id")).intValue()));
+        }
+    }
+
+    // 빠진 값은 예전 가져오기와 같은 기본값으로 채운다.
+    public Movie toEntity() {
+        return Movie.builder()
+                .movieContentId(movieContentId)
+                .title(title == null ? "" : title)
+                .overview(overview == null ? "" : overview)
+                .posterImg(posterPath == null ? "" : posterPath)
+                .voteAverage(voteAverage == null ? 100 : voteAverage)
+                .releaseDate(releaseDate == null ? "" : releaseDate)
+                .build();
+    }
+}
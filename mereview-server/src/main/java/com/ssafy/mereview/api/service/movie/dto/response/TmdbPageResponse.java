@@ -0,0 +1,25 @@
+package com.ssafy.mereview.api.service.movie.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ToString
+@Getter
+@NoArgsConstructor
+public class TmdbPageResponse {
+    private int page;
+    private int totalPages;
+    private List<TmdbMovieResponse> movies = new ArrayList<>();
+
+    @Builder
+    public TmdbPageResponse(int page, int totalPages, List<TmdbMovieResponse> movies) {
+        this.page = page;
+        this.totalPages = totalPages;
+        this.movies = movies;
+    }
+}
@@ -0,0 +1,106 @@
+package com.ssafy.mereview.api.service.review;
+
+import com.ssafy.mereview.api.service.member.dto.response.ProfileImageResponse;
+import com.ssafy.mereview.api.service.review.dto.response.CommentResponse;
+import com.ssafy.mereview.common.response.CursorPageResponse;
+import com.ssafy.mereview.domain.review.entity.CommentLikeType;
+import com.ssafy.mereview.domain.review.repository.dto.CommentDto;
+import com.ssafy.mereview.domain.review.repository.query.CommentLikeQueryRepository;
+import com.ssafy.mereview.domain.review.repository.query.CommentQueryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.ssafy.mereview.common.util.SizeConstants.COMMENT_PAGE_SIZE;
+import static com.ssafy.mereview.domain.review.entity.CommentLikeType.DISLIKE;
+import static com.ssafy.mereview.domain.review.entity.CommentLikeType.LIKE;
+import static org.springframework.util.StringUtils.hasText;
+
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class CommentQueryService {
+
+    private final CommentQueryRepository commentQueryRepository;
+    private final CommentLikeQueryRepository commentLikeQueryRepository;
+
+    public CursorPageResponse<List<CommentResponse>> searchByReviewId(Long reviewId, String cursor, Long loginMemberId) {
+        List<CommentDto> comments = commentQueryRepository.searchByReviewId(reviewId, decodeCursor(cursor), COMMENT_PAGE_SIZE + 1);
+
+        boolean hasNext = comments.size() > COMMENT_PAGE_SIZE;
+        if (hasNext) {
+            comments = comments.subList(0, COMMENT_PAGE_SIZE);
+        }
+
+        String nextCursor = hasNext ? String.valueOf(comments.get(comments.size() - 1).getCommentId()) : null;
+
+        return CursorPageResponse.<List<CommentResponse>>builder()
+                .data(createCommentResponses(comments, loginMemberId))
+                .pageSize(COMMENT_PAGE_SIZE)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    public int countByReviewId(Long reviewId) {
+        return commentQueryRepository.countByReviewId(reviewId);
+    }
+
+    /**
+     * private methods
+     */
+
+    private Long decodeCursor(String cursor) {
+        if (!hasText(cursor)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    private List<CommentResponse> createCommentResponses(List<CommentDto> comments, Long loginMemberId) {
+        List<Long> commentIds = comments.stream().map(CommentDto::getCommentId).collect(Collectors.toList());
+        Map<Long, Map<CommentLikeType, Integer>> likeCountsMap = commentLikeQueryRepository.getCountByCommentIdsGroupByType(commentIds);
+        Set<Long> likedCommentIds = commentLikeQueryRepository.searchCommentIdsByMember(commentIds, loginMemberId);
+
+        return comments.stream()
+                .map(comment ->
+                        CommentResponse.builder()
+                                .commentId(comment.getCommentId())
+                                .memberId(comment.getMemberId())
+                                .nickname(comment.getNickname())
+                                .content(comment.getContent())
+                                .isDone(likedCommentIds.contains(comment.getCommentId()))
+                                .likeCount(getCommentLikeCount(likeCountsMap, LIKE, comment.getCommentId()))
+                                .dislikeCount(getCommentLikeCount(likeCountsMap, DISLIKE, comment.getCommentId()))
+                                .profileImage(createProfileImageResponse(comment))
+                                .createdTime(comment.getCreatedTime())
+                                .build()
+                )
+                .collect(Collectors.toList());
+    }
+
+    private int getCommentLikeCount(Map<Long, Map<CommentLikeType, Integer>> likeCountsMap, CommentLikeType type, Long commentId) {
+        return likeCountsMap.getOrDefault(commentId, Collections.emptyMap()).getOrDefault(type, 0);
+    }
+
+    private ProfileImageResponse createProfileImageResponse(CommentDto comment) {
+        if (comment.getProfileImageId() == null) {
+            return null;
+        }
+        return ProfileImageResponse.builder()
+                .id(comment.getProfileImageId())
+                .fileName(comment.getProfileImageFileName())
+                .createdTime(comment.getProfileImageCreatedTime())
+                .build();
+    }
+}
@@ -6,6 +6,7 @@ import com.ssafy.mereview.domain.member.entity.MemberAchievement;
 import com.ssafy.mereview.domain.member.repository.MemberAchievementQueryRepository;
 import com.ssafy.mereview.domain.review.entity.Comment;
 import com.ssafy.mereview.domain.review.repository.command.CommentRepository;
+import com.ssafy.mereview.domain.review.repository.command.ReviewRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,13 +19,17 @@ import java.util.NoSuchElementException;
 public class CommentService {
 
     private final CommentRepository commentRepository;
+    private final ReviewRepository reviewRepository;
     private final MemberAchievementQueryRepository memberAchievementQueryRepository;
+    private final ReviewTrendingEngine reviewTrendingEngine;
 
 
     public Long save(CommentCreateServiceRequest request) {
         Comment savedComment = commentRepository.save(request.toEntity());
+        reviewRepository.updateCommentCount(request.getReviewId(), 1);
 
         updateCommentAchievementCount(request);
+        reviewTrendingEngine.record(request.getReviewId(), request.getGenreId(), TrendingEventType.COMMENT);
 
         return savedComment.getId();
     }
@@ -45,6 +50,7 @@ public class CommentService {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(NoSuchElementException::new);
         commentRepository.delete(comment);
+        reviewRepository.updateCommentCount(comment.getReview().getId(), -1);
         return commentId;
     }
 }
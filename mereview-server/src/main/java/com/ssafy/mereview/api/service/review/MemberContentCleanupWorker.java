@@ -0,0 +1,91 @@
+package com.ssafy.mereview.api.service.review;
+
+import com.ssafy.mereview.domain.review.repository.command.MemberContentCleanupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.ssafy.mereview.domain.review.entity.CleanupStatus.PENDING;
+
+/**
+ * 회원 탈퇴 트랜잭션이 남긴 정리 기록을 읽어 그 회원의 리뷰와 활동 기록을 지운다.
+ * 실패하면 다음 시도 시각을 미뤄 남은 행부터 다시 지우고, 다 지우면 정리 기록을 지운다.
+ */
+@Slf4j
+@Component
+public class MemberContentCleanupWorker {
+
+    private static final long MAX_BACKOFF_SECONDS = 600;
+
+    private final MemberContentCleanupRepository cleanupRepository;
+    private final ReviewDeleteService reviewDeleteService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxRetryCount;
+    private final long leaseSeconds;
+
+    public MemberContentCleanupWorker(MemberContentCleanupRepository cleanupRepository,
+                                      ReviewDeleteService reviewDeleteService,
+                                      TransactionTemplate transactionTemplate,
+                                      @Value("${app.member.content-cleanup.batch-size:10}") int batchSize,
+                                      @Value("${app.member.content-cleanup.max-retry:5}") int maxRetryCount,
+                                      @Value("${app.member.content-cleanup.lease-seconds:600}") long leaseSeconds) {
+        this.cleanupRepository = cleanupRepository;
+        this.reviewDeleteService = reviewDeleteService;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxRetryCount = maxRetryCount;
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${app.member.content-cleanup.interval-ms:10000}")
+    public int drain() {
+        List<Long> memberIds = cleanupRepository.findRunnableIds(PENDING, LocalDateTime.now(), PageRequest.of(0, batchSize));
+        int cleanedCount = 0;
+        for (Long memberId : memberIds) {
+            if (cleanOne(memberId)) {
+                cleanedCount++;
+            }
+        }
+        return cleanedCount;
+    }
+
+    /**
+     * private methods
+     */
+
+    private boolean cleanOne(Long memberId) {
+        if (!claim(memberId)) {
+            return false;
+        }
+        try {
+            reviewDeleteService.deleteMemberContents(memberId);
+            transactionTemplate.executeWithoutResult(status -> cleanupRepository.findById(memberId)
+                    .ifPresent(cleanupRepository::delete));
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("member content cleanup failed. memberId: {}", memberId, e);
+            transactionTemplate.executeWithoutResult(status -> cleanupRepository.findById(memberId)
+                    .ifPresent(cleanup -> cleanup.fail(e.getMessage(), maxRetryCount, nextAttemptTime(cleanup.getRetryCount()))));
+            return false;
+        }
+    }
+
+    // 정리하는 동안 다른 인스턴스가 같은 회원을 가져가지 않도록 lease-seconds 만큼 다음 시도 시각을 미룬다.
+    private boolean claim(Long memberId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimedCount = transactionTemplate.execute(status -> cleanupRepository.claim(memberId, PENDING, now, now.plusSeconds(leaseSeconds)));
+        return claimedCount != null && claimedCount > 0;
+    }
+
+    private LocalDateTime nextAttemptTime(int retryCount) {
+        long backoffSeconds = Math.min(MAX_BACKOFF_SECONDS, 1L << Math.min(retryCount, 10));
+        return LocalDateTime.now().plusSeconds(backoffSeconds);
+    }
+}
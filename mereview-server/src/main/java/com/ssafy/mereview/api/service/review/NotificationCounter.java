@@ -0,0 +1,121 @@
+package com.ssafy.mereview.api.service.review;
+
+import com.ssafy.mereview.domain.review.entity.NotificationStatus;
+import com.ssafy.mereview.domain.review.repository.dto.NotificationCounts;
+import com.ssafy.mereview.domain.review.repository.query.NotificationQueryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.ssafy.mereview.common.util.TransactionUtils.afterCommit;
+import static com.ssafy.mereview.domain.review.entity.NotificationStatus.CONFIRMED;
+
+/**
+ * 헤더의 알림 배지용 회원별 전체/안 읽은 알림 개수.
+ * 처음 조회할 때 DB 에서 한 번 세고, 이후에는 발송, 확인, 삭제 시점에 메모리에서 증감한다.
+ * 리뷰 삭제로 함께 지워진 알림처럼 놓친 변경은 주기적으로 비워 DB 값으로 다시 맞춘다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class NotificationCounter {
+
+    private final NotificationQueryRepository notificationQueryRepository;
+
+    private final Map<Long, Counts> countsByMember = new ConcurrentHashMap<>();
+
+    // 자리를 먼저 잡고 DB 에서 센다. 세는 동안 들어온 증감은 자리에 쌓였다가 DB 값 위에 더해진다.
+    public NotificationCounts getCounts(Long memberId) {
+        Counts counts = countsByMember.computeIfAbsent(memberId, key -> new Counts());
+        if (!counts.isLoaded()) {
+            counts.load(notificationQueryRepository.searchNotificationCounts(memberId));
+        }
+        return counts.snapshot();
+    }
+
+    // 발송된 알림은 모두 안 읽은 상태다. 아직 적재되지 않은 회원은 다음 조회 때 DB 에서 센다.
+    public void increase(Collection<Long> memberIds) {
+        afterCommit(() -> memberIds.forEach(memberId -> update(memberId, 1, 1)));
+    }
+
+    // 수신자 목록 없이 장르 이벤트만 남기는 PULL 모드용. 관심 회원(정렬된 배열)과 적재된 회원 중 적은 쪽을 돈다.
+    public void increase(long[] interestedMemberIds, Long excludeMemberId) {
+        afterCommit(() -> {
+            if (interestedMemberIds.length <= countsByMember.size()) {
+                Arrays.stream(interestedMemberIds)
+                        .filter(memberId -> excludeMemberId == null || memberId != excludeMemberId)
+                        .forEach(memberId -> update(memberId, 1, 1));
+                return;
+            }
+            countsByMember.forEach((memberId, counts) -> {
+                if (!memberId.equals(excludeMemberId) && Arrays.binarySearch(interestedMemberIds, memberId) >= 0) {
+                    counts.add(1, 1);
+                }
+            });
+        });
+    }
+
+    public void changeStatus(Long memberId, NotificationStatus status) {
+        int unreadDelta = status == CONFIRMED ? -1 : 1;
+        afterCommit(() -> update(memberId, 0, unreadDelta));
+    }
+
+    public void decrease(Long memberId, NotificationStatus status) {
+        int unreadDelta = status == CONFIRMED ? 0 : -1;
+        afterCommit(() -> update(memberId, -1, unreadDelta));
+    }
+
+    public void evict(Long memberId) {
+        afterCommit(() -> countsByMember.remove(memberId));
+    }
+
+    @Scheduled(fixedDelayString = "${app.review.notification-counter.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        countsByMember.clear();
+    }
+
+    /**
+     * private methods
+     */
+
+    private void update(Long memberId, int totalDelta, int unreadDelta) {
+        Counts counts = countsByMember.get(memberId);
+        if (counts != null) {
+            counts.add(totalDelta, unreadDelta);
+        }
+    }
+
+    private static class Counts {
+        private int totalCount;
+        private int unreadCount;
+        private boolean loaded;
+
+        private synchronized boolean isLoaded() {
+            return loaded;
+        }
+
+        private synchronized void load(NotificationCounts counts) {
+            if (loaded) {
+                return;
+            }
+            totalCount += counts.getTotalCount();
+            unreadCount += counts.getUnreadCount();
+            loaded = true;
+        }
+
+        private synchronized void add(int totalDelta, int unreadDelta) {
+            totalCount += totalDelta;
+            unreadCount += unreadDelta;
+        }
+
+        private synchronized NotificationCounts snapshot() {
+            return new NotificationCounts(Math.max(0, totalCount), Math.max(0, unreadCount));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.ssafy.mereview.api.service.review;
+
+import com.ssafy.mereview.api.service.member.MemberInterestIndex;
+import com.ssafy.mereview.api.service.review.dto.response.NotificationOutboxStatusResponse;
+import com.ssafy.mereview.api.service.review.dto.response.NotificationPushResponse;
+import com.ssafy.mereview.domain.member.repository.MemberInterestQueryRepository;
+import com.ssafy.mereview.domain.review.entity.NotificationOutbox;
+import com.ssafy.mereview.domain.review.repository.command.NotificationBatchRepository;
+import com.ssafy.mereview.domain.review.repository.command.NotificationOutboxRepository;
+import com.ssafy.mereview.domain.review.repository.command.ReviewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.ssafy.mereview.domain.review.entity.OutboxStatus.FAILED;
+import static com.ssafy.mereview.domain.review.entity.OutboxStatus.PENDING;
+
+/**
+ * 리뷰 작성 트랜잭션이 남긴 아웃박스 이벤트를 읽어 수신자별 알림을 만든다.
+ * 이벤트 한 건마다 별도 트랜잭션으로 처리하고, 성공하면 이벤트를 지운다.
+ */
+@Slf4j
+@Component
+public class NotificationOutboxDispatcher {
+
+    private static final int MEMBER_LIMIT_COUNT = 100;
+    private static final long MAX_BACKOFF_SECONDS = 600;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationBatchRepository notificationBatchRepository;
+    private final ReviewRepository reviewRepository;
+    private final MemberInterestIndex memberInterestIndex;
+    private final MemberInterestQueryRepository interestQueryRepository;
+    private final NotificationCounter notificationCounter;
+    private final NotificationPushRegistry notificationPushRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxRetryCount;
+    private final long lagWarnMillis;
+
+    public NotificationOutboxDispatcher(NotificationOutboxRepository outboxRepository,
+                                        NotificationBatchRepository notificationBatchRepository,
+                                        ReviewRepository reviewRepository,
+                                        MemberInterestIndex memberInterestIndex,
+                                        MemberInterestQueryRepository interestQueryRepository,
+                                        NotificationCounter notificationCounter,
+                                        NotificationPushRegistry notificationPushRegistry,
+                                        TransactionTemplate transactionTemplate,
+                                        @Value("${app.review.notification-outbox.batch-size:100}") int batchSize,
+                                        @Value("${app.review.notification-outbox.max-retry:5}") int maxRetryCount,
+                                        @Value("${app.review.notification-outbox.lag-warn-ms:60000}") long lagWarnMillis) {
+        this.outboxRepository = outboxRepository;
+        this.notificationBatchRepository = notificationBatchRepository;
+        this.reviewRepository = reviewRepository;
+        this.memberInterestIndex = memberInterestIndex;
+        this.interestQueryRepository = interestQueryRepository;
+        this.notificationCounter = notificationCounter;
+        this.notificationPushRegistry = notificationPushRegistry;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxRetryCount = maxRetryCount;
+        this.lagWarnMillis = lagWarnMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${app.review.notification-outbox.dispatch-interval-ms:1000}")
+    public int dispatch() {
+        List<Long> outboxIds = outboxRepository.findDispatchableIds(PENDING, LocalDateTime.now(), PageRequest.of(0, batchSize));
+        int dispatchedCount = 0;
+        for (Long outboxId : outboxIds) {
+            if (dispatchOne(outboxId)) {
+                dispatchedCount++;
+            }
+        }
+
+        long lagMillis = getLagMillis();
+        if (lagMillis > lagWarnMillis) {
+            log.warn("notification outbox lag: {}ms, pending: {}", lagMillis, outboxRepository.countByStatus(PENDING));
+        }
+        return dispatchedCount;
+    }
+
+    // 가장 오래 대기 중인 이벤트의 나이. 대기 중인 이벤트가 없으면 0 이다.
+    public long getLagMillis() {
+        return outboxRepository.findFirstByStatusOrderByIdAsc(PENDING)
+                .map(outbox -> Duration.between(outbox.getCreatedTime(), LocalDateTime.now()).toMillis())
+                .orElse(0L);
+    }
+
+    public NotificationOutboxStatusResponse getStatus() {
+        return NotificationOutboxStatusResponse.builder()
+                .pendingCount(outboxRepository.countByStatus(PENDING))
+                .failedCount(outboxRepository.countByStatus(FAILED))
+                .lagMillis(getLagMillis())
+                .build();
+    }
+
+    /**
+     * private methods
+     */
+
+    private boolean dispatchOne(Long outboxId) {
+        try {
+            Boolean dispatched = transactionTemplate.execute(status -> outboxRepository.findPendingByIdForUpdate(outboxId)
+                    .map(this::fanOut)
+                    .orElse(false));
+            return Boolean.TRUE.equals(dispatched);
+        } catch (RuntimeException e) {
+            log.warn("notification outbox dispatch failed. outboxId: {}", outboxId, e);
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.findById(outboxId)
+                    .ifPresent(outbox -> outbox.fail(e.getMessage(), maxRetryCount, nextAttemptTime(outbox.getRetryCount()))));
+            return false;
+        }
+    }
+
+    private boolean fanOut(NotificationOutbox outbox) {
+        // 발송 전에 삭제된 리뷰는 알림 없이 이벤트만 정리한다.
+        if (reviewRepository.existsById(outbox.getReviewId())) {
+            List<Long> memberIds = searchNotificationMemberIds(outbox);
+            notificationBatchRepository.insertAll(outbox.getReviewId(), memberIds);
+            notificationCounter.increase(memberIds);
+            notificationPushRegistry.push(memberIds, createPushResponse(outbox));
+        }
+        outboxRepository.delete(outbox);
+        return true;
+    }
+
+    // 관심사 인덱스가 아직 적재되지 않았을 때만 DB 에서 무작위로 뽑는다.
+    private List<Long> searchNotificationMemberIds(NotificationOutbox outbox) {
+        if (memberInterestIndex.isLoaded()) {
+            return memberInterestIndex.sample(outbox.getGenreId(), outbox.getMemberId(), MEMBER_LIMIT_COUNT);
+        }
+        return interestQueryRepository.searchRandomMember(outbox.getGenreId(), outbox.getMemberId(), MEMBER_LIMIT_COUNT);
+    }
+
+    private NotificationPushResponse createPushResponse(NotificationOutbox outbox) {
+        return NotificationPushResponse.builder()
+                .reviewId(outbox.getReviewId())
+                .genreId(outbox.getGenreId())
+                .createdTime(LocalDateTime.now())
+                .build();
+    }
+
+    private LocalDateTime nextAttemptTime(int retryCount) {
+        long backoffSeconds = Math.min(MAX_BACKOFF_SECONDS, 1L << Math.min(retryCount, 10));
+        return LocalDateTime.now().plusSeconds(backoffSeconds);
+    }
+}
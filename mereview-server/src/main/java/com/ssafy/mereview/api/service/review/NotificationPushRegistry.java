@@ -0,0 +1,196 @@
+package com.ssafy.mereview.api.service.review;
+
+import com.ssafy.mereview.api.service.review.dto.response.NotificationPushResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.ssafy.mereview.common.util.TransactionUtils.afterCommit;
+
+/**
+ * 접속 중인 회원에게 새 알림을 SSE 로 밀어준다.
+ * 연결은 서블릿 비동기 요청이라 연결마다 스레드를 잡지 않고, 전송은 작은 공용 풀에서 연결별 큐를 비우며 한다.
+ * 느린 연결의 큐가 가득 차면 연결을 끊는다. 클라이언트는 다시 연결한 뒤 알림함을 새로 조회한다.
+ */
+@Slf4j
+@Component
+public class NotificationPushRegistry {
+
+    private static final String NOTIFICATION_EVENT = "notification";
+    private static final String CONNECT_EVENT = "connect";
+
+    private final Map<Long, Set<Connection>> connectionsByMember = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ExecutorService sender;
+    private final long timeoutMillis;
+    private final long heartbeatIntervalMillis;
+    private final int maxQueueSize;
+
+    public NotificationPushRegistry(@Value("${app.review.notification-push.timeout-ms:1800000}") long timeoutMillis,
+                                    @Value("${app.review.notification-push.heartbeat-interval-ms:30000}") long heartbeatIntervalMillis,
+                                    @Value("${app.review.notification-push.max-queue-size:32}") int maxQueueSize,
+                                    @Value("${app.review.notification-push.sender-threads:4}") int senderThreads) {
+        this.timeoutMillis = timeoutMillis;
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+        this.maxQueueSize = maxQueueSize;
+        this.sender = Executors.newFixedThreadPool(senderThreads);
+    }
+
+    public SseEmitter connect(Long memberId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Connection connection = new Connection(memberId, emitter);
+        connectionsByMember.computeIfAbsent(memberId, key -> ConcurrentHashMap.newKeySet()).add(connection);
+        connectionCount.incrementAndGet();
+
+        emitter.onCompletion(connection::close);
+        emitter.onTimeout(connection::close);
+        emitter.onError(e -> connection.close());
+
+        // 첫 이벤트를 바로 보내 응답 헤더를 내려보낸다.
+        connection.enqueue(SseEmitter.event().name(CONNECT_EVENT).data(memberId));
+        return emitter;
+    }
+
+    // 커밋된 뒤에 접속 중인 수신자에게만 보낸다.
+    public void push(Collection<Long> memberIds, NotificationPushResponse response) {
+        afterCommit(() -> memberIds.forEach(memberId -> send(memberId, response)));
+    }
+
+    /**
+     * 수신자 목록 없이 장르 이벤트만 남기는 PULL 모드용. 관심 회원(정렬된 배열)과 접속 회원 중 적은 쪽을 돌며
+     * 양쪽에 모두 있는 회원에게 보낸다.
+     */
+    public void pushToInterested(long[] interestedMemberIds, Long excludeMemberId, NotificationPushResponse response) {
+        afterCommit(() -> {
+            if (interestedMemberIds.length <= connectionsByMember.size()) {
+                Arrays.stream(interestedMemberIds)
+                        .filter(memberId -> excludeMemberId == null || memberId != excludeMemberId)
+                        .forEach(memberId -> send(memberId, response));
+                return;
+            }
+            connectionsByMember.keySet().stream()
+                    .filter(memberId -> !memberId.equals(excludeMemberId))
+                    .filter(memberId -> Arrays.binarySearch(interestedMemberIds, memberId) >= 0)
+                    .forEach(memberId -> send(memberId, response));
+        });
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    // 최근에 이벤트를 보낸 연결은 하트비트를 건너뛴다.
+    @Scheduled(fixedDelayString = "${app.review.notification-push.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        long threshold = System.currentTimeMillis() - heartbeatIntervalMillis;
+        connectionsByMember.values().forEach(connections -> connections.forEach(connection -> {
+            if (connection.lastSentTime < threshold) {
+                connection.enqueue(SseEmitter.event().comment("heartbeat"));
+            }
+        }));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connectionsByMember.values().forEach(connections -> connections.forEach(connection -> connection.emitter.complete()));
+        sender.shutdown();
+    }
+
+    /**
+     * private methods
+     */
+
+    private void send(Long memberId, NotificationPushResponse response) {
+        Set<Connection> connections = connectionsByMember.get(memberId);
+        if (connections == null) {
+            return;
+        }
+        connections.forEach(connection -> connection.enqueue(SseEmitter.event().name(NOTIFICATION_EVENT).data(response)));
+    }
+
+    private void remove(Connection connection) {
+        connectionsByMember.computeIfPresent(connection.memberId, (memberId, connections) -> {
+            connections.remove(connection);
+            return connections.isEmpty() ? null : connections;
+        });
+        connectionCount.decrementAndGet();
+    }
+
+    private class Connection {
+        private final Long memberId;
+        private final SseEmitter emitter;
+        private final Queue<SseEventBuilder> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queueSize = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile long lastSentTime = System.currentTimeMillis();
+
+        private Connection(Long memberId, SseEmitter emitter) {
+            this.memberId = memberId;
+            this.emitter = emitter;
+        }
+
+        private void enqueue(SseEventBuilder event) {
+            if (closed.get()) {
+                return;
+            }
+            if (queueSize.incrementAndGet() > maxQueueSize) {
+                log.debug("notification push queue overflow. memberId: {}", memberId);
+                emitter.complete();
+                close();
+                return;
+            }
+            queue.offer(event);
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEventBuilder event;
+                while (!closed.get() && (event = queue.poll()) != null) {
+                    queueSize.decrementAndGet();
+                    emitter.send(event);
+                    lastSentTime = System.currentTimeMillis();
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+            } finally {
+                draining.set(false);
+            }
+            if (!closed.get() && !queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                queue.clear();
+                remove(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.ssafy.mereview.api.service.review;
+
+import com.ssafy.mereview.api.service.review.dto.response.NotificationPurgeResponse;
+import com.ssafy.mereview.domain.review.repository.command.NotificationRetentionRepository;
+import com.ssafy.mereview.domain.review.repository.command.NotificationRetentionRepository.PurgeTarget;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.ssafy.mereview.domain.review.repository.command.NotificationRetentionRepository.PurgeTarget.GENRE_REVIEW_EVENT;
+import static com.ssafy.mereview.domain.review.repository.command.NotificationRetentionRepository.PurgeTarget.NOTIFICATION;
+
+/**
+ * 오래된 알림과 회원별 보관 개수를 넘는 알림을 정리한다.
+ * 트랜잭션 없이 청크마다 바로 커밋하고, 청크 사이에는 잠깐 쉬어 다른 쓰기가 밀리지 않게 한다.
+ * 스케줄러 스레드 풀(spring.task.scheduling.pool.size)에서 돌므로 쉬는 동안 다른 @Scheduled 작업을 막지 않는다.
+ */
+@Slf4j
+@Service
+public class NotificationRetentionService {
+
+    private final NotificationRetentionRepository retentionRepository;
+    private final NotificationCounter notificationCounter;
+    private final int maxAgeDays;
+    private final int maxPerMember;
+    private final int chunkSize;
+    private final long throttleMillis;
+    // 지난 정리 때 확인한 마지막 알림 id. 보관 개수는 새 알림이 들어와야 넘으므로 그 뒤만 본다.
+    // 재시작 뒤 첫 정리만 처음부터 PK 범위 청크로 훑는다.
+    private volatile long overCapCheckedId;
+
+    public NotificationRetentionService(NotificationRetentionRepository retentionRepository,
+                                        NotificationCounter notificationCounter,
+                                        @Value("${app.review.notification-retention.max-age-days:90}") int maxAgeDays,
+                                        @Value("${app.review.notification-retention.max-per-member:1000}") int maxPerMember,
+                                        @Value("${app.review.notification-retention.chunk-size:1000}") int chunkSize,
+                                        @Value("${app.review.notification-retention.throttle-ms:100}") long throttleMillis) {
+        this.retentionRepository = retentionRepository;
+        this.notificationCounter = notificationCounter;
+        this.maxAgeDays = maxAgeDays;
+        this.maxPerMember = maxPerMember;
+        this.chunkSize = chunkSize;
+        this.throttleMillis = throttleMillis;
+    }
+
+    @Scheduled(cron = "${app.review.notification-retention.cron:0 30 4 * * *}")
+    public NotificationPurgeResponse purge() {
+        long startTime = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(maxAgeDays);
+
+        int expiredCount = maxAgeDays > 0 ? purgeExpired(NOTIFICATION, cutoff) : 0;
+        int overCapCount = maxPerMember > 0 ? purgeOverCap() : 0;
+        int expiredEventCount = maxAgeDays > 0 ? purgeExpired(GENRE_REVIEW_EVENT, cutoff) : 0;
+
+        NotificationPurgeResponse response = NotificationPurgeResponse.builder()
+                .expiredCount(expiredCount)
+                .overCapCount(overCapCount)
+                .expiredEventCount(expiredEventCount)
+                .elapsedMillis(System.currentTimeMillis() - startTime)
+                .build();
+        if (response.getTotalCount() > 0) {
+            notificationCounter.rebuild();
+        }
+        log.info("notification purged. expired: {}, over cap: {}, expired events: {}, elapsed: {}ms",
+                expiredCount, overCapCount, expiredEventCount, response.getElapsedMillis());
+        return response;
+    }
+
+    /**
+     * private methods
+     */
+
+    // 가장 오래된 행부터 id 범위를 chunkSize 씩 밀며 지운다. 범위 첫 행이 cutoff 이후면 끝이다.
+    private int purgeExpired(PurgeTarget target, LocalDateTime cutoff) {
+        int purgedCount = 0;
+        long lastId = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            Optional<Long> firstId = retentionRepository.findFirstIdOlderThan(target, lastId, cutoff);
+            if (firstId.isEmpty()) {
+                break;
+            }
+            long fromId = firstId.get() - 1;
+            long toId = fromId + chunkSize;
+            purgedCount += retentionRepository.deleteOlderThanInRange(target, fromId, toId, cutoff);
+            lastId = toId;
+            throttle();
+        }
+        return purgedCount;
+    }
+
+    private int purgeOverCap() {
+        long maxId = retentionRepository.findMaxNotificationId();
+        Set<Long> memberIds = new LinkedHashSet<>();
+        for (long fromId = overCapCheckedId; fromId < maxId && !Thread.currentThread().isInterrupted(); fromId += chunkSize) {
+            memberIds.addAll(retentionRepository.findMemberIdsInRange(fromId, Math.min(fromId + chunkSize, maxId)));
+            throttle();
+        }
+
+        int purgedCount = 0;
+        for (Long memberId : memberIds) {
+            Optional<Long> boundaryId = retentionRepository.findCapBoundaryId(memberId, maxPerMember);
+            if (boundaryId.isEmpty()) {
+                continue;
+            }
+            int deletedCount;
+            do {
+                deletedCount = retentionRepository.deleteMemberNotificationsUntil(memberId, boundaryId.get(), chunkSize);
+                purgedCount += deletedCount;
+                throttle();
+            } while (deletedCount == chunkSize && !Thread.currentThread().isInterrupted());
+        }
+        if (!Thread.currentThread().isInterrupted()) {
+            overCapCheckedId = maxId;
+        }
+        return purgedCount;
+    }
+
+    private void throttle() {
+        if (throttleMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(throttleMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
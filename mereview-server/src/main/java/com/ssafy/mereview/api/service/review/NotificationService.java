@@ -1,37 +1,250 @@
 package com.ssafy.mereview.api.service.review;
 
+import com.ssafy.mereview.api.service.member.MemberInterestIndex;
+import com.ssafy.mereview.api.service.review.dto.response.NotificationBulkResponse;
+import com.ssafy.mereview.api.service.review.dto.response.NotificationPushResponse;
 import com.ssafy.mereview.api.service.review.dto.response.NotificationResponse;
-import com.ssafy.mereview.domain.review.entity.Notification;
+import com.ssafy.mereview.domain.review.entity.*;
+import com.ssafy.mereview.domain.review.repository.command.GenreReviewEventRepository;
+import com.ssafy.mereview.domain.review.repository.command.NotificationInboxStateRepository;
+import com.ssafy.mereview.domain.review.repository.command.NotificationOutboxRepository;
 import com.ssafy.mereview.domain.review.repository.command.NotificationRepository;
-import com.ssafy.mereview.domain.review.repository.query.NotificationQueryRepository;
-import lombok.RequiredArgsConstructor;
+import com.ssafy.mereview.domain.review.repository.dto.NotificationCounts;
+import com.ssafy.mereview.domain.review.repository.query.NotificationInboxQueryRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.NoSuchElementException;
 
+import static com.ssafy.mereview.common.util.SizeConstants.NOTIFICATION_INBOX_LIMIT;
+import static com.ssafy.mereview.domain.review.entity.NotificationInboxMode.PULL;
+import static com.ssafy.mereview.domain.review.entity.NotificationStatus.CONFIRMED;
+import static com.ssafy.mereview.domain.review.entity.NotificationStatus.UNCONFIRMED;
+import static org.springframework.util.StringUtils.hasText;
+
 @Slf4j
-@RequiredArgsConstructor
 @Transactional
 @Service
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final GenreReviewEventRepository genreReviewEventRepository;
+    private final NotificationInboxStateRepository inboxStateRepository;
+    private final NotificationCounter notificationCounter;
+    private final NotificationPushRegistry notificationPushRegistry;
+    private final MemberInterestIndex memberInterestIndex;
+    private final NotificationInboxQueryRepository inboxQueryRepository;
+    private final NotificationInboxMode inboxMode;
+
+    public NotificationService(NotificationRepository notificationRepository,
+                               NotificationOutboxRepository notificationOutboxRepository,
+                               GenreReviewEventRepository genreReviewEventRepository,
+                               NotificationInboxStateRepository inboxStateRepository,
+                               NotificationCounter notificationCounter,
+                               NotificationPushRegistry notificationPushRegistry,
+                               MemberInterestIndex memberInterestIndex,
+                               NotificationInboxQueryRepository inboxQueryRepository,
+                               @Value("${app.review.notification.inbox-mode:PUSH}") NotificationInboxMode inboxMode) {
+        this.notificationRepository = notificationRepository;
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.genreReviewEventRepository = genreReviewEventRepository;
+        this.inboxStateRepository = inboxStateRepository;
+        this.notificationCounter = notificationCounter;
+        this.notificationPushRegistry = notificationPushRegistry;
+        this.memberInterestIndex = memberInterestIndex;
+        this.inboxQueryRepository = inboxQueryRepository;
+        this.inboxMode = inboxMode;
+    }
+
+    // 리뷰 작성 트랜잭션 안에서 호출된다. PUSH 모드는 아웃박스에, PULL 모드는 장르 이벤트로 한 건만 남긴다.
+    public void publish(Long reviewId, Long genreId, Long memberId) {
+        if (inboxMode == PULL) {
+            if (genreId != null) {
+                genreReviewEventRepository.save(GenreReviewEvent.builder()
+                        .review(Review.builder().id(reviewId).build())
+                        .genreId(genreId)
+                        .memberId(memberId)
+                        .build());
+                pushToInterestedMembers(reviewId, genreId, memberId);
+            }
+            return;
+        }
+        notificationOutboxRepository.save(NotificationOutbox.builder()
+                .reviewId(reviewId)
+                .genreId(genreId)
+                .memberId(memberId)
+                .build());
+    }
 
     public NotificationResponse toggleStatus(Long notificationId) {
+        return toggleStatus(notificationId, null);
+    }
+
+    public NotificationResponse toggleStatus(Long notificationId, Long memberId) {
+        if (inboxMode == PULL) {
+            GenreReviewEvent event = getEvent(notificationId);
+            NotificationInboxState state = getInboxState(memberId);
+            if (state.isDeleted(notificationId)) {
+                throw new NoSuchElementException("존재하지 않는 알림입니다.");
+            }
+            NotificationStatus status = state.toggleStatus(notificationId);
+            notificationCounter.changeStatus(memberId, status);
+            return createNotificationResponse(event, memberId, status);
+        }
+
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(NoSuchElementException::new);
 
         notification.toggleStatus();
+        notificationCounter.changeStatus(notification.getMember().getId(), notification.getStatus());
 
         return NotificationResponse.of(notification);
     }
 
     public Long delete(Long notificationId) {
+        return delete(notificationId, null);
+    }
+
+    public Long delete(Long notificationId, Long memberId) {
+        if (inboxMode == PULL) {
+            getEvent(notificationId);
+            NotificationInboxState state = getInboxState(memberId);
+            if (state.isDeleted(notificationId)) {
+                throw new NoSuchElementException("존재하지 않는 알림입니다.");
+            }
+            notificationCounter.decrease(memberId, state.getStatus(notificationId));
+            state.delete(notificationId);
+            return notificationId;
+        }
+
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new NoSuchElementException("존재하지 않는 알림입니다."));
         notificationRepository.delete(notification);
+        notificationCounter.decrease(notification.getMember().getId(), notification.getStatus());
         return notificationId;
     }
+
+    public NotificationBulkResponse markAllRead(Long memberId) {
+        int affectedCount;
+        if (inboxMode == PULL) {
+            NotificationInboxState state = getInboxState(memberId);
+            long maxEventId = inboxQueryRepository.searchMaxEventId();
+            affectedCount = inboxQueryRepository.countInbox(memberId).getUnreadCount();
+            state.markAllRead(maxEventId);
+        } else {
+            affectedCount = notificationRepository.updateStatusByMemberId(memberId, CONFIRMED, LocalDateTime.now());
+        }
+        notificationCounter.evict(memberId);
+        return createBulkResponse(memberId, affectedCount);
+    }
+
+    public NotificationBulkResponse markRead(Long memberId, List<Long> notificationIds) {
+        validateBulkIds(notificationIds);
+        int affectedCount;
+        if (inboxMode == PULL) {
+            affectedCount = getInboxState(memberId).markRead(searchInboxEventIds(memberId, UNCONFIRMED.name(), notificationIds));
+        } else {
+            affectedCount = notificationRepository.updateStatusByMemberIdAndIds(memberId, notificationIds, CONFIRMED, LocalDateTime.now());
+        }
+        notificationCounter.evict(memberId);
+        return createBulkResponse(memberId, affectedCount);
+    }
+
+    // 알림 id 목록이 있으면 해당 알림을, 없으면 상태가 같은 알림을 모두 지운다.
+    public NotificationBulkResponse deleteAll(Long memberId, List<Long> notificationIds, String status) {
+        boolean byIds = notificationIds != null && !notificationIds.isEmpty();
+        if (!byIds && !hasText(status)) {
+            throw new IllegalArgumentException("삭제할 알림 id 나 상태가 필요합니다.");
+        }
+        if (byIds) {
+            validateBulkIds(notificationIds);
+        }
+
+        int affectedCount;
+        if (inboxMode == PULL) {
+            affectedCount = byIds
+                    ? getInboxState(memberId).deleteAll(searchInboxEventIds(memberId, null, notificationIds))
+                    : deleteAllByStatus(memberId, NotificationStatus.valueOf(status));
+        } else if (byIds) {
+            affectedCount = notificationRepository.deleteByMemberIdAndIds(memberId, notificationIds);
+        } else {
+            affectedCount = notificationRepository.deleteByMemberIdAndStatus(memberId, NotificationStatus.valueOf(status));
+        }
+        notificationCounter.evict(memberId);
+        return createBulkResponse(memberId, affectedCount);
+    }
+
+    /**
+     * private methods
+     */
+
+    private void validateBulkIds(List<Long> notificationIds) {
+        if (notificationIds == null || notificationIds.isEmpty()) {
+            throw new IllegalArgumentException("알림 id 가 필요합니다.");
+        }
+        if (notificationIds.size() > NOTIFICATION_INBOX_LIMIT) {
+            throw new IllegalArgumentException("한 번에 처리할 수 있는 알림은 " + NOTIFICATION_INBOX_LIMIT + "개까지입니다.");
+        }
+    }
+
+    // PULL 모드에서 상태가 같은 알림을 지금까지의 마지막 이벤트까지 범위로 지운다.
+    private int deleteAllByStatus(Long memberId, NotificationStatus status) {
+        NotificationInboxState state = getInboxState(memberId);
+        long maxEventId = inboxQueryRepository.searchMaxEventId();
+        NotificationCounts counts = inboxQueryRepository.countInbox(memberId);
+        state.deleteAll(status, maxEventId);
+        return status == CONFIRMED ? counts.getTotalCount() - counts.getUnreadCount() : counts.getUnreadCount();
+    }
+
+    // PULL 모드 알림함에 실제로 보이는 이벤트만 고른다. 다른 회원의 알림 id 는 여기서 걸러진다.
+    private List<Long> searchInboxEventIds(Long memberId, String status, List<Long> notificationIds) {
+        return inboxQueryRepository.searchInboxEventIds(memberId, status, notificationIds);
+    }
+
+    private NotificationBulkResponse createBulkResponse(Long memberId, int affectedCount) {
+        return NotificationBulkResponse.builder()
+                .memberId(memberId)
+                .affectedCount(affectedCount)
+                .build();
+    }
+
+    private void pushToInterestedMembers(Long reviewId, Long genreId, Long writerId) {
+        NotificationPushResponse response = NotificationPushResponse.builder()
+                .reviewId(reviewId)
+                .genreId(genreId)
+                .createdTime(LocalDateTime.now())
+                .build();
+        long[] interestedMemberIds = memberInterestIndex.getMemberIds(genreId);
+        notificationCounter.increase(interestedMemberIds, writerId);
+        notificationPushRegistry.pushToInterested(interestedMemberIds, writerId, response);
+    }
+
+    private GenreReviewEvent getEvent(Long eventId) {
+        return genreReviewEventRepository.findById(eventId)
+                .orElseThrow(() -> new NoSuchElementException("존재하지 않는 알림입니다."));
+    }
+
+    // PULL 모드의 알림 id 는 장르 이벤트 id 라 회원을 따로 받아야 한다.
+    private NotificationInboxState getInboxState(Long memberId) {
+        if (memberId == null) {
+            throw new IllegalArgumentException("회원 정보가 필요합니다.");
+        }
+        return inboxStateRepository.findByMemberIdForUpdate(memberId)
+                .orElseGet(() -> inboxStateRepository.save(NotificationInboxState.builder().memberId(memberId).build()));
+    }
+
+    private NotificationResponse createNotificationResponse(GenreReviewEvent event, Long memberId, NotificationStatus status) {
+        return NotificationResponse.builder()
+                .notificationId(event.getId())
+                .memberId(memberId)
+                .reviewId(event.getReview().getId())
+                .status(status)
+                .createdTime(event.getCreatedTime())
+                .build();
+    }
 }
@@ -0,0 +1,164 @@
+package com.ssafy.mereview.api.service.review;
+
+import com.ssafy.mereview.common.response.PageCount;
+import com.ssafy.mereview.domain.review.repository.dto.SearchCondition;
+import com.ssafy.mereview.domain.review.repository.query.NotificationQueryRepository;
+import com.ssafy.mereview.domain.review.repository.query.ReviewQueryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.ssafy.mereview.common.util.TransactionUtils.afterCommit;
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * 목록 화면의 전체 개수를 매 요청마다 COUNT 하지 않도록 캐시한다.
+ * 전체, 장르별, 회원별 개수는 리뷰 생성/삭제 시 증감하는 카운터로 유지하고
+ * 그 외 조건은 COUNT 결과를 짧은 TTL 동안 재사용하고, 검색어마다 키가 생기므로 개수를 제한한다.
+ * 전문 검색 조건은 끝까지 세지 않고 상한까지만 세어, 상한에 닿으면 추정치로 돌려준다.
+ * 카운터는 인스턴스마다 따로 유지되므로 주기적으로 비워 DB 값으로 다시 맞춘다.
+ */
+@Slf4j
+@Service
+public class ReviewCountService {
+
+    private static final String ALL_KEY = "all";
+    private static final String GENRE_KEY_PREFIX = "genre:";
+    private static final String MEMBER_KEY_PREFIX = "member:";
+
+    private final ReviewQueryRepository reviewQueryRepository;
+    private final NotificationQueryRepository notificationQueryRepository;
+
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final Cache<String, PageCount> cachedCounts;
+    private final long textSearchCountLimit;
+
+    public ReviewCountService(ReviewQueryRepository reviewQueryRepository,
+                              NotificationQueryRepository notificationQueryRepository,
+                              @Value("${app.review.count.cache-ttl-ms:30000}") long cacheTtlMillis,
+                              @Value("${app.review.count.cache-max-size:10000}") long cacheMaxSize,
+                              @Value("${app.review.count.text-search-limit:1000}") long textSearchCountLimit) {
+        this.reviewQueryRepository = reviewQueryRepository;
+        this.notificationQueryRepository = notificationQueryRepository;
+        this.textSearchCountLimit = textSearchCountLimit;
+        this.cachedCounts = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofMillis(cacheTtlMillis))
+                .build();
+    }
+
+    public PageCount countReviews(SearchCondition condition) {
+        String counterKey = getCounterKey(condition);
+        if (counterKey != null) {
+            return PageCount.exact(getCounter(counterKey, condition).get());
+        }
+
+        String cacheKey = createCacheKey(condition);
+        if (condition.hasTextFilter()) {
+            return cachedCounts.get(cacheKey, key -> countTextSearch(condition));
+        }
+        return cachedCounts.get(cacheKey, key -> PageCount.exact(reviewQueryRepository.getTotalPages(condition)));
+    }
+
+    public PageCount countNotifiedReviews(Long memberId, String status) {
+        String cacheKey = "notified:" + memberId + ":" + status;
+        return cachedCounts.get(cacheKey, key -> PageCount.exact(notificationQueryRepository.countNotifiedReviews(memberId, status)));
+    }
+
+    public void increase(Long memberId, Long genreId) {
+        afterCommit(() -> updateCounters(memberId, genreId, 1));
+    }
+
+    public void decrease(Long memberId, Long genreId) {
+        afterCommit(() -> updateCounters(memberId, genreId, -1));
+    }
+
+    @Scheduled(fixedDelayString = "${app.review.count.counter-reset-ms:600000}")
+    public void reset() {
+        counters.clear();
+    }
+
+    /**
+     * private methods
+     */
+
+    // COUNT 는 맵 잠금 밖에서 실행한다. 동시에 채우면 먼저 넣은 값을 쓴다.
+    private AtomicLong getCounter(String counterKey, SearchCondition condition) {
+        AtomicLong counter = counters.get(counterKey);
+        if (counter != null) {
+            return counter;
+        }
+        AtomicLong loaded = new AtomicLong(reviewQueryRepository.getTotalPages(condition));
+        AtomicLong existing = counters.putIfAbsent(counterKey, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private PageCount countTextSearch(SearchCondition condition) {
+        long count = reviewQueryRepository.countUpTo(condition, textSearchCountLimit + 1);
+        if (count > textSearchCountLimit) {
+            return PageCount.estimated(textSearchCountLimit);
+        }
+        return PageCount.exact(count);
+    }
+
+    private String getCounterKey(SearchCondition condition) {
+        if (condition.hasTextFilter() || hasText(condition.getTerm()) || hasText(condition.getMyInterest())) {
+            return null;
+        }
+
+        boolean hasGenre = hasText(condition.getGenreId());
+        boolean hasMember = hasText(condition.getMemberId());
+        if (hasGenre && hasMember) {
+            return null;
+        }
+        if (hasGenre) {
+            return GENRE_KEY_PREFIX + Long.parseLong(condition.getGenreId());
+        }
+        if (hasMember) {
+            return MEMBER_KEY_PREFIX + Long.parseLong(condition.getMemberId());
+        }
+        return ALL_KEY;
+    }
+
+    // 정렬 조건은 개수에 영향을 주지 않으므로 키에서 제외한다.
+    private String createCacheKey(SearchCondition condition) {
+        return String.join("|",
+                normalize(condition.getTitle()),
+                normalize(condition.getContent()),
+                normalize(condition.getNickname()),
+                normalize(condition.getMemberId()),
+                normalize(condition.getMyInterest()),
+                normalize(condition.getTerm()),
+                normalize(condition.getGenreId()));
+    }
+
+    private String normalize(String value) {
+        return hasText(value) ? value.trim().toLowerCase() : "";
+    }
+
+    private void updateCounters(Long memberId, Long genreId, long delta) {
+        updateCounter(ALL_KEY, delta);
+        if (memberId != null) {
+            updateCounter(MEMBER_KEY_PREFIX + memberId, delta);
+        }
+        if (genreId != null) {
+            updateCounter(GENRE_KEY_PREFIX + genreId, delta);
+        }
+    }
+
+    // 아직 읽히지 않은 카운터는 다음 조회 때 DB 에서 정확한 값으로 채워진다.
+    private void updateCounter(String key, long delta) {
+        AtomicLong counter = counters.get(key);
+        if (counter != null) {
+            counter.addAndGet(delta);
+        }
+    }
+}
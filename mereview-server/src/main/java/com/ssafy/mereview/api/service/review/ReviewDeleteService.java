@@ -0,0 +1,135 @@
+package com.ssafy.mereview.api.service.review;
+
+import com.ssafy.mereview.domain.review.repository.command.MemberContentCleanupRepository;
+import com.ssafy.mereview.domain.review.repository.command.ReviewDeleteRepository;
+import com.ssafy.mereview.domain.review.repository.command.ReviewDeleteRepository.DeletableReview;
+import com.ssafy.mereview.domain.review.repository.command.ReviewDeleteRepository.MemberChildTable;
+import com.ssafy.mereview.domain.review.repository.command.ReviewDeleteRepository.ReviewChildTable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Collectors;
+
+import static com.ssafy.mereview.common.util.TransactionUtils.afterCommit;
+
+/**
+ * 리뷰와 그에 딸린 행을 집합 단위 DELETE 로 지운다.
+ * 자식 테이블부터 batch-size 개씩 잘라 청크마다 따로 커밋하고, 지운 리뷰가 들어 있던 캐시를 함께 비운다.
+ * 청크 트랜잭션이 호출한 쪽 트랜잭션과 잠금을 다투지 않도록 트랜잭션 밖에서 부른다.
+ */
+@Slf4j
+@Service
+public class ReviewDeleteService {
+
+    private final ReviewDeleteRepository reviewDeleteRepository;
+    private final MemberContentCleanupRepository cleanupRepository;
+    private final ReviewCountService reviewCountService;
+    private final ReviewTrendingEngine reviewTrendingEngine;
+    private final ReviewHitCounter reviewHitCounter;
+    private final NotificationCounter notificationCounter;
+    private final TransactionTemplate chunkTransactionTemplate;
+    private final int batchSize;
+
+    public ReviewDeleteService(ReviewDeleteRepository reviewDeleteRepository,
+                               MemberContentCleanupRepository cleanupRepository,
+                               ReviewCountService reviewCountService,
+                               ReviewTrendingEngine reviewTrendingEngine,
+                               ReviewHitCounter reviewHitCounter,
+                               NotificationCounter notificationCounter,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.review.delete.batch-size:500}") int batchSize) {
+        this.reviewDeleteRepository = reviewDeleteRepository;
+        this.cleanupRepository = cleanupRepository;
+        this.reviewCountService = reviewCountService;
+        this.reviewTrendingEngine = reviewTrendingEngine;
+        this.reviewHitCounter = reviewHitCounter;
+        this.notificationCounter = notificationCounter;
+        this.batchSize = batchSize;
+
+        // 청크마다 바로 커밋되도록 항상 새 트랜잭션을 연다.
+        this.chunkTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 실제로 지운 리뷰 id 를 돌려준다. 중간에 실패해도 다시 부르면 남은 행부터 지운다.
+    public List<Long> deleteReviews(Collection<Long> reviewIds) {
+        List<DeletableReview> reviews = reviewDeleteRepository.findReviewsByIds(reviewIds);
+        if (reviews.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return deleteAll(reviews);
+    }
+
+    // 탈퇴한 회원의 리뷰와 활동 기록을 지운다. 모든 단계를 다시 실행해도 안전하고,
+    // 카운터 차감은 정리 기록(MemberContentCleanup)에 표시해 한 번만 한다.
+    public int deleteMemberContents(Long memberId) {
+        int deletedReviewCount = 0;
+        long lastReviewId = 0L;
+        while (true) {
+            List<DeletableReview> reviews = reviewDeleteRepository.findReviewsByMemberId(memberId, lastReviewId, batchSize);
+            if (reviews.isEmpty()) {
+                break;
+            }
+            deleteAll(reviews);
+            deletedReviewCount += reviews.size();
+            lastReviewId = reviews.get(reviews.size() - 1).getReviewId();
+        }
+
+        chunkTransactionTemplate.executeWithoutResult(status -> {
+            if (cleanupRepository.markCountersSubtracted(memberId) > 0) {
+                reviewDeleteRepository.subtractEvaluationCounts(memberId);
+                reviewDeleteRepository.subtractCommentCounts(memberId);
+            }
+        });
+        deleteInChunkTransactions(limit -> reviewDeleteRepository.deleteCommentLikesByCommentWriter(memberId, limit));
+        for (MemberChildTable table : MemberChildTable.values()) {
+            deleteInChunkTransactions(limit -> reviewDeleteRepository.deleteByMemberId(table, memberId, limit));
+        }
+        deleteInChunkTransactions(limit -> reviewDeleteRepository.deleteFollows(memberId, limit));
+        notificationCounter.evict(memberId);
+
+        log.info("member contents deleted: memberId={}, reviews={}", memberId, deletedReviewCount);
+        return deletedReviewCount;
+    }
+
+    /**
+     * private methods
+     */
+
+    private List<Long> deleteAll(List<DeletableReview> reviews) {
+        List<Long> reviewIds = reviews.stream().map(DeletableReview::getReviewId).collect(Collectors.toList());
+        List<Long> notifiedMemberIds = reviewDeleteRepository.findNotifiedMemberIds(reviewIds);
+
+        deleteInChunkTransactions(limit -> reviewDeleteRepository.deleteCommentLikesByReviewIds(reviewIds, limit));
+        for (ReviewChildTable table : ReviewChildTable.values()) {
+            deleteInChunkTransactions(limit -> reviewDeleteRepository.deleteByReviewIds(table, reviewIds, limit));
+        }
+        chunkTransactionTemplate.executeWithoutResult(status -> {
+            reviewDeleteRepository.deleteReviews(reviewIds);
+            reviews.forEach(review -> reviewCountService.decrease(review.getMemberId(), review.getGenreId()));
+            afterCommit(() -> reviewIds.forEach(reviewId -> {
+                reviewTrendingEngine.remove(reviewId);
+                reviewHitCounter.discard(reviewId);
+            }));
+        });
+        notifiedMemberIds.forEach(notificationCounter::evict);
+        return reviewIds;
+    }
+
+    private void deleteInChunkTransactions(IntUnaryOperator deleteChunk) {
+        while (true) {
+            Integer deletedCount = chunkTransactionTemplate.execute(status -> deleteChunk.applyAsInt(batchSize));
+            if (deletedCount == null || deletedCount < batchSize) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.ssafy.mereview.api.service.review;
+
+import com.ssafy.mereview.domain.review.entity.ReviewEvaluationType;
+import com.ssafy.mereview.domain.review.repository.command.ReviewRepository;
+import com.ssafy.mereview.domain.review.repository.dto.ReviewEvaluationCounts;
+import com.ssafy.mereview.domain.review.repository.query.CommentQueryRepository;
+import com.ssafy.mereview.domain.review.repository.query.ReviewEvaluationQueryRepository;
+import com.ssafy.mereview.domain.review.repository.query.ReviewQueryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.ssafy.mereview.domain.review.entity.ReviewEvaluationType.*;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ReviewEvaluationCountReconcileService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final ReviewQueryRepository reviewQueryRepository;
+    private final ReviewEvaluationQueryRepository reviewEvaluationQueryRepository;
+    private final CommentQueryRepository commentQueryRepository;
+    private final ReviewRepository reviewRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.review.evaluation-count.reconcile-on-startup:true}")
+    private boolean reconcileOnStartup;
+
+    // 카운터 컬럼이 새로 추가된 배포 직후에는 값이 모두 0 이라 목록과 정렬이 틀린다.
+    // 새벽 작업을 기다리지 않고 트래픽을 받기 전에 한 번 맞춘다. 바뀐 행만 갱신하므로 평소 기동에는 읽기만 한다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (reconcileOnStartup) {
+            reconcile();
+        }
+    }
+
+    @Scheduled(cron = "${app.review.evaluation-count.reconcile-cron:0 0 4 * * *}")
+    public int reconcile() {
+        int reconciledCount = 0;
+        Long lastReviewId = 0L;
+        while (true) {
+            List<ReviewEvaluationCounts> storedCounts = reviewQueryRepository.searchEvaluationCountsAfter(lastReviewId, CHUNK_SIZE);
+            if (storedCounts.isEmpty()) {
+                break;
+            }
+            Integer chunkCount = transactionTemplate.execute(status -> reconcileChunk(storedCounts));
+            reconciledCount += chunkCount == null ? 0 : chunkCount;
+            lastReviewId = storedCounts.get(storedCounts.size() - 1).getReviewId();
+        }
+        log.info("review evaluation counts reconciled: {}", reconciledCount);
+        return reconciledCount;
+    }
+
+    /**
+     * private methods
+     */
+
+    private int reconcileChunk(List<ReviewEvaluationCounts> storedCounts) {
+        List<Long> reviewIds = storedCounts.stream().map(ReviewEvaluationCounts::getReviewId).collect(Collectors.toList());
+        Map<Long, Map<ReviewEvaluationType, Integer>> actualCountsMap = reviewEvaluationQueryRepository.getCountByReviewIdsGroupedByType(reviewIds);
+        Map<Long, Integer> commentCountMap = commentQueryRepository.countByReviewIds(reviewIds);
+
+        int reconciledCount = 0;
+        for (ReviewEvaluationCounts stored : storedCounts) {
+            int commentCount = commentCountMap.getOrDefault(stored.getReviewId(), 0);
+            if (stored.getCommentCount() != commentCount) {
+                log.debug("reconcile review comment count: {} -> comment={}", stored, commentCount);
+                reconciledCount += reviewRepository.reconcileCommentCount(stored.getReviewId(), commentCount, stored.getCommentCount());
+            }
+
+            Map<ReviewEvaluationType, Integer> actualCounts = actualCountsMap.getOrDefault(stored.getReviewId(), Collections.emptyMap());
+            int funCount = actualCounts.getOrDefault(FUN, 0);
+            int usefulCount = actualCounts.getOrDefault(USEFUL, 0);
+            int badCount = actualCounts.getOrDefault(BAD, 0);
+            if (stored.getFunCount() == funCount && stored.getUsefulCount() == usefulCount && stored.getBadCount() == badCount) {
+                continue;
+            }
+            log.debug("reconcile review evaluation counts: {} -> fun={}, useful={}, bad={}", stored, funCount, usefulCount, badCount);
+            reconciledCount += reviewRepository.reconcileEvaluationCounts(stored.getReviewId(), funCount, usefulCount, badCount,
+                    stored.getFunCount(), stored.getUsefulCount(), stored.getBadCount());
+        }
+        return reconciledCount;
+    }
+}
@@ -6,6 +6,7 @@ import com.ssafy.mereview.domain.member.entity.MemberTier;
 import com.ssafy.mereview.domain.member.repository.MemberTierQueryRepository;
 import com.ssafy.mereview.domain.review.entity.ReviewEvaluation;
 import com.ssafy.mereview.domain.review.entity.ReviewEvaluationType;
+import com.ssafy.mereview.domain.review.repository.command.ReviewRepository;
 import com.ssafy.mereview.domain.review.repository.query.ReviewEvaluationQueryRepository;
 import com.ssafy.mereview.domain.review.repository.command.ReviewEvaluationRepository;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +30,8 @@ public class ReviewEvaluationService {
     private final ReviewEvaluationRepository evaluationRepository;
     private final ReviewEvaluationQueryRepository evaluationQueryRepository;
     private final MemberTierQueryRepository memberTierQueryRepository;
+    private final ReviewRepository reviewRepository;
+    private final ReviewTrendingEngine reviewTrendingEngine;
 
     public ReviewEvaluationResponse update(ReviewEvaluationServiceRequest request) {
         Optional<ReviewEvaluation> reviewEvaluation = evaluationQueryRepository.searchByReviewAndMember(request.getReviewId(), request.getMemberId());
@@ -60,14 +63,31 @@ public class ReviewEvaluationService {
 
     private void createReviewEvaluation(ReviewEvaluationServiceRequest request) {
         evaluationRepository.save(request.toEntity());
+        updateReviewEvaluationCount(request.getReviewId(), request.getType(), 1);
         updateExperienceAfterEvaluation(request);
+        reviewTrendingEngine.record(request.getReviewId(), request.getGenreId(), TrendingEventType.EVALUATION);
     }
 
     private void deleteReviewEvaluation(ReviewEvaluationServiceRequest request, ReviewEvaluation evaluation) {
         evaluationRepository.delete(evaluation);
+        updateReviewEvaluationCount(request.getReviewId(), evaluation.getType(), -1);
         updateExperienceAfterCancelEvaluation(request);
     }
 
+    private void updateReviewEvaluationCount(Long reviewId, ReviewEvaluationType type, int delta) {
+        switch (type) {
+            case FUN:
+                reviewRepository.updateFunCount(reviewId, delta);
+                break;
+            case USEFUL:
+                reviewRepository.updateUsefulCount(reviewId, delta);
+                break;
+            case BAD:
+                reviewRepository.updateBadCount(reviewId, delta);
+                break;
+        }
+    }
+
     private void updateExperienceAfterEvaluation(ReviewEvaluationServiceRequest request) {
         MemberTier memberTier = memberTierQueryRepository.searchMemberTierByMemberId(request.getMemberId(), request.getGenreId());
         log.debug("memberTier: {}", memberTier);
@@ -0,0 +1,66 @@
+package com.ssafy.mereview.api.service.review;
+
+import com.ssafy.mereview.domain.review.repository.command.ReviewHitsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 리뷰 조회수를 메모리에 모아 두었다가 주기적으로 배치 UPDATE 로 반영한다.
+ * flush 는 키를 remove 하며 누적값을 가져가므로, 그 사이 들어온 조회수는 다음 flush 로 넘어간다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ReviewHitCounter {
+
+    private final ReviewHitsRepository reviewHitsRepository;
+
+    private final ConcurrentHashMap<Long, Integer> pendingHits = new ConcurrentHashMap<>();
+
+    public void increase(Long reviewId) {
+        pendingHits.merge(reviewId, 1, Integer::sum);
+    }
+
+    public int getPendingHits(Long reviewId) {
+        return pendingHits.getOrDefault(reviewId, 0);
+    }
+
+    // 지워진 리뷰에 쌓인 조회수는 반영할 곳이 없으므로 버린다.
+    public void discard(Long reviewId) {
+        pendingHits.remove(reviewId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.review.hits.flush-interval-ms:5000}")
+    public void flush() {
+        Map<Long, Integer> hitsByReviewId = new HashMap<>();
+        for (Long reviewId : pendingHits.keySet()) {
+            Integer hits = pendingHits.remove(reviewId);
+            if (hits != null) {
+                hitsByReviewId.put(reviewId, hits);
+            }
+        }
+        if (hitsByReviewId.isEmpty()) {
+            return;
+        }
+
+        try {
+            reviewHitsRepository.increaseHits(hitsByReviewId);
+            log.debug("review hits flushed: {} reviews", hitsByReviewId.size());
+        } catch (RuntimeException e) {
+            log.warn("review hits flush failed, retry on next flush: {} reviews", hitsByReviewId.size(), e);
+            hitsByReviewId.forEach((reviewId, hits) -> pendingHits.merge(reviewId, hits, Integer::sum));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -2,15 +2,20 @@ package com.ssafy.mereview.api.service.review;
 
 import com.ssafy.mereview.api.service.member.dto.response.MemberTierResponse;
 import com.ssafy.mereview.api.service.member.dto.response.ProfileImageResponse;
-import com.ssafy.mereview.api.service.movie.dto.response.GenreResponse;
+import com.ssafy.mereview.api.service.movie.GenreDictionary;
 import com.ssafy.mereview.api.service.review.dto.response.*;
+import com.ssafy.mereview.common.response.CursorPageResponse;
+import com.ssafy.mereview.common.response.PageCount;
 import com.ssafy.mereview.domain.member.entity.Member;
 import com.ssafy.mereview.domain.member.entity.MemberTier;
 import com.ssafy.mereview.domain.member.entity.ProfileImage;
 import com.ssafy.mereview.domain.movie.entity.Movie;
 import com.ssafy.mereview.domain.review.entity.*;
+import com.ssafy.mereview.domain.review.repository.dto.NotificationCursor;
+import com.ssafy.mereview.domain.review.repository.dto.NotifiedReviewDto;
+import com.ssafy.mereview.domain.review.repository.dto.ReviewCursor;
+import com.ssafy.mereview.domain.review.repository.dto.ReviewDto;
 import com.ssafy.mereview.domain.review.repository.dto.SearchCondition;
-import com.ssafy.mereview.domain.review.repository.query.CommentLikeQueryRepository;
 import com.ssafy.mereview.domain.review.repository.query.NotificationQueryRepository;
 import com.ssafy.mereview.domain.review.repository.query.ReviewEvaluationQueryRepository;
 import com.ssafy.mereview.domain.review.repository.query.ReviewQueryRepository;
@@ -18,19 +23,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.NoSuchElementException;
-import java.util.Optional;
+import java.util.*;
 import java.util.stream.Collectors;
 
+import static com.ssafy.mereview.api.service.review.TrendingEventType.VIEW;
 import static com.ssafy.mereview.common.util.SizeConstants.PAGE_SIZE;
-import static com.ssafy.mereview.domain.review.entity.CommentLikeType.DISLIKE;
-import static com.ssafy.mereview.domain.review.entity.CommentLikeType.LIKE;
 import static com.ssafy.mereview.domain.review.entity.ReviewEvaluationType.*;
-import static java.util.Comparator.comparingInt;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -40,25 +41,48 @@ public class ReviewQueryService {
     private final ReviewQueryRepository reviewQueryRepository;
     private final ReviewEvaluationQueryRepository reviewEvaluationQueryRepository;
     private final NotificationQueryRepository notificationQueryRepository;
-    private final CommentLikeQueryRepository commentLikeQueryRepository;
+    private final CommentQueryService commentQueryService;
+    private final ReviewHitCounter reviewHitCounter;
+    private final ReviewCountService reviewCountService;
+    private final ReviewTrendingEngine reviewTrendingEngine;
+    private final GenreDictionary genreDictionary;
 
     public List<ReviewResponse> searchByCondition(SearchCondition condition, Pageable pageable) {
-        List<Review> reviews = reviewQueryRepository.searchByCondition(condition, pageable);
+        List<ReviewDto> reviews = reviewQueryRepository.searchByCondition(condition, pageable);
         log.debug("reviews: {}", reviews);
 
         List<ReviewResponse> responses = createReviewResponses(reviews);
-        sortByReviewEvaluationTypeCounts(responses, condition.getOrderBy(), condition.getOrderDir());
         log.debug("responses: {}", responses);
 
         return responses;
 
     }
 
-    public int calculatePageCount(SearchCondition condition) {
-        return ((reviewQueryRepository.getTotalPages(condition) - 1) / PAGE_SIZE) + 1;
+    public CursorPageResponse<List<ReviewResponse>> searchByCursor(SearchCondition condition, String cursor) {
+        ReviewCursor reviewCursor = ReviewCursor.decode(cursor, condition.getOrderBy(), condition.getOrderDir());
+        List<ReviewDto> reviews = reviewQueryRepository.searchByCursor(condition, reviewCursor, PAGE_SIZE + 1);
+
+        boolean hasNext = reviews.size() > PAGE_SIZE;
+        if (hasNext) {
+            reviews = reviews.subList(0, PAGE_SIZE);
+        }
+
+        String nextCursor = hasNext
+                ? ReviewCursor.of(reviews.get(reviews.size() - 1), condition.getOrderBy(), condition.getOrderDir()).encode()
+                : null;
+
+        return CursorPageResponse.<List<ReviewResponse>>builder()
+                .data(createReviewResponses(reviews))
+                .pageSize(PAGE_SIZE)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    public PageCount calculatePageCount(SearchCondition condition) {
+        return reviewCountService.countReviews(condition);
     }
 
-    @Transactional
     public ReviewDetailResponse searchById(Long reviewId, Long loginMemberId) {
         Review review = reviewQueryRepository.searchById(reviewId);
         if (review == null) {
@@ -68,121 +92,97 @@ public class ReviewQueryService {
         return createReviewDetailResponse(loginMemberId, review);
     }
 
+    // 메모리의 스냅샷만 읽으므로 트랜잭션(커넥션)을 열지 않는다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<TrendingReviewResponse> searchTrending(Long genreId) {
+        return reviewTrendingEngine.getTrending(genreId);
+    }
+
     public List<NotifiedReviewResponse> searchNotifiedReviews(Long loginMemberId, String status, Pageable pageable) {
-        List<Long> reviewIds = notificationQueryRepository.searchReviewIdsByMemberIdAndStatus(loginMemberId, status);
-        List<Review> reviews = reviewQueryRepository.searchNotifiedReviews(reviewIds, pageable);
-        return createNotifiedReviewResponses(reviews, loginMemberId);
+        List<NotifiedReviewDto> notifiedReviews = notificationQueryRepository.searchNotifiedReviews(loginMemberId, status, pageable);
+        return createNotifiedReviewResponses(notifiedReviews);
     }
 
-    public int calculateNotifiedPageCount(Long memberId, String status) {
-        List<Long> reviewIds = notificationQueryRepository.searchReviewIdsByMemberIdAndStatus(memberId, status);
-        return ((reviewQueryRepository.getNotifiedTotalPages(reviewIds) - 1) / PAGE_SIZE) + 1;
+    public CursorPageResponse<List<NotifiedReviewResponse>> searchNotifiedReviewsByCursor(Long loginMemberId, String status, String cursor) {
+        NotificationCursor notificationCursor = NotificationCursor.decode(cursor);
+        List<NotifiedReviewDto> notifiedReviews = notificationQueryRepository.searchNotifiedReviews(loginMemberId, status, notificationCursor, PAGE_SIZE + 1);
+
+        boolean hasNext = notifiedReviews.size() > PAGE_SIZE;
+        if (hasNext) {
+            notifiedReviews = notifiedReviews.subList(0, PAGE_SIZE);
+        }
+
+        String nextCursor = hasNext
+                ? NotificationCursor.of(notifiedReviews.get(notifiedReviews.size() - 1)).encode()
+                : null;
+
+        return CursorPageResponse.<List<NotifiedReviewResponse>>builder()
+                .data(createNotifiedReviewResponses(notifiedReviews))
+                .pageSize(PAGE_SIZE)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    public PageCount calculateNotifiedPageCount(Long memberId, String status) {
+        return reviewCountService.countNotifiedReviews(memberId, status);
     }
 
     /**
      * private methods
      */
 
-    private List<ReviewResponse> createReviewResponses(List<Review> reviews) {
+    private List<ReviewResponse> createReviewResponses(List<ReviewDto> reviews) {
         return reviews.stream()
-                .map(review -> {
-                            Movie movie = review.getMovie();
-                            Member writeMember = review.getMember();
-                            return ReviewResponse.builder()
-                                    .reviewId(review.getId())
-                                    .reviewTitle(review.getTitle())
-                                    .hits(review.getHits())
-                                    .highlight(review.getHighlight())
-                                    .movieRecommendType(review.getType())
-                                    .commentCount(review.getComments().size())
-                                    .positiveCount(getPositiveCount(review.getId()))
-                                    .funCount(getTypeCountByReviewAndType(FUN, review.getId()))
-                                    .usefulCount(getTypeCountByReviewAndType(USEFUL, review.getId()))
-                                    .badCount(getTypeCountByReviewAndType(BAD, review.getId()))
-                                    .backgroundImageResponse(createBackgroundImageResponse(review.getBackgroundImage()))
-                                    .createdTime(review.getCreatedTime())
-                                    .memberId(writeMember.getId())
-                                    .nickname(writeMember.getNickname())
-                                    .profileImage(getProfileImageResponse(writeMember.getProfileImage()))
-                                    .movieId(movie.getId())
-                                    .movieTitle(movie.getTitle())
-                                    .movieReleaseDate(movie.getReleaseDate())
-                                    .genreResponse(GenreResponse.of(review.getGenre()))
-                                    .build();
-                        }
-                ).collect(Collectors.toList());
-    }
-
-    private List<NotifiedReviewResponse> createNotifiedReviewResponses(List<Review> reviews, Long loginMemberId) {
-        return reviews.stream()
-                .map(review -> {
-                            Movie movie = review.getMovie();
-                            Member writeMember = review.getMember();
-                            return NotifiedReviewResponse.builder()
-                                    .notificationId(searchNotificationId(review.getId(), loginMemberId))
-                                    .reviewId(review.getId())
-                                    .reviewTitle(review.getTitle())
-                                    .hits(review.getHits())
-                                    .highlight(review.getHighlight())
-                                    .movieRecommendType(review.getType())
-                                    .commentCount(review.getComments().size())
-                                    .positiveCount(getPositiveCount(review.getId()))
-                                    .funCount(getTypeCountByReviewAndType(FUN, review.getId()))
-                                    .usefulCount(getTypeCountByReviewAndType(USEFUL, review.getId()))
-                                    .badCount(getTypeCountByReviewAndType(BAD, review.getId()))
-                                    .backgroundImageResponse(createBackgroundImageResponse(review.getBackgroundImage()))
-                                    .createdTime(review.getCreatedTime())
-                                    .memberId(writeMember.getId())
-                                    .nickname(writeMember.getNickname())
-                                    .profileImage(getProfileImageResponse(writeMember.getProfileImage()))
-                                    .movieId(movie.getId())
-                                    .movieTitle(movie.getTitle())
-                                    .movieReleaseDate(movie.getReleaseDate())
-                                    .genreResponse(GenreResponse.of(review.getGenre()))
-                                    .build();
-                        }
-                ).collect(Collectors.toList());
+                .map(ReviewResponse::of)
+                .collect(Collectors.toList());
     }
 
-    private Long searchNotificationId(Long reviewId, Long loginMemberId) {
-        return notificationQueryRepository.searchByReviewIdAndMemberId(reviewId, loginMemberId)
-                .map(Notification::getId).orElse(-1L);
+    private List<NotifiedReviewResponse> createNotifiedReviewResponses(List<NotifiedReviewDto> notifiedReviews) {
+        return notifiedReviews.stream()
+                .map(notifiedReview -> NotifiedReviewResponse.of(notifiedReview.getNotificationId(), ReviewResponse.of(notifiedReview.getReview())))
+                .collect(Collectors.toList());
     }
 
     private ReviewDetailResponse createReviewDetailResponse(Long loginMemberId, Review review) {
+        Map<Long, Map<ReviewEvaluationType, Integer>> evaluationCountsMap = getEvaluationCountsMap(List.of(review));
         Member writeMember = review.getMember();
         Movie movie = review.getMovie();
+        CursorPageResponse<List<CommentResponse>> comments = commentQueryService.searchByReviewId(review.getId(), null, loginMemberId);
         return ReviewDetailResponse.builder()
                 .reviewId(review.getId())
                 .reviewTitle(review.getTitle())
                 .reviewContent(review.getContent())
                 .movieEvaluatedType(String.valueOf(review.getType()))
-                .hits(review.getHits())
+                .hits(review.getHits() + reviewHitCounter.getPendingHits(review.getId()))
                 .backgroundImage(createBackgroundImageResponse(review.getBackgroundImage()))
                 .reviewHighlight(review.getHighlight())
                 .createdTime(review.getCreatedTime())
                 .keywords(getKeywordResponses(review.getKeywords()))
                 .reviewEvaluationType(getReviewEvaluationType(review.getId(), loginMemberId))
                 .isDone(checkIsDone(review.getId(), loginMemberId))
-                .positiveCount(getPositiveCount(review.getId()))
-                .funCount(getTypeCountByReviewAndType(FUN, review.getId()))
-                .usefulCount(getTypeCountByReviewAndType(USEFUL, review.getId()))
-                .badCount(getTypeCountByReviewAndType(BAD, review.getId()))
+                .positiveCount(getPositiveCount(evaluationCountsMap, review.getId()))
+                .funCount(getTypeCount(evaluationCountsMap, FUN, review.getId()))
+                .usefulCount(getTypeCount(evaluationCountsMap, USEFUL, review.getId()))
+                .badCount(getTypeCount(evaluationCountsMap, BAD, review.getId()))
                 .movieId(movie.getId())
                 .movieTitle(movie.getTitle())
-                .genre(GenreResponse.of(review.getGenre()))
+                .genre(genreDictionary.getById(review.getGenre().getId()))
                 .movieReleaseDate(movie.getReleaseDate())
                 .memberId(writeMember.getId())
                 .nickname(writeMember.getNickname())
                 .memberTiers(getMemberTierResponses(writeMember.getMemberTiers()))
                 .profileImage(getProfileImageResponse(writeMember.getProfileImage()))
-                .comments(createCommentResponses(review.getComments(), review.getMember().getId()))
+                .comments(comments.getData())
+                .commentNextCursor(comments.getNextCursor())
+                .commentCount(commentQueryService.countByReviewId(review.getId()))
                 .build();
     }
 
     private void increaseHits(Long loginMemberId, Review review) {
         if (!review.getMember().getId().equals(loginMemberId)) {
-            review.increaseHits();
+            reviewHitCounter.increase(review.getId());
+            reviewTrendingEngine.record(review.getId(), review.getGenre() == null ? null : review.getGenre().getId(), VIEW);
         }
     }
 
@@ -196,12 +196,17 @@ public class ReviewQueryService {
         return reviewEvaluation.isPresent();
     }
 
-    private int getPositiveCount(Long reviewId) {
-        return getTypeCountByReviewAndType(FUN, reviewId) + getTypeCountByReviewAndType(USEFUL, reviewId);
+    private Map<Long, Map<ReviewEvaluationType, Integer>> getEvaluationCountsMap(List<Review> reviews) {
+        List<Long> reviewIds = reviews.stream().map(Review::getId).collect(Collectors.toList());
+        return reviewEvaluationQueryRepository.getCountByReviewIdsGroupedByType(reviewIds);
     }
 
-    private int getTypeCountByReviewAndType(ReviewEvaluationType type, Long reviewId) {
-        return reviewEvaluationQueryRepository.getCountByReviewIdAndType(reviewId, type);
+    private int getPositiveCount(Map<Long, Map<ReviewEvaluationType, Integer>> evaluationCountsMap, Long reviewId) {
+        return getTypeCount(evaluationCountsMap, FUN, reviewId) + getTypeCount(evaluationCountsMap, USEFUL, reviewId);
+    }
+
+    private int getTypeCount(Map<Long, Map<ReviewEvaluationType, Integer>> evaluationCountsMap, ReviewEvaluationType type, Long reviewId) {
+        return evaluationCountsMap.getOrDefault(reviewId, Collections.emptyMap()).getOrDefault(type, 0);
     }
 
     private BackgroundImageResponse createBackgroundImageResponse(BackgroundImage backgroundImage) {
@@ -211,32 +216,6 @@ public class ReviewQueryService {
         return BackgroundImageResponse.of(backgroundImage);
     }
 
-    private void sortByReviewEvaluationTypeCounts(List<ReviewResponse> responses, String orderBy, String orderDir) {
-        switch (orderBy) {
-            case "FUN":
-                if (orderDir.equals("ASC")) {
-                    responses.sort(comparingInt(ReviewResponse::getFunCount));
-                } else {
-                    responses.sort(comparingInt(ReviewResponse::getFunCount).reversed());
-                }
-                break;
-            case "USEFUL":
-                if (orderDir.equals("ASC")) {
-                    responses.sort(comparingInt(ReviewResponse::getUsefulCount));
-                } else {
-                    responses.sort(comparingInt(ReviewResponse::getUsefulCount).reversed());
-                }
-                break;
-            case "POSITIVE":
-                if (orderDir.equals("ASC")) {
-                    responses.sort(comparingInt(ReviewResponse::getPositiveCount));
-                } else {
-                    responses.sort(comparingInt(ReviewResponse::getPositiveCount).reversed());
-                }
-                break;
-        }
-    }
-
     private List<KeywordResponse> getKeywordResponses(List<Keyword> keywords) {
         return keywords.stream().map(KeywordResponse::of).collect(Collectors.toList());
     }
@@ -248,33 +227,6 @@ public class ReviewQueryService {
         return memberTiers.stream().map(MemberTierResponse::of).collect(Collectors.toList());
     }
 
-    private List<CommentResponse> createCommentResponses(List<Comment> comments, Long memberId) {
-        return comments.stream()
-                .map(comment ->
-                        CommentResponse.builder()
-                                .commentId(comment.getId())
-                                .memberId(comment.getMember().getId())
-                                .nickname(comment.getMember().getNickname())
-                                .content(comment.getContent())
-                                .isDone(checkIsDone(comment, memberId))
-                                .likeCount(getCountByType(LIKE, comment.getId()))
-                                .dislikeCount(getCountByType(DISLIKE, comment.getId()))
-                                .profileImage(getProfileImageResponse(comment.getMember().getProfileImage()))
-                                .createdTime(comment.getCreatedTime())
-                                .build()
-                )
-                .collect(Collectors.toList());
-    }
-
-    private boolean checkIsDone(Comment comment, Long memberId) {
-        Optional<CommentLike> commentLike = commentLikeQueryRepository.searchByCommentAndMember(comment.getId(), memberId);
-        return commentLike.isPresent();
-    }
-
-    private Integer getCountByType(CommentLikeType commentLikeType, Long commentId) {
-        return commentLikeQueryRepository.getCountByCommentIdGroupByType(commentId).getOrDefault(commentLikeType, 0);
-    }
-
     private ProfileImageResponse getProfileImageResponse(ProfileImage profileImage) {
         if (profileImage == null) {
             return null;
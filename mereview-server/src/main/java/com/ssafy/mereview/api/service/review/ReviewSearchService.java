@@ -0,0 +1,39 @@
+package com.ssafy.mereview.api.service.review;
+
+import com.ssafy.mereview.domain.review.repository.command.ReviewSearchIndex;
+import com.ssafy.mereview.domain.review.repository.command.ReviewSearchIndexRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 리뷰 검색(영화 제목, 리뷰 내용, 닉네임)에 쓰는 전문 검색 인덱스가 있는지 시작할 때 확인한다.
+ * 인덱스는 배포 전에 db/fulltext-index.sql 로 만들고, 여기서는 DDL 을 실행하지 않는다.
+ * 검색 자체는 ReviewQueryRepository 가 목록/개수 쿼리 안에서 match_against 로 한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ReviewSearchService {
+
+    private final ReviewSearchIndexRepository searchIndexRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkIndexes() {
+        for (ReviewSearchIndex index : ReviewSearchIndex.values()) {
+            try {
+                List<String> indexedColumns = searchIndexRepository.findIndexColumns(index);
+                if (!indexedColumns.equals(index.getColumns())) {
+                    log.warn("fulltext index {} on {}({}) is missing or differs: {}, apply db/fulltext-index.sql",
+                            index.getIndexName(), index.getTableName(), index.getColumnNames(), indexedColumns);
+                }
+            } catch (RuntimeException e) {
+                log.warn("fulltext index check failed: {}", index.getIndexName(), e);
+            }
+        }
+    }
+}
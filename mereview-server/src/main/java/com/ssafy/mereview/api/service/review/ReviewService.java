@@ -4,22 +4,18 @@ import com.ssafy.mereview.api.service.review.dto.request.KeywordCreateServiceReq
 import com.ssafy.mereview.api.service.review.dto.request.ReviewCreateServiceRequest;
 import com.ssafy.mereview.api.service.review.dto.request.ReviewUpdateServiceRequest;
 import com.ssafy.mereview.common.util.file.UploadFile;
-import com.ssafy.mereview.domain.member.entity.Member;
 import com.ssafy.mereview.domain.member.repository.MemberAchievementQueryRepository;
-import com.ssafy.mereview.domain.member.repository.MemberInterestQueryRepository;
 import com.ssafy.mereview.domain.review.entity.BackgroundImage;
 import com.ssafy.mereview.domain.review.entity.Keyword;
-import com.ssafy.mereview.domain.review.entity.Notification;
 import com.ssafy.mereview.domain.review.entity.Review;
 import com.ssafy.mereview.domain.review.repository.command.BackgroundImageRepository;
 import com.ssafy.mereview.domain.review.repository.command.KeywordRepository;
-import com.ssafy.mereview.domain.review.repository.command.NotificationRepository;
 import com.ssafy.mereview.domain.review.repository.command.ReviewRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
@@ -32,11 +28,10 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final KeywordRepository keywordRepository;
     private final BackgroundImageRepository backgroundImageRepository;
-    private final MemberInterestQueryRepository interestQueryRepository;
-    private final NotificationRepository notificationRepository;
+    private final NotificationService notificationService;
     private final MemberAchievementQueryRepository memberAchievementQueryRepository;
-
-    private static final int MEMBER_LIMIT_COUNT = 100;
+    private final ReviewCountService reviewCountService;
+    private final ReviewDeleteService reviewDeleteService;
 
     public Long create(ReviewCreateServiceRequest request, UploadFile uploadFile) {
         Long saveId = reviewRepository.save(request.toEntity()).getId();
@@ -50,8 +45,9 @@ public class ReviewService {
             createBackgroundImage(saveId, uploadFile);
         }
 
-        List<Notification> notifications = createNotifications(request, saveId);
-        notificationRepository.saveAll(notifications);
+        notificationService.publish(saveId, request.getGenreId(), request.getMemberId());
+
+        reviewCountService.increase(request.getMemberId(), request.getGenreId());
 
         return saveId;
     }
@@ -65,10 +61,13 @@ public class ReviewService {
         return request.getReviewId();
     }
 
+    // 삭제는 청크마다 따로 커밋하므로 바깥 트랜잭션을 열지 않는다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Long delete(Long reviewId) {
-        Review review = reviewRepository.findById(reviewId)
-                .orElseThrow(NoSuchElementException::new);
-        reviewRepository.delete(review);
+        List<Long> deletedIds = reviewDeleteService.deleteReviews(List.of(reviewId));
+        if (deletedIds.isEmpty()) {
+            throw new NoSuchElementException();
+        }
         return reviewId;
     }
 
@@ -94,16 +93,6 @@ public class ReviewService {
         backgroundImageRepository.save(backgroundImage);
     }
 
-    private List<Notification> createNotifications(ReviewCreateServiceRequest request, Long saveId) {
-        List<Long> memberIds = interestQueryRepository.searchRandomMember(request.getGenreId(), request.getMemberId(), MEMBER_LIMIT_COUNT);
-        if (memberIds.isEmpty()) {
-            return new ArrayList<>();
-        }
-        return memberIds.stream().map(memberId -> Notification.builder()
-                .review(Review.builder().id(saveId).build())
-                .member(Member.builder().id(memberId).build())
-                .build()).collect(Collectors.toList());
-    }
 
 
 }
@@ -0,0 +1,247 @@
+package com.ssafy.mereview.api.service.review;
+
+import com.ssafy.mereview.api.service.review.dto.response.TrendingReviewResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 조회, 평가, 댓글 이벤트로 리뷰의 인기 점수를 메모리에서 계산한다.
+ * 점수는 반감기(half-life)에 따라 지수적으로 감소하며, 전체와 장르별로 따로 유지한다.
+ *
+ * 모든 점수를 매번 감소시키지 않도록 기준 시각(baseTime)에서의 값으로 저장한다.
+ * 이벤트 가중치에 exp(λ(t - baseTime)) 를 곱해 더하면 같은 시점 기준으로 비교할 수 있고,
+ * 값이 너무 커지기 전에 refresh 에서 기준 시각을 옮긴다.
+ * 상위 K개는 refresh 때 크기 K의 최소 힙으로 골라 두고, 조회는 그 스냅샷만 반환한다.
+ */
+@Slf4j
+@Component
+public class ReviewTrendingEngine {
+
+    private static final long GLOBAL_SCOPE = 0L;
+    private static final double REBASE_EXPONENT = 30.0;
+    // 조회 1번이 반감기를 약 7번 지난 정도의 점수보다 작으면 버린다.
+    private static final double MIN_SCORE = 0.01;
+
+    private final double decayRate;
+    private final int topSize;
+
+    private final Map<Long, LongDoubleMap> scoresByScope = new HashMap<>();
+    private long baseTime = System.currentTimeMillis();
+
+    private volatile Map<Long, List<TrendingReviewResponse>> snapshots = Collections.emptyMap();
+
+    public ReviewTrendingEngine(@Value("${app.review.trending.half-life-minutes:360}") long halfLifeMinutes,
+                                @Value("${app.review.trending.top-size:100}") int topSize) {
+        this.decayRate = Math.log(2) / (halfLifeMinutes * 60_000.0);
+        this.topSize = topSize;
+    }
+
+    public void record(Long reviewId, Long genreId, TrendingEventType eventType) {
+        if (reviewId == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            double value = eventType.getWeight() * Math.exp(decayRate * (now - baseTime));
+            getScores(GLOBAL_SCOPE).add(reviewId, value);
+            if (genreId != null) {
+                getScores(genreId).add(reviewId, value);
+            }
+        }
+    }
+
+    public synchronized void remove(Long reviewId) {
+        scoresByScope.values().forEach(scores -> scores.remove(reviewId));
+    }
+
+    public List<TrendingReviewResponse> getTrending(Long genreId) {
+        return snapshots.getOrDefault(genreId == null ? GLOBAL_SCOPE : genreId, Collections.emptyList());
+    }
+
+    @Scheduled(fixedDelayString = "${app.review.trending.refresh-interval-ms:10000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        Map<Long, List<TrendingReviewResponse>> newSnapshots = new HashMap<>();
+
+        synchronized (this) {
+            double decay = Math.exp(-decayRate * (now - baseTime));
+            boolean rebase = decayRate * (now - baseTime) > REBASE_EXPONENT;
+
+            Iterator<Map.Entry<Long, LongDoubleMap>> iterator = scoresByScope.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, LongDoubleMap> entry = iterator.next();
+                LongDoubleMap scores = entry.getValue().prune(MIN_SCORE / decay);
+                if (scores.size() == 0) {
+                    iterator.remove();
+                    continue;
+                }
+                if (rebase) {
+                    scores.scale(decay);
+                }
+                entry.setValue(scores);
+                newSnapshots.put(entry.getKey(), selectTop(scores, rebase ? 1.0 : decay));
+            }
+
+            if (rebase) {
+                baseTime = now;
+            }
+        }
+
+        snapshots = newSnapshots;
+    }
+
+    /**
+     * private methods
+     */
+
+    private LongDoubleMap getScores(long scope) {
+        return scoresByScope.computeIfAbsent(scope, key -> new LongDoubleMap(16));
+    }
+
+    private List<TrendingReviewResponse> selectTop(LongDoubleMap scores, double decay) {
+        PriorityQueue<TrendingReviewResponse> heap = new PriorityQueue<>(topSize + 1, Comparator.comparingDouble(TrendingReviewResponse::getScore));
+        for (int i = 0; i < scores.capacity(); i++) {
+            long reviewId = scores.keyAt(i);
+            if (reviewId == LongDoubleMap.EMPTY) {
+                continue;
+            }
+            double score = scores.valueAt(i) * decay;
+            if (heap.size() < topSize) {
+                heap.add(createTrendingReviewResponse(reviewId, score));
+            } else if (score > heap.peek().getScore()) {
+                heap.poll();
+                heap.add(createTrendingReviewResponse(reviewId, score));
+            }
+        }
+
+        List<TrendingReviewResponse> responses = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            responses.add(heap.poll());
+        }
+        Collections.reverse(responses);
+        return Collections.unmodifiableList(responses);
+    }
+
+    private TrendingReviewResponse createTrendingReviewResponse(long reviewId, double score) {
+        return TrendingReviewResponse.builder()
+                .reviewId(reviewId)
+                .score(score)
+                .build();
+    }
+
+    /**
+     * 리뷰 id(long) 를 키로 쓰는 open addressing 해시맵. 박싱 없이 점수를 누적한다.
+     * 리뷰 id 는 1 이상이므로 0 을 빈 슬롯으로 사용한다.
+     */
+    static class LongDoubleMap {
+        static final long EMPTY = 0L;
+
+        private long[] keys;
+        private double[] values;
+        private int size;
+
+        LongDoubleMap(int capacity) {
+            keys = new long[capacity];
+            values = new double[capacity];
+        }
+
+        void add(long key, double value) {
+            if ((size + 1) * 2 > keys.length) {
+                resize(keys.length * 2);
+            }
+            int index = indexOf(key);
+            if (keys[index] == EMPTY) {
+                keys[index] = key;
+                size++;
+            }
+            values[index] += value;
+        }
+
+        void remove(long key) {
+            int index = indexOf(key);
+            if (keys[index] == EMPTY) {
+                return;
+            }
+            keys[index] = EMPTY;
+            values[index] = 0;
+            size--;
+
+            // 뒤따르는 슬롯을 다시 넣어 탐색 경로가 끊기지 않게 한다.
+            int next = (index + 1) & (keys.length - 1);
+            while (keys[next] != EMPTY) {
+                long movedKey = keys[next];
+                double movedValue = values[next];
+                keys[next] = EMPTY;
+                values[next] = 0;
+                size--;
+                add(movedKey, movedValue);
+                next = (next + 1) & (keys.length - 1);
+            }
+        }
+
+        // threshold 이상인 항목만 남긴 새 맵을 만든다.
+        LongDoubleMap prune(double threshold) {
+            int survivors = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != EMPTY && values[i] >= threshold) {
+                    survivors++;
+                }
+            }
+            LongDoubleMap pruned = new LongDoubleMap(Math.max(16, Integer.highestOneBit(Math.max(survivors, 1) * 4)));
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != EMPTY && values[i] >= threshold) {
+                    pruned.add(keys[i], values[i]);
+                }
+            }
+            return pruned;
+        }
+
+        void scale(double factor) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] *= factor;
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        int capacity() {
+            return keys.length;
+        }
+
+        long keyAt(int index) {
+            return keys[index];
+        }
+
+        double valueAt(int index) {
+            return values[index];
+        }
+
+        private int indexOf(long key) {
+            int mask = keys.length - 1;
+            int index = Long.hashCode(key * 0x9E3779B97F4A7C15L) & mask;
+            while (keys[index] != EMPTY && keys[index] != key) {
+                index = (index + 1) & mask;
+            }
+            return index;
+        }
+
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            double[] oldValues = values;
+            keys = new long[capacity];
+            values = new double[capacity];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    add(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.ssafy.mereview.api.service.review;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TrendingEventType {
+    VIEW(1.0),
+    COMMENT(2.0),
+    EVALUATION(3.0);
+
+    private final double weight;
+}
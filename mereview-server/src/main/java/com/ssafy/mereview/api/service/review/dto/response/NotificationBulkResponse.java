@@ -0,0 +1,20 @@
+package com.ssafy.mereview.api.service.review.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@ToString
+@Getter
+@NoArgsConstructor
+public class NotificationBulkResponse {
+    private Long memberId;
+    private int affectedCount;
+
+    @Builder
+    public NotificationBulkResponse(Long memberId, int affectedCount) {
+        this.memberId = memberId;
+        this.affectedCount = affectedCount;
+    }
+}
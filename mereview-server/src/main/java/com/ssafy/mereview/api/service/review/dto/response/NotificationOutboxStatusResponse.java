@@ -0,0 +1,22 @@
+package com.ssafy.mereview.api.service.review.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@ToString
+@Getter
+@NoArgsConstructor
+public class NotificationOutboxStatusResponse {
+    private long pendingCount;
+    private long failedCount;
+    private long lagMillis;
+
+    @Builder
+    public NotificationOutboxStatusResponse(long pendingCount, long failedCount, long lagMillis) {
+        this.pendingCount = pendingCount;
+        this.failedCount = failedCount;
+        this.lagMillis = lagMillis;
+    }
+}
@@ -0,0 +1,28 @@
+package com.ssafy.mereview.api.service.review.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@ToString
+@Getter
+@NoArgsConstructor
+public class NotificationPurgeResponse {
+    private int expiredCount;
+    private int overCapCount;
+    private int expiredEventCount;
+    private long elapsedMillis;
+
+    @Builder
+    public NotificationPurgeResponse(int expiredCount, int overCapCount, int expiredEventCount, long elapsedMillis) {
+        this.expiredCount = expiredCount;
+        this.overCapCount = overCapCount;
+        this.expiredEventCount = expiredEventCount;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public int getTotalCount() {
+        return expiredCount + overCapCount + expiredEventCount;
+    }
+}
@@ -0,0 +1,24 @@
+package com.ssafy.mereview.api.service.review.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@ToString
+@Getter
+@NoArgsConstructor
+public class NotificationPushResponse {
+    private Long reviewId;
+    private Long genreId;
+    private LocalDateTime createdTime;
+
+    @Builder
+    public NotificationPushResponse(Long reviewId, Long genreId, LocalDateTime createdTime) {
+        this.reviewId = reviewId;
+        this.genreId = genreId;
+        this.createdTime = createdTime;
+    }
+}
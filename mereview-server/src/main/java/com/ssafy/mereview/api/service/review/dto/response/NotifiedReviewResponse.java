@@ -58,4 +58,29 @@ public class NotifiedReviewResponse {
         this.movieReleaseDate = movieReleaseDate;
         this.genreResponse = genreResponse;
     }
+
+    public static NotifiedReviewResponse of(Long notificationId, ReviewResponse review) {
+        return NotifiedReviewResponse.builder()
+                .notificationId(notificationId)
+                .reviewId(review.getReviewId())
+                .reviewTitle(review.getReviewTitle())
+                .hits(review.getHits())
+                .highlight(review.getHighlight())
+                .movieRecommendType(review.getMovieRecommendType())
+                .commentCount(review.getCommentCount())
+                .positiveCount(review.getPositiveCount())
+                .funCount(review.getFunCount())
+                .usefulCount(review.getUsefulCount())
+                .badCount(review.getBadCount())
+                .backgroundImageResponse(review.getBackgroundImageResponse())
+                .createdTime(review.getCreatedTime())
+                .memberId(review.getMemberId())
+                .nickname(review.getNickname())
+                .profileImage(review.getProfileImage())
+                .movieId(review.getMovieId())
+                .movieTitle(review.getMovieTitle())
+                .movieReleaseDate(review.getMovieReleaseDate())
+                .genreResponse(review.getGenreResponse())
+                .build();
+    }
 }
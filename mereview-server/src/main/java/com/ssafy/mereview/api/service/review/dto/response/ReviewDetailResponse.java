@@ -42,9 +42,11 @@ public class ReviewDetailResponse {
     private ProfileImageResponse profileImage;
     private List<MemberTierResponse> memberTiers;
     private List<CommentResponse> comments = new ArrayList<>();
+    private String commentNextCursor;
+    private int commentCount;
 
     @Builder
-    public ReviewDetailResponse(Long reviewId, String reviewTitle, String reviewContent, String movieEvaluatedType, int hits, BackgroundImageResponse backgroundImage, String reviewHighlight, LocalDateTime createdTime, List<KeywordResponse> keywords, ReviewEvaluationType reviewEvaluationType, boolean isDone, int positiveCount, int funCount, int usefulCount, int badCount, Long movieId, String movieTitle, GenreResponse genre, String movieReleaseDate, Long memberId, String nickname, ProfileImageResponse profileImage, List<MemberTierResponse> memberTiers, List<CommentResponse> comments) {
+    public ReviewDetailResponse(Long reviewId, String reviewTitle, String reviewContent, String movieEvaluatedType, int hits, BackgroundImageResponse backgroundImage, String reviewHighlight, LocalDateTime createdTime, List<KeywordResponse> keywords, ReviewEvaluationType reviewEvaluationType, boolean isDone, int positiveCount, int funCount, int usefulCount, int badCount, Long movieId, String movieTitle, GenreResponse genre, String movieReleaseDate, Long memberId, String nickname, ProfileImageResponse profileImage, List<MemberTierResponse> memberTiers, List<CommentResponse> comments, String commentNextCursor, int commentCount) {
         this.reviewId = reviewId;
         this.reviewTitle = reviewTitle;
         this.reviewContent = reviewContent;
@@ -69,5 +71,7 @@ public class ReviewDetailResponse {
         this.profileImage = profileImage;
         this.memberTiers = memberTiers;
         this.comments = comments;
+        this.commentNextCursor = commentNextCursor;
+        this.commentCount = commentCount;
     }
 }
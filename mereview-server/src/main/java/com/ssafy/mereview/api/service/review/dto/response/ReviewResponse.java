@@ -3,6 +3,7 @@ package com.ssafy.mereview.api.service.review.dto.response;
 import com.ssafy.mereview.api.service.member.dto.response.ProfileImageResponse;
 import com.ssafy.mereview.api.service.movie.dto.response.GenreResponse;
 import com.ssafy.mereview.domain.review.entity.MovieRecommendType;
+import com.ssafy.mereview.domain.review.repository.dto.ReviewDto;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -56,4 +57,62 @@ public class ReviewResponse {
         this.movieReleaseDate = movieReleaseDate;
         this.genreResponse = genreResponse;
     }
+
+    public static ReviewResponse of(ReviewDto review) {
+        return ReviewResponse.builder()
+                .reviewId(review.getReviewId())
+                .reviewTitle(review.getReviewTitle())
+                .hits(review.getHits())
+                .highlight(review.getHighlight())
+                .movieRecommendType(review.getMovieRecommendType())
+                .commentCount(review.getCommentCount())
+                .positiveCount(review.getPositiveCount())
+                .funCount(review.getFunCount())
+                .usefulCount(review.getUsefulCount())
+                .badCount(review.getBadCount())
+                .backgroundImageResponse(createBackgroundImageResponse(review))
+                .createdTime(review.getCreatedTime())
+                .memberId(review.getMemberId())
+                .nickname(review.getNickname())
+                .profileImage(createProfileImageResponse(review))
+                .movieId(review.getMovieId())
+                .movieTitle(review.getMovieTitle())
+                .movieReleaseDate(review.getMovieReleaseDate())
+                .genreResponse(createGenreResponse(review))
+                .build();
+    }
+
+    private static BackgroundImageResponse createBackgroundImageResponse(ReviewDto review) {
+        if (review.getBackgroundImageId() == null) {
+            return null;
+        }
+        return BackgroundImageResponse.builder()
+                .id(review.getBackgroundImageId())
+                .fileName(review.getBackgroundImageFileName())
+                .createdTime(review.getBackgroundImageCreatedTime())
+                .build();
+    }
+
+    private static ProfileImageResponse createProfileImageResponse(ReviewDto review) {
+        if (review.getProfileImageId() == null) {
+            return null;
+        }
+        return ProfileImageResponse.builder()
+                .id(review.getProfileImageId())
+                .fileName(review.getProfileImageFileName())
+                .createdTime(review.getProfileImageCreatedTime())
+                .build();
+    }
+
+    private static GenreResponse createGenreResponse(ReviewDto review) {
+        if (review.getGenreId() == null) {
+            return null;
+        }
+        return GenreResponse.builder()
+                .genreId(review.getGenreId())
+                .genreNumber(review.getGenreNumber())
+                .genreName(review.getGenreName())
+                .isUsing(review.getGenreUsing())
+                .build();
+    }
 }
@@ -0,0 +1,20 @@
+package com.ssafy.mereview.api.service.review.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@ToString
+@Getter
+@NoArgsConstructor
+public class TrendingReviewResponse {
+    private Long reviewId;
+    private double score;
+
+    @Builder
+    public TrendingReviewResponse(Long reviewId, double score) {
+        this.reviewId = reviewId;
+        this.score = score;
+    }
+}
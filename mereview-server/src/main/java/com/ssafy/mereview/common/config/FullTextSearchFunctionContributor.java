@@ -0,0 +1,21 @@
+package com.ssafy.mereview.common.config;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * JPQL/QueryDSL 에서 MySQL 전문 검색을 쓸 수 있도록 match_against(컬럼, 검색어) 함수를 등록한다.
+ * 결과는 BOOLEAN MODE 관련도 점수이고, 0 보다 크면 일치한 것이다.
+ */
+public class FullTextSearchFunctionContributor implements MetadataBuilderContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contribute(MetadataBuilder metadataBuilder) {
+        metadataBuilder.applySqlFunction(MATCH_AGAINST,
+                new SQLFunctionTemplate(StandardBasicTypes.DOUBLE, "match(?1) against (?2 in boolean mode)"));
+    }
+}
@@ -0,0 +1,53 @@
+package com.ssafy.mereview.common.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Map;
+
+import static com.ssafy.mereview.common.util.SizeConstants.ID_ALLOCATION_SIZE;
+
+/**
+ * IDENTITY 에서 pooled 시퀀스(MySQL 에서는 테이블로 흉내 낸다)로 바꾼 엔티티의 시퀀스를 기존 최대 id 뒤로 맞춘다.
+ * 스키마가 갱신된 뒤, 애플리케이션이 id 를 받아 가기 전에 한 번 실행한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@DependsOn("entityManagerFactory")
+@Component
+public class IdSequenceInitializer {
+
+    // 시퀀스 테이블 -> (엔티티 테이블, id 컬럼)
+    private static final Map<String, String[]> SEQUENCE_TABLES = Map.of(
+            "keyword_id_seq", new String[]{"keyword", "keyword_id"},
+            "interest_id_seq", new String[]{"interest", "id"},
+            "member_tier_id_seq", new String[]{"member_tier", "id"},
+            "member_achievement_id_seq", new String[]{"member_achievement", "id"}
+    );
+
+    private static final String INSERT_IF_EMPTY_SQL = "INSERT INTO %s (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM %s)";
+
+    // pooled 최적화기는 읽은 값 바로 아래 allocationSize 개를 쓰므로 최대 id + allocationSize 보다 커야 한다.
+    private static final String ALIGN_SQL = "UPDATE %s SET next_val = (SELECT COALESCE(MAX(%s), 0) + ? + 1 FROM %s) " +
+            "WHERE next_val <= (SELECT COALESCE(MAX(%s), 0) + ? FROM %s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void align() {
+        SEQUENCE_TABLES.forEach((sequenceTable, target) -> {
+            String table = target[0];
+            String idColumn = target[1];
+            jdbcTemplate.update(String.format(INSERT_IF_EMPTY_SQL, sequenceTable, sequenceTable));
+            int updated = jdbcTemplate.update(String.format(ALIGN_SQL, sequenceTable, idColumn, table, idColumn, table),
+                    ID_ALLOCATION_SIZE, ID_ALLOCATION_SIZE);
+            if (updated > 0) {
+                log.info("id sequence aligned: {}", sequenceTable);
+            }
+        });
+    }
+}
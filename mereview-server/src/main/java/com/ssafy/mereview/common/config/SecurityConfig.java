@@ -3,6 +3,7 @@ package com.ssafy.mereview.common.config;
 
 import com.ssafy.mereview.api.service.member.UserDetailsServiceImpl;
 import com.ssafy.mereview.common.util.jwt.JwtAuthFilter;
+import com.ssafy.mereview.domain.member.entity.Role;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
@@ -40,6 +41,8 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 .antMatchers("/api/members/sign-up").permitAll()
                 .antMatchers("/api/members/login").permitAll()
                 .antMatchers("/api/members/forbidden").permitAll()
+                .antMatchers("/api/movies/import/**").hasRole(Role.ADMIN.name())
+                .antMatchers("/api/reviews/notifications/outbox-status").hasRole(Role.ADMIN.name())
                 .antMatchers("/**").permitAll()
                 .anyRequest().authenticated()
                 .and()
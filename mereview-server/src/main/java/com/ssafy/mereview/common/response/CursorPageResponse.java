@@ -0,0 +1,20 @@
+package com.ssafy.mereview.common.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class CursorPageResponse<T> {
+    private T data;
+    private int pageSize;
+    private String nextCursor;
+    private boolean hasNext;
+
+    @Builder
+    public CursorPageResponse(T data, int pageSize, String nextCursor, boolean hasNext) {
+        this.data = data;
+        this.pageSize = pageSize;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
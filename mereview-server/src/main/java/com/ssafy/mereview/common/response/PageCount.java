@@ -0,0 +1,28 @@
+package com.ssafy.mereview.common.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class PageCount {
+    private long totalCount;
+    private boolean exact;
+
+    @Builder
+    public PageCount(long totalCount, boolean exact) {
+        this.totalCount = totalCount;
+        this.exact = exact;
+    }
+
+    public static PageCount exact(long totalCount) {
+        return new PageCount(totalCount, true);
+    }
+
+    public static PageCount estimated(long totalCount) {
+        return new PageCount(totalCount, false);
+    }
+
+    public int getPageTotalCnt(int pageSize) {
+        return (int) ((Math.max(totalCount, 1) - 1) / pageSize) + 1;
+    }
+}
@@ -9,12 +9,22 @@ public class PageResponse<T> {
     private int pageNumber;
     private int pageSize;
     private int pageTotalCnt;
+    private boolean pageTotalCntExact;
 
     @Builder
-    public PageResponse(T data, int pageNumber, int pageSize, int pageTotalCnt) {
+    public PageResponse(T data, int pageNumber, int pageSize, int pageTotalCnt, boolean pageTotalCntExact) {
         this.data = data;
         this.pageNumber = pageNumber;
         this.pageSize = pageSize;
         this.pageTotalCnt = pageTotalCnt;
+        this.pageTotalCntExact = pageTotalCntExact;
+    }
+
+    public PageResponse(T data, int pageNumber, int pageSize, int pageTotalCnt) {
+        this(data, pageNumber, pageSize, pageTotalCnt, true);
+    }
+
+    public PageResponse(T data, int pageNumber, int pageSize, PageCount pageCount) {
+        this(data, pageNumber, pageSize, pageCount.getPageTotalCnt(pageSize), pageCount.isExact());
     }
 }
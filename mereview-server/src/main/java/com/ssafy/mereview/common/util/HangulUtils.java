@@ -0,0 +1,39 @@
+package com.ssafy.mereview.common.util;
+
+public class HangulUtils {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    // 초성 하나에 딸린 음절 수 (중성 21 * 종성 28)
+    private static final int SYLLABLES_PER_CHOSUNG = 588;
+    private static final String CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    public static boolean isChosung(char c) {
+        return CHOSUNG.indexOf(c) >= 0;
+    }
+
+    public static boolean containsChosung(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isChosung(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 완성형 음절은 초성으로 바꾸고, 그 밖의 문자는 그대로 둔다.
+    public static char toChosung(char c) {
+        if (c < SYLLABLE_BEGIN || c > SYLLABLE_END) {
+            return c;
+        }
+        return CHOSUNG.charAt((c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSUNG);
+    }
+
+    public static String toChosung(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = toChosung(chars[i]);
+        }
+        return new String(chars);
+    }
+}
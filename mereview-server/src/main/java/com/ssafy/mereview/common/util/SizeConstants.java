@@ -9,6 +9,9 @@ import static com.ssafy.mereview.domain.member.entity.Rank.*;
 public class SizeConstants {
     public static final int PAGE_SIZE = 100;
     public static final int MOVIE_SIZE = 50;
+    public static final int COMMENT_PAGE_SIZE = 20;
+    public static final int NOTIFICATION_INBOX_LIMIT = 1000;
+    public static final int ID_ALLOCATION_SIZE = 50;
 
     public static final int REVIEW_NONE_MAX_COUNT = 1;
     public static final int REVIEW_BRONZE_MAX_COUNT = 50;
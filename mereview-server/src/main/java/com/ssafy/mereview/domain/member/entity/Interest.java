@@ -11,12 +11,16 @@ import lombok.NoArgsConstructor;
 import javax.persistence.*;
 import java.util.List;
 
+import static com.ssafy.mereview.common.util.SizeConstants.ID_ALLOCATION_SIZE;
+
 @Entity
 @Getter
 @NoArgsConstructor
 public class Interest extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "interest_id_generator")
+    @SequenceGenerator(name = "interest_id_generator", sequenceName = "interest_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -11,6 +11,7 @@ import org.hibernate.annotations.DynamicInsert;
 import javax.persistence.*;
 
 import static com.ssafy.mereview.common.util.SizeConstants.COMMENT_ACHIEVEMENT_MAX_COUNT_MAP;
+import static com.ssafy.mereview.common.util.SizeConstants.ID_ALLOCATION_SIZE;
 import static com.ssafy.mereview.common.util.SizeConstants.REVIEW_ACHIEVEMENT_MAX_COUNT_MAP;
 import static com.ssafy.mereview.domain.member.entity.AchievementType.COMMENT;
 import static com.ssafy.mereview.domain.member.entity.AchievementType.REVIEW;
@@ -23,7 +24,8 @@ import static com.ssafy.mereview.domain.member.entity.Rank.*;
 public class MemberAchievement extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_achievement_id_generator")
+    @SequenceGenerator(name = "member_achievement_id_generator", sequenceName = "member_achievement_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -14,6 +14,7 @@ import org.hibernate.annotations.DynamicInsert;
 import javax.persistence.*;
 
 import static com.ssafy.mereview.common.util.ExperienceConstants.TIER_MAX_EXP_MAP;
+import static com.ssafy.mereview.common.util.SizeConstants.ID_ALLOCATION_SIZE;
 import static com.ssafy.mereview.domain.member.entity.Rank.*;
 import static com.ssafy.mereview.domain.review.entity.ReviewEvaluationType.FUN;
 import static com.ssafy.mereview.domain.review.entity.ReviewEvaluationType.USEFUL;
@@ -26,7 +27,8 @@ import static com.ssafy.mereview.domain.review.entity.ReviewEvaluationType.USEFU
 public class MemberTier extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_tier_id_generator")
+    @SequenceGenerator(name = "member_tier_id_generator", sequenceName = "member_tier_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, optional = true)
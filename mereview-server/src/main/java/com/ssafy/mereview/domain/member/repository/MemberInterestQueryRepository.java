@@ -5,7 +5,10 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.ssafy.mereview.domain.member.entity.QInterest.interest;
 import static com.ssafy.mereview.domain.member.entity.QMember.member;
@@ -29,4 +32,25 @@ public class MemberInterestQueryRepository {
                 .limit(count)
                 .fetch();
     }
+
+    public List<Long> searchGenreIdsByMemberId(Long memberId) {
+        return queryFactory
+                .select(interest.genre.id).distinct()
+                .from(interest)
+                .where(interest.member.id.eq(memberId))
+                .fetch();
+    }
+
+    public Map<Long, List<Long>> searchAllMemberIdsGroupByGenre() {
+        Map<Long, List<Long>> memberIdsByGenre = new HashMap<>();
+        queryFactory
+                .select(interest.genre.id, interest.member.id)
+                .from(interest)
+                .orderBy(interest.genre.id.asc(), interest.member.id.asc())
+                .fetch()
+                .forEach(tuple -> memberIdsByGenre
+                        .computeIfAbsent(tuple.get(interest.genre.id), genreId -> new ArrayList<>())
+                        .add(tuple.get(interest.member.id)));
+        return memberIdsByGenre;
+    }
 }
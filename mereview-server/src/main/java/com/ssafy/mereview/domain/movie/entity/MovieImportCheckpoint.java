@@ -0,0 +1,38 @@
+package com.ssafy.mereview.domain.movie.entity;
+
+import com.ssafy.mereview.domain.BaseEntity;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDate;
+
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 영화 가져오기 작업별 진행 위치. 끝까지 반영한 날짜를 남겨 두고 다음 실행은 그 다음 날부터 시작한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+public class MovieImportCheckpoint extends BaseEntity {
+
+    @Id
+    @Column(name = "import_name", length = 50)
+    private String importName;
+
+    private LocalDate lastCompletedDate;
+
+    @Builder
+    public MovieImportCheckpoint(String importName, LocalDate lastCompletedDate) {
+        this.importName = importName;
+        this.lastCompletedDate = lastCompletedDate;
+    }
+
+    public void complete(LocalDate date) {
+        this.lastCompletedDate = date;
+    }
+}
@@ -0,0 +1,102 @@
+package com.ssafy.mereview.domain.movie.repository.command;
+
+import com.ssafy.mereview.domain.movie.entity.Movie;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 영화 가져오기용 배치 쿼리. movie_content_id 유니크 키로 upsert 하므로 같은 날을 다시 가져와도 중복 행이 생기지 않는다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class MovieBatchRepository {
+
+    private static final String UPSERT_MOVIE_SQL = "INSERT INTO movie " +
+            "(movie_content_id, title, overview, vote_average, poster_img, release_date, created_time, modified_time) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE title = VALUES(title), overview = VALUES(overview), vote_average = VALUES(vote_average), " +
+            "poster_img = VALUES(poster_img), release_date = VALUES(release_date), modified_time = VALUES(modified_time)";
+    private static final String FIND_MOVIES_BY_CONTENT_IDS_SQL = "SELECT movie_id, movie_content_id, title, overview, vote_average, poster_img, release_date " +
+            "FROM movie WHERE movie_content_id IN (:contentIds)";
+    private static final String FIND_IDS_BY_CONTENT_IDS_SQL = "SELECT movie_id, movie_content_id FROM movie WHERE movie_content_id IN (:contentIds)";
+
+    private static final String INSERT_MOVIE_GENRE_SQL = "INSERT INTO movie_genre (movie_id, genre_id, created_time, modified_time) VALUES (?, ?, ?, ?)";
+    private static final String DELETE_MOVIE_GENRE_SQL = "DELETE FROM movie_genre WHERE movie_id = ? AND genre_id = ?";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public void upsertMovies(List<Movie> movies) {
+        if (movies.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(movies.size());
+        movies.forEach(movie -> batchArgs.add(new Object[]{movie.getMovieContentId(), movie.getTitle(), movie.getOverview(),
+                movie.getVoteAverage(), movie.getPosterImg(), movie.getReleaseDate(), now, now}));
+        namedParameterJdbcTemplate.getJdbcTemplate().batchUpdate(UPSERT_MOVIE_SQL, batchArgs);
+    }
+
+    // 내용 비교용. 연관 관계는 채우지 않는다.
+    public Map<Integer, Movie> findMoviesByContentIds(Collection<Integer> contentIds) {
+        Map<Integer, Movie> movies = new HashMap<>();
+        if (contentIds.isEmpty()) {
+            return movies;
+        }
+        namedParameterJdbcTemplate.query(FIND_MOVIES_BY_CONTENT_IDS_SQL, new MapSqlParameterSource("contentIds", contentIds),
+                rs -> {
+                    Double voteAverage = rs.getDouble("vote_average");
+                    if (rs.wasNull()) {
+                        voteAverage = null;
+                    }
+                    Movie movie = Movie.builder()
+                            .id(rs.getLong("movie_id"))
+                            .movieContentId(rs.getInt("movie_content_id"))
+                            .title(rs.getString("title"))
+                            .overview(rs.getString("overview"))
+                            .voteAverage(voteAverage)
+                            .posterImg(rs.getString("poster_img"))
+                            .releaseDate(rs.getString("release_date"))
+                            .build();
+                    movies.put(movie.getMovieContentId(), movie);
+                });
+        return movies;
+    }
+
+    public Map<Integer, Long> findIdsByContentIds(Collection<Integer> contentIds) {
+        Map<Integer, Long> movieIds = new HashMap<>();
+        if (contentIds.isEmpty()) {
+            return movieIds;
+        }
+        namedParameterJdbcTemplate.query(FIND_IDS_BY_CONTENT_IDS_SQL, new MapSqlParameterSource("contentIds", contentIds),
+                rs -> {
+                    movieIds.put(rs.getInt("movie_content_id"), rs.getLong("movie_id"));
+                });
+        return movieIds;
+    }
+
+    // movieId -> genreId 목록
+    public int insertMovieGenres(Map<Long, List<Long>> genreIdsByMovie) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>();
+        genreIdsByMovie.forEach((movieId, genreIds) -> genreIds.forEach(genreId -> batchArgs.add(new Object[]{movieId, genreId, now, now})));
+        if (!batchArgs.isEmpty()) {
+            namedParameterJdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_MOVIE_GENRE_SQL, batchArgs);
+        }
+        return batchArgs.size();
+    }
+
+    public int deleteMovieGenres(Map<Long, List<Long>> genreIdsByMovie) {
+        List<Object[]> batchArgs = new ArrayList<>();
+        genreIdsByMovie.forEach((movieId, genreIds) -> genreIds.forEach(genreId -> batchArgs.add(new Object[]{movieId, genreId})));
+        if (!batchArgs.isEmpty()) {
+            namedParameterJdbcTemplate.getJdbcTemplate().batchUpdate(DELETE_MOVIE_GENRE_SQL, batchArgs);
+        }
+        return batchArgs.size();
+    }
+}
@@ -0,0 +1,7 @@
+package com.ssafy.mereview.domain.movie.repository.command;
+
+import com.ssafy.mereview.domain.movie.entity.MovieImportCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MovieImportCheckpointRepository extends JpaRepository<MovieImportCheckpoint, String> {
+}
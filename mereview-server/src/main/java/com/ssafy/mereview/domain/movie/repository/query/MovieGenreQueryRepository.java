@@ -1,11 +1,14 @@
 package com.ssafy.mereview.domain.movie.repository.query;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.ssafy.mereview.domain.movie.entity.MovieGenre;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.ssafy.mereview.domain.movie.entity.QMovieGenre.movieGenre;
 
@@ -14,10 +17,21 @@ import static com.ssafy.mereview.domain.movie.entity.QMovieGenre.movieGenre;
 public class MovieGenreQueryRepository {
     private final JPAQueryFactory queryFactory;
 
-    public List<MovieGenre> searchMovieGenreByMovieId(Long movieId) {
-        return queryFactory.select(movieGenre)
+    // 영화 여러 편의 장르 id 를 한 번에 읽는다. 장르가 없는 영화는 결과에 들어가지 않는다.
+    public Map<Long, List<Long>> searchGenreIdsByMovieIds(Collection<Long> movieIds) {
+        Map<Long, List<Long>> genreIdsByMovie = new HashMap<>();
+        if (movieIds.isEmpty()) {
+            return genreIdsByMovie;
+        }
+        queryFactory
+                .select(movieGenre.movie.id, movieGenre.genre.id)
                 .from(movieGenre)
-                .where(movieGenre.movie.id.eq(movieId))
-                .fetch();
+                .where(movieGenre.movie.id.in(movieIds), movieGenre.genre.id.isNotNull())
+                .orderBy(movieGenre.id.asc())
+                .fetch()
+                .forEach(tuple -> genreIdsByMovie
+                        .computeIfAbsent(tuple.get(movieGenre.movie.id), movieId -> new ArrayList<>())
+                        .add(tuple.get(movieGenre.genre.id)));
+        return genreIdsByMovie;
     }
 }
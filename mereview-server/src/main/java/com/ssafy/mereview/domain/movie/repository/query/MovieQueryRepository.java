@@ -10,7 +10,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.ssafy.mereview.common.util.SizeConstants.MOVIE_SIZE;
@@ -35,6 +37,20 @@ public class MovieQueryRepository {
                 .fetch();
     }
 
+    // 제목 색인 적재용. id 순으로 잘라 읽고, 제목만 가져온다.
+    public Map<Long, String> searchTitlesAfter(Long lastMovieId, int size) {
+        Map<Long, String> titlesById = new LinkedHashMap<>();
+        queryFactory
+                .select(movie.id, movie.title)
+                .from(movie)
+                .where(movie.id.gt(lastMovieId))
+                .orderBy(movie.id.asc())
+                .limit(size)
+                .fetch()
+                .forEach(tuple -> titlesById.put(tuple.get(movie.id), tuple.get(movie.title)));
+        return titlesById;
+    }
+
     public Movie searchById(Long movieId){
         return queryFactory
                 .select(movie)
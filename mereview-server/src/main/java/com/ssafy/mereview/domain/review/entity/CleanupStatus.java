@@ -0,0 +1,14 @@
+package com.ssafy.mereview.domain.review.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum CleanupStatus {
+
+    PENDING("정리대기"),
+    FAILED("정리실패");
+
+    private final String text;
+}
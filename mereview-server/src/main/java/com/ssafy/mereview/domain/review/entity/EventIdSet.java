@@ -0,0 +1,158 @@
+package com.ssafy.mereview.domain.review.entity;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 알림 이벤트 id 를 정렬된 long 배열로 들고 있는 불변 집합.
+ * 저장할 때는 이전 값과의 차이를 varint 로 적고 Base64 로 감싸 한 컬럼에 담는다.
+ */
+public final class EventIdSet {
+
+    private static final EventIdSet EMPTY = new EventIdSet(new long[0]);
+
+    private final long[] ids;
+
+    private EventIdSet(long[] ids) {
+        this.ids = ids;
+    }
+
+    public static EventIdSet empty() {
+        return EMPTY;
+    }
+
+    public static EventIdSet of(long... ids) {
+        long[] sorted = Arrays.stream(ids).sorted().distinct().toArray();
+        return sorted.length == 0 ? EMPTY : new EventIdSet(sorted);
+    }
+
+    public static EventIdSet decode(String encoded) {
+        if (encoded == null || encoded.isEmpty()) {
+            return EMPTY;
+        }
+        byte[] bytes = Base64.getDecoder().decode(encoded);
+        long[] decoded = new long[bytes.length];
+        int size = 0;
+        long previous = 0;
+        long delta = 0;
+        int shift = 0;
+        for (byte b : bytes) {
+            delta |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) != 0) {
+                shift += 7;
+                continue;
+            }
+            previous += delta;
+            decoded[size++] = previous;
+            delta = 0;
+            shift = 0;
+        }
+        return new EventIdSet(Arrays.copyOf(decoded, size));
+    }
+
+    public String encode() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(ids.length * 2);
+        long previous = 0;
+        for (long id : ids) {
+            long delta = id - previous;
+            while ((delta & ~0x7FL) != 0) {
+                out.write((int) ((delta & 0x7F) | 0x80));
+                delta >>>= 7;
+            }
+            out.write((int) delta);
+            previous = id;
+        }
+        return Base64.getEncoder().encodeToString(out.toByteArray());
+    }
+
+    public boolean contains(long id) {
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    public int countLessThan(long id) {
+        int index = Arrays.binarySearch(ids, id);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    public EventIdSet add(long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index >= 0) {
+            return this;
+        }
+        int insertAt = -index - 1;
+        long[] added = new long[ids.length + 1];
+        System.arraycopy(ids, 0, added, 0, insertAt);
+        added[insertAt] = id;
+        System.arraycopy(ids, insertAt, added, insertAt + 1, ids.length - insertAt);
+        return new EventIdSet(added);
+    }
+
+    public EventIdSet addAll(Collection<Long> idsToAdd) {
+        long[] merged = new long[ids.length + idsToAdd.size()];
+        System.arraycopy(ids, 0, merged, 0, ids.length);
+        int size = ids.length;
+        for (Long id : idsToAdd) {
+            merged[size++] = id;
+        }
+        Arrays.sort(merged);
+        int distinct = 0;
+        for (int i = 0; i < merged.length; i++) {
+            if (i == 0 || merged[i] != merged[i - 1]) {
+                merged[distinct++] = merged[i];
+            }
+        }
+        return distinct == ids.length ? this : new EventIdSet(Arrays.copyOf(merged, distinct));
+    }
+
+    public EventIdSet remove(long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index < 0) {
+            return this;
+        }
+        long[] removed = new long[ids.length - 1];
+        System.arraycopy(ids, 0, removed, 0, index);
+        System.arraycopy(ids, index + 1, removed, index, ids.length - index - 1);
+        return new EventIdSet(removed);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long[] toArray() {
+        return ids.clone();
+    }
+
+    public List<Long> toList() {
+        List<Long> list = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            list.add(id);
+        }
+        return list;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EventIdSet)) {
+            return false;
+        }
+        return Arrays.equals(ids, ((EventIdSet) o).ids);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(ids);
+    }
+
+    @Override
+    public String toString() {
+        return "EventIdSet(size=" + ids.length + ")";
+    }
+}
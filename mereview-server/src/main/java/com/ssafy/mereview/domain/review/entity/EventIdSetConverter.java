@@ -0,0 +1,18 @@
+package com.ssafy.mereview.domain.review.entity;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+@Converter
+public class EventIdSetConverter implements AttributeConverter<EventIdSet, String> {
+
+    @Override
+    public String convertToDatabaseColumn(EventIdSet attribute) {
+        return attribute == null ? null : attribute.encode();
+    }
+
+    @Override
+    public EventIdSet convertToEntityAttribute(String dbData) {
+        return EventIdSet.decode(dbData);
+    }
+}
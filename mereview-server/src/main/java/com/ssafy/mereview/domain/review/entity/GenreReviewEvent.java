@@ -0,0 +1,50 @@
+package com.ssafy.mereview.domain.review.entity;
+
+import com.ssafy.mereview.domain.BaseEntity;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+
+import javax.persistence.*;
+
+import static javax.persistence.FetchType.LAZY;
+import static javax.persistence.GenerationType.IDENTITY;
+import static lombok.AccessLevel.PROTECTED;
+import static org.hibernate.annotations.OnDeleteAction.CASCADE;
+
+/**
+ * PULL 모드에서 리뷰 작성 시 장르별로 한 건만 남기는 알림 이벤트.
+ * 회원의 알림함은 관심 장르의 이벤트를 조회 시점에 병합해서 만든다.
+ */
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Entity
+@Table(indexes = @Index(name = "idx_genre_review_event_genre", columnList = "genre_id, event_id"))
+public class GenreReviewEvent extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    @Column(name = "event_id")
+    private Long id;
+
+    @ManyToOne(fetch = LAZY)
+    @OnDelete(action = CASCADE)
+    @JoinColumn(name = "review_id", nullable = false)
+    private Review review;
+
+    @Column(name = "genre_id", nullable = false)
+    private Long genreId;
+
+    // 리뷰 작성자. 작성자의 알림함에는 보이지 않는다.
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Builder
+    public GenreReviewEvent(Long id, Review review, Long genreId, Long memberId) {
+        this.id = id;
+        this.review = review;
+        this.genreId = genreId;
+        this.memberId = memberId;
+    }
+}
@@ -8,8 +8,9 @@ import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
 
+import static com.ssafy.mereview.common.util.SizeConstants.ID_ALLOCATION_SIZE;
 import static javax.persistence.FetchType.LAZY;
-import static javax.persistence.GenerationType.IDENTITY;
+import static javax.persistence.GenerationType.SEQUENCE;
 import static lombok.AccessLevel.PROTECTED;
 
 @Getter
@@ -18,7 +19,8 @@ import static lombok.AccessLevel.PROTECTED;
 public class Keyword extends BaseEntity {
     @Id
     @Column(name = "keyword_id")
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = SEQUENCE, generator = "keyword_id_generator")
+    @SequenceGenerator(name = "keyword_id_generator", sequenceName = "keyword_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
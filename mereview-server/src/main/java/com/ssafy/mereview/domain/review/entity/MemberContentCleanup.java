@@ -0,0 +1,61 @@
+package com.ssafy.mereview.domain.review.entity;
+
+import com.ssafy.mereview.domain.BaseEntity;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+import static com.ssafy.mereview.domain.review.entity.CleanupStatus.FAILED;
+import static com.ssafy.mereview.domain.review.entity.CleanupStatus.PENDING;
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 회원 탈퇴 트랜잭션에서 함께 남기는 콘텐츠 정리 대기 기록.
+ * MemberContentCleanupWorker 가 읽어 리뷰와 활동 기록을 지우고, 다 지우면 기록을 지운다.
+ */
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Entity
+@Table(indexes = @Index(name = "idx_member_content_cleanup_status", columnList = "status, next_attempt_time"))
+public class MemberContentCleanup extends BaseEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private CleanupStatus status;
+
+    // 남의 리뷰에 비정규화된 평가, 댓글 수를 이미 뺐는지. 다시 시도할 때 두 번 빼지 않는다.
+    private boolean countersSubtracted;
+
+    private int retryCount;
+
+    @Column(name = "next_attempt_time", nullable = false)
+    private LocalDateTime nextAttemptTime;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Builder
+    public MemberContentCleanup(Long memberId) {
+        this.memberId = memberId;
+        this.status = PENDING;
+        this.nextAttemptTime = LocalDateTime.now();
+    }
+
+    public void fail(String error, int maxRetryCount, LocalDateTime nextAttemptTime) {
+        this.retryCount++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        this.nextAttemptTime = nextAttemptTime;
+        if (retryCount >= maxRetryCount) {
+            this.status = FAILED;
+        }
+    }
+}
@@ -19,6 +19,7 @@ import static org.hibernate.annotations.OnDeleteAction.CASCADE;
 @Getter
 @NoArgsConstructor(access = PROTECTED)
 @Entity
+@Table(indexes = @Index(name = "idx_notification_member_created", columnList = "member_id, created_time, notification_id"))
 public class Notification extends BaseEntity {
 
     @Id
@@ -0,0 +1,14 @@
+package com.ssafy.mereview.domain.review.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum NotificationInboxMode {
+
+    PUSH("수신자별 알림 저장"),
+    PULL("조회 시 장르 이벤트 병합");
+
+    private final String text;
+}
@@ -0,0 +1,201 @@
+package com.ssafy.mereview.domain.review.entity;
+
+import com.ssafy.mereview.domain.BaseEntity;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.LongStream;
+
+import static com.ssafy.mereview.domain.review.entity.NotificationStatus.CONFIRMED;
+import static com.ssafy.mereview.domain.review.entity.NotificationStatus.UNCONFIRMED;
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * PULL 모드 알림함에서 회원별 확인, 삭제 상태만 따로 들고 있는다.
+ * 전체 확인과 상태별 삭제는 이벤트 id 기준선(워터마크)과 범위로 적고, id 집합은 알림을 골라 처리한 것만 담는다.
+ * - 확인: readUpToEventId 이하는 확인, 초과는 안 읽음이 기본이고 toggledEventIds 에 든 id 는 그 반대다.
+ * - 삭제: deletedRanges 의 (시작, 끝] 범위에 든 id 는 keptEventIds 에 없으면 삭제, 범위 밖은 deletedEventIds 에 있으면 삭제다.
+ */
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Entity
+public class NotificationInboxState extends BaseEntity {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    private long readUpToEventId;
+
+    // 워터마크 도입 전에는 확인한 id 목록이었다. 기준선이 0 이면 의미가 같아 컬럼을 그대로 쓴다.
+    @Convert(converter = EventIdSetConverter.class)
+    @Column(name = "read_event_ids", columnDefinition = "TEXT")
+    private EventIdSet toggledEventIds = EventIdSet.empty();
+
+    // 범위 경계를 (시작, 끝, 시작, 끝, ...) 순서로 담는다. 범위는 겹치거나 맞닿지 않는다.
+    @Convert(converter = EventIdSetConverter.class)
+    @Column(columnDefinition = "TEXT")
+    private EventIdSet deletedRanges = EventIdSet.empty();
+
+    @Convert(converter = EventIdSetConverter.class)
+    @Column(columnDefinition = "TEXT")
+    private EventIdSet keptEventIds = EventIdSet.empty();
+
+    @Convert(converter = EventIdSetConverter.class)
+    @Column(columnDefinition = "TEXT")
+    private EventIdSet deletedEventIds = EventIdSet.empty();
+
+    @Builder
+    public NotificationInboxState(Long memberId) {
+        this.memberId = memberId;
+    }
+
+    public NotificationStatus getStatus(Long eventId) {
+        boolean read = eventId <= readUpToEventId;
+        return read != toggledEventIds.contains(eventId) ? CONFIRMED : UNCONFIRMED;
+    }
+
+    public boolean isDeleted(Long eventId) {
+        return isInDeletedRange(eventId) ? !keptEventIds.contains(eventId) : deletedEventIds.contains(eventId);
+    }
+
+    public NotificationStatus toggleStatus(Long eventId) {
+        toggle(eventId);
+        return getStatus(eventId);
+    }
+
+    // 새로 확인 처리된 개수를 돌려준다.
+    public int markRead(Collection<Long> eventIds) {
+        int count = 0;
+        for (Long eventId : eventIds) {
+            if (getStatus(eventId) == UNCONFIRMED) {
+                toggle(eventId);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // maxEventId 까지 모두 확인한 것으로 기준선을 올린다.
+    public void markAllRead(long maxEventId) {
+        if (maxEventId > readUpToEventId) {
+            readUpToEventId = maxEventId;
+        }
+        toggledEventIds = EventIdSet.of(idsAfter(toggledEventIds.toArray(), readUpToEventId));
+    }
+
+    public int deleteAll(Collection<Long> eventIds) {
+        int count = 0;
+        for (Long eventId : eventIds) {
+            if (!isDeleted(eventId)) {
+                delete(eventId);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public void delete(Long eventId) {
+        if (isInDeletedRange(eventId)) {
+            keptEventIds = keptEventIds.remove(eventId);
+        } else {
+            deletedEventIds = deletedEventIds.add(eventId);
+        }
+        toggledEventIds = toggledEventIds.remove(eventId);
+    }
+
+    /**
+     * maxEventId 까지의 알림 중 status 인 것을 모두 지운다. 지운 뒤 남은 알림은 모두 반대 상태가 된다.
+     * 기준선 쪽은 범위로 지우고, 기준선과 반대로 바뀐 id 만 따로 처리하므로 상태 크기는 알림 수와 무관하다.
+     */
+    public void deleteAll(NotificationStatus status, long maxEventId) {
+        long[] toggledIds = toggledEventIds.toArray();
+        long settledUpTo = Math.max(readUpToEventId, maxEventId);
+        if (status == CONFIRMED) {
+            // 기준선 이하에서 안 읽음으로 돌린 것만 남기고, 기준선 위에서 따로 확인한 것은 하나씩 지운다.
+            if (readUpToEventId > 0) {
+                addDeletedRange(0, readUpToEventId, idsUpTo(toggledIds, readUpToEventId));
+            }
+            LongStream.of(idsAfter(toggledIds, readUpToEventId))
+                    .filter(eventId -> eventId <= maxEventId)
+                    .forEach(this::delete);
+            readUpToEventId = 0;
+        } else {
+            // 기준선 위에서 따로 확인한 것만 남기고, 기준선 이하에서 안 읽음으로 돌린 것은 하나씩 지운다.
+            if (maxEventId > readUpToEventId) {
+                addDeletedRange(readUpToEventId, maxEventId, idsAfter(toggledIds, readUpToEventId));
+            }
+            LongStream.of(idsUpTo(toggledIds, readUpToEventId)).forEach(this::delete);
+            readUpToEventId = settledUpTo;
+        }
+        toggledEventIds = EventIdSet.of(idsAfter(toggledEventIds.toArray(), settledUpTo));
+    }
+
+    /**
+     * private methods
+     */
+
+    private void toggle(Long eventId) {
+        toggledEventIds = toggledEventIds.contains(eventId) ? toggledEventIds.remove(eventId) : toggledEventIds.add(eventId);
+    }
+
+    // id 보다 작은 경계가 홀수 개면 어떤 범위의 시작은 지났고 끝은 지나지 않은 것이다.
+    private boolean isInDeletedRange(long eventId) {
+        return deletedRanges.countLessThan(eventId) % 2 == 1;
+    }
+
+    // (from, to] 를 삭제 범위에 더한다. keepCandidates 중 지금 보이는 것만 남긴다.
+    private void addDeletedRange(long from, long to, long[] keepCandidates) {
+        long[] kept = LongStream.concat(
+                        LongStream.of(keptEventIds.toArray()).filter(eventId -> eventId <= from || eventId > to),
+                        LongStream.of(keepCandidates).filter(eventId -> eventId > from && eventId <= to && !isDeleted(eventId)))
+                .toArray();
+        long[] deleted = LongStream.of(deletedEventIds.toArray())
+                .filter(eventId -> eventId <= from || eventId > to)
+                .toArray();
+
+        long[] bounds = deletedRanges.toArray();
+        long[] merged = new long[bounds.length + 2];
+        int size = 0;
+        long mergedFrom = from;
+        long mergedTo = to;
+        boolean added = false;
+        for (int i = 0; i < bounds.length; i += 2) {
+            if (bounds[i + 1] < mergedFrom) {
+                merged[size++] = bounds[i];
+                merged[size++] = bounds[i + 1];
+            } else if (bounds[i] > mergedTo) {
+                if (!added) {
+                    merged[size++] = mergedFrom;
+                    merged[size++] = mergedTo;
+                    added = true;
+                }
+                merged[size++] = bounds[i];
+                merged[size++] = bounds[i + 1];
+            } else {
+                mergedFrom = Math.min(mergedFrom, bounds[i]);
+                mergedTo = Math.max(mergedTo, bounds[i + 1]);
+            }
+        }
+        if (!added) {
+            merged[size++] = mergedFrom;
+            merged[size++] = mergedTo;
+        }
+
+        deletedRanges = EventIdSet.of(Arrays.copyOf(merged, size));
+        keptEventIds = EventIdSet.of(kept);
+        deletedEventIds = EventIdSet.of(deleted);
+    }
+
+    private long[] idsUpTo(long[] ids, long to) {
+        return LongStream.of(ids).filter(id -> id <= to).toArray();
+    }
+
+    private long[] idsAfter(long[] ids, long from) {
+        return LongStream.of(ids).filter(id -> id > from).toArray();
+    }
+}
@@ -0,0 +1,73 @@
+package com.ssafy.mereview.domain.review.entity;
+
+import com.ssafy.mereview.domain.BaseEntity;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+import static com.ssafy.mereview.domain.review.entity.OutboxStatus.FAILED;
+import static com.ssafy.mereview.domain.review.entity.OutboxStatus.PENDING;
+import static javax.persistence.GenerationType.IDENTITY;
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 리뷰 작성 시 같은 트랜잭션으로 한 건만 기록하는 알림 발송 이벤트.
+ * 수신자별 알림은 NotificationOutboxDispatcher 가 나중에 만든다.
+ */
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Entity
+@Table(indexes = @Index(name = "idx_notification_outbox_status", columnList = "status, next_attempt_time"))
+public class NotificationOutbox extends BaseEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Column(name = "review_id", nullable = false)
+    private Long reviewId;
+
+    @Column(name = "genre_id")
+    private Long genreId;
+
+    // 리뷰 작성자. 알림 대상에서 제외한다.
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxStatus status;
+
+    private int retryCount;
+
+    @Column(name = "next_attempt_time", nullable = false)
+    private LocalDateTime nextAttemptTime;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Builder
+    public NotificationOutbox(Long id, Long reviewId, Long genreId, Long memberId) {
+        this.id = id;
+        this.reviewId = reviewId;
+        this.genreId = genreId;
+        this.memberId = memberId;
+        this.status = PENDING;
+        this.nextAttemptTime = LocalDateTime.now();
+    }
+
+    public void fail(String error, int maxRetryCount, LocalDateTime nextAttemptTime) {
+        this.retryCount++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        this.nextAttemptTime = nextAttemptTime;
+        if (retryCount >= maxRetryCount) {
+            this.status = FAILED;
+        }
+    }
+}
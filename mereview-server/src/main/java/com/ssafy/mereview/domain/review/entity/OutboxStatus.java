@@ -0,0 +1,14 @@
+package com.ssafy.mereview.domain.review.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OutboxStatus {
+
+    PENDING("발송대기"),
+    FAILED("발송실패");
+
+    private final String text;
+}
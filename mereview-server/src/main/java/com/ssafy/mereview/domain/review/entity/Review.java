@@ -24,6 +24,12 @@ import static lombok.AccessLevel.PROTECTED;
 @Getter
 @NoArgsConstructor(access = PROTECTED)
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_review_created_time", columnList = "created_time, review_id"),
+        @Index(name = "idx_review_hits", columnList = "hits, review_id"),
+        @Index(name = "idx_review_fun_count", columnList = "fun_count, review_id"),
+        @Index(name = "idx_review_useful_count", columnList = "useful_count, review_id")
+})
 public class Review extends BaseEntity {
     @Id
     @Column(name = "review_id")
@@ -38,6 +44,14 @@ public class Review extends BaseEntity {
 
     private int hits;
 
+    private int funCount;
+
+    private int usefulCount;
+
+    private int badCount;
+
+    private int commentCount;
+
     @Column(nullable = false)
     private String highlight;
 
@@ -111,8 +125,4 @@ public class Review extends BaseEntity {
                 .map(keyword -> keyword.toEntity(reviewId))
                 .collect(Collectors.toList()));
     }
-
-    public void increaseHits() {
-        this.hits++;
-    }
 }
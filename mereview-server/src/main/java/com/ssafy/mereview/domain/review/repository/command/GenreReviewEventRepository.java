@@ -0,0 +1,9 @@
+package com.ssafy.mereview.domain.review.repository.command;
+
+import com.ssafy.mereview.domain.review.entity.GenreReviewEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface GenreReviewEventRepository extends JpaRepository<GenreReviewEvent, Long> {
+}
@@ -0,0 +1,34 @@
+package com.ssafy.mereview.domain.review.repository.command;
+
+import com.ssafy.mereview.domain.review.entity.CleanupStatus;
+import com.ssafy.mereview.domain.review.entity.MemberContentCleanup;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MemberContentCleanupRepository extends JpaRepository<MemberContentCleanup, Long> {
+
+    @Query("select c.memberId from MemberContentCleanup c where c.status = :status and c.nextAttemptTime <= :now order by c.nextAttemptTime")
+    List<Long> findRunnableIds(@Param("status") CleanupStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 처리하는 동안 다음 시도 시각을 미뤄 둔다. 다른 인스턴스가 먼저 가져갔으면 0 을 돌려준다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update MemberContentCleanup c set c.nextAttemptTime = :leaseUntil " +
+            "where c.memberId = :memberId and c.status = :status and c.nextAttemptTime <= :now")
+    int claim(@Param("memberId") Long memberId,
+              @Param("status") CleanupStatus status,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 처음 표시할 때만 1 을 돌려준다. 카운터를 빼는 쿼리와 같은 트랜잭션에서 부른다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update MemberContentCleanup c set c.countersSubtracted = true where c.memberId = :memberId and c.countersSubtracted = false")
+    int markCountersSubtracted(@Param("memberId") Long memberId);
+}
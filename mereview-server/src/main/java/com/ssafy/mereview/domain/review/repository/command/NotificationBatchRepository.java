@@ -0,0 +1,31 @@
+package com.ssafy.mereview.domain.review.repository.command;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Repository
+public class NotificationBatchRepository {
+
+    // IDENTITY 키라 JPA saveAll 은 한 건씩 INSERT 한다. rewriteBatchedStatements 로 multi-row INSERT 가 된다.
+    private static final String INSERT_SQL = "INSERT INTO notification (member_id, review_id, status, created_time, modified_time) " +
+            "VALUES (?, ?, 'UNCONFIRMED', ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(Long reviewId, List<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(memberIds.size());
+        memberIds.forEach(memberId -> batchArgs.add(new Object[]{memberId, reviewId, now, now}));
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+    }
+}
@@ -0,0 +1,19 @@
+package com.ssafy.mereview.domain.review.repository.command;
+
+import com.ssafy.mereview.domain.review.entity.NotificationInboxState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+@Repository
+public interface NotificationInboxStateRepository extends JpaRepository<NotificationInboxState, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from NotificationInboxState s where s.memberId = :memberId")
+    Optional<NotificationInboxState> findByMemberIdForUpdate(@Param("memberId") Long memberId);
+}
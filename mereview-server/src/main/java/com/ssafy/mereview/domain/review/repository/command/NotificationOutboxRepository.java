@@ -0,0 +1,28 @@
+package com.ssafy.mereview.domain.review.repository.command;
+
+import com.ssafy.mereview.domain.review.entity.NotificationOutbox;
+import com.ssafy.mereview.domain.review.entity.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    @Query("select o.id from NotificationOutbox o where o.status = :status and o.nextAttemptTime <= :now order by o.id")
+    List<Long> findDispatchableIds(@Param("status") OutboxStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 다른 인스턴스가 처리 중인 이벤트는 건너뛴다.
+    @Query(value = "SELECT * FROM notification_outbox WHERE outbox_id = :id AND status = 'PENDING' FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<NotificationOutbox> findPendingByIdForUpdate(@Param("id") Long id);
+
+    Optional<NotificationOutbox> findFirstByStatusOrderByIdAsc(OutboxStatus status);
+
+    long countByStatus(OutboxStatus status);
+}
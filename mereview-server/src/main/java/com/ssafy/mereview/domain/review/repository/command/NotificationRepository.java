@@ -1,9 +1,39 @@
 package com.ssafy.mereview.domain.review.repository.command;
 
 import com.ssafy.mereview.domain.review.entity.Notification;
+import com.ssafy.mereview.domain.review.entity.NotificationStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Notification n set n.status = :status, n.modifiedTime = :now " +
+            "where n.member.id = :memberId and n.status <> :status")
+    int updateStatusByMemberId(@Param("memberId") Long memberId,
+                               @Param("status") NotificationStatus status,
+                               @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Notification n set n.status = :status, n.modifiedTime = :now " +
+            "where n.member.id = :memberId and n.id in :ids and n.status <> :status")
+    int updateStatusByMemberIdAndIds(@Param("memberId") Long memberId,
+                                     @Param("ids") Collection<Long> ids,
+                                     @Param("status") NotificationStatus status,
+                                     @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Notification n where n.member.id = :memberId and n.id in :ids")
+    int deleteByMemberIdAndIds(@Param("memberId") Long memberId, @Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Notification n where n.member.id = :memberId and n.status = :status")
+    int deleteByMemberIdAndStatus(@Param("memberId") Long memberId, @Param("status") NotificationStatus status);
 }
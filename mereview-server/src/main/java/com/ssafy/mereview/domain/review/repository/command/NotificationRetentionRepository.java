@@ -0,0 +1,76 @@
+package com.ssafy.mereview.domain.review.repository.command;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 알림 보존 정책용 삭제 쿼리. 모든 DELETE 는 PK 범위나 LIMIT 으로 잘라 한 번에 짧게 잠근다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class NotificationRetentionRepository {
+
+    private static final String FIND_FIRST_AFTER_SQL = "SELECT %s, created_time FROM %s WHERE %s > ? ORDER BY %s LIMIT 1";
+    private static final String DELETE_RANGE_SQL = "DELETE FROM %s WHERE %s > ? AND %s <= ? AND created_time < ?";
+
+    private static final String FIND_MAX_NOTIFICATION_ID_SQL = "SELECT COALESCE(MAX(notification_id), 0) FROM notification";
+    private static final String FIND_MEMBERS_IN_RANGE_SQL = "SELECT DISTINCT member_id FROM notification " +
+            "WHERE notification_id > ? AND notification_id <= ?";
+    private static final String FIND_CAP_BOUNDARY_SQL = "SELECT notification_id FROM notification WHERE member_id = ? " +
+            "ORDER BY created_time DESC, notification_id DESC LIMIT 1 OFFSET ?";
+    private static final String DELETE_MEMBER_UNTIL_SQL = "DELETE FROM notification WHERE member_id = ? AND notification_id <= ? " +
+            "ORDER BY notification_id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum PurgeTarget {
+        NOTIFICATION("notification", "notification_id"),
+        GENRE_REVIEW_EVENT("genre_review_event", "event_id");
+
+        private final String tableName;
+        private final String idColumn;
+    }
+
+    // lastId 다음 행이 cutoff 보다 오래됐으면 그 id 를 돌려준다. id 는 시간 순으로 늘어나므로 비어 있으면 더 지울 행이 없다.
+    public Optional<Long> findFirstIdOlderThan(PurgeTarget target, long lastId, LocalDateTime cutoff) {
+        String sql = String.format(FIND_FIRST_AFTER_SQL, target.getIdColumn(), target.getTableName(), target.getIdColumn(), target.getIdColumn());
+        List<Long> ids = jdbcTemplate.query(sql,
+                (rs, rowNum) -> rs.getTimestamp("created_time").toLocalDateTime().isBefore(cutoff) ? rs.getLong(1) : null,
+                lastId);
+        return ids.isEmpty() ? Optional.empty() : Optional.ofNullable(ids.get(0));
+    }
+
+    public int deleteOlderThanInRange(PurgeTarget target, long fromIdExclusive, long toIdInclusive, LocalDateTime cutoff) {
+        String sql = String.format(DELETE_RANGE_SQL, target.getTableName(), target.getIdColumn(), target.getIdColumn());
+        return jdbcTemplate.update(sql, fromIdExclusive, toIdInclusive, Timestamp.valueOf(cutoff));
+    }
+
+    public long findMaxNotificationId() {
+        Long maxId = jdbcTemplate.queryForObject(FIND_MAX_NOTIFICATION_ID_SQL, Long.class);
+        return maxId == null ? 0 : maxId;
+    }
+
+    // PK 범위 안에서 알림을 받은 회원. 보관 개수를 새로 넘을 수 있는 후보만 고른다.
+    public List<Long> findMemberIdsInRange(long fromIdExclusive, long toIdInclusive) {
+        return jdbcTemplate.queryForList(FIND_MEMBERS_IN_RANGE_SQL, Long.class, fromIdExclusive, toIdInclusive);
+    }
+
+    // 최신순으로 cap 개를 남길 때 지워야 하는 가장 최근 알림 id. (member_id, created_time) 인덱스만 읽는다.
+    public Optional<Long> findCapBoundaryId(Long memberId, int cap) {
+        List<Long> ids = jdbcTemplate.queryForList(FIND_CAP_BOUNDARY_SQL, Long.class, memberId, cap);
+        return ids.isEmpty() ? Optional.empty() : Optional.of(ids.get(0));
+    }
+
+    public int deleteMemberNotificationsUntil(Long memberId, long boundaryId, int limit) {
+        return jdbcTemplate.update(DELETE_MEMBER_UNTIL_SQL, memberId, boundaryId, limit);
+    }
+}
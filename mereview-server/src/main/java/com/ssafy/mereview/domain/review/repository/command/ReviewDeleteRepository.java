@@ -0,0 +1,149 @@
+package com.ssafy.mereview.domain.review.repository.command;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 리뷰/회원 삭제용 집합 단위 DELETE 쿼리. 모든 DELETE 는 LIMIT 으로 잘라 한 번에 짧게 잠근다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class ReviewDeleteRepository {
+
+    private static final String FIND_REVIEWS_BY_ID_SQL = "SELECT review_id, member_id, genre_id FROM review WHERE review_id IN (:ids)";
+    private static final String FIND_REVIEWS_BY_MEMBER_SQL = "SELECT review_id, member_id, genre_id FROM review " +
+            "WHERE member_id = :memberId AND review_id > :lastId ORDER BY review_id LIMIT :limit";
+    private static final String FIND_NOTIFIED_MEMBERS_SQL = "SELECT DISTINCT member_id FROM notification WHERE review_id IN (:ids)";
+
+    private static final String DELETE_COMMENT_LIKES_BY_REVIEW_SQL = "DELETE FROM comment_like " +
+            "WHERE comment_id IN (SELECT comment_id FROM comment WHERE review_id IN (:ids)) LIMIT :limit";
+    private static final String DELETE_BY_REVIEW_SQL = "DELETE FROM %s WHERE review_id IN (:ids) LIMIT :limit";
+    private static final String DELETE_REVIEWS_SQL = "DELETE FROM review WHERE review_id IN (:ids)";
+
+    private static final String DELETE_COMMENT_LIKES_BY_COMMENT_WRITER_SQL = "DELETE FROM comment_like " +
+            "WHERE comment_id IN (SELECT comment_id FROM comment WHERE member_id = :memberId) LIMIT :limit";
+    private static final String DELETE_BY_MEMBER_SQL = "DELETE FROM %s WHERE member_id = :memberId LIMIT :limit";
+    private static final String DELETE_FOLLOWS_SQL = "DELETE FROM member_follow WHERE member_id = :memberId OR target_member_id = :memberId LIMIT :limit";
+
+    // 지울 평가만큼 남의 리뷰에 비정규화된 평가 수를 먼저 빼 둔다.
+    private static final String SUBTRACT_EVALUATION_COUNTS_SQL = "UPDATE review r JOIN (" +
+            "SELECT review_id, SUM(type = 'FUN') fun, SUM(type = 'USEFUL') useful, SUM(type = 'BAD') bad " +
+            "FROM review_evaluation WHERE member_id = :memberId GROUP BY review_id) e ON r.review_id = e.review_id " +
+            "SET r.fun_count = GREATEST(r.fun_count - e.fun, 0), r.useful_count = GREATEST(r.useful_count - e.useful, 0), " +
+            "r.bad_count = GREATEST(r.bad_count - e.bad, 0)";
+
+    // 남의 리뷰에 단 댓글 수도 같은 방식으로 뺀다.
+    private static final String SUBTRACT_COMMENT_COUNTS_SQL = "UPDATE review r JOIN (" +
+            "SELECT review_id, COUNT(*) cnt FROM comment WHERE member_id = :memberId GROUP BY review_id) c ON r.review_id = c.review_id " +
+            "SET r.comment_count = GREATEST(r.comment_count - c.cnt, 0)";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 리뷰에 딸린 테이블. 부모를 참조하는 쪽부터 지우도록 순서를 유지한다.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum ReviewChildTable {
+        COMMENT("comment"),
+        REVIEW_EVALUATION("review_evaluation"),
+        KEYWORD("keyword"),
+        BACKGROUND_IMAGE("background_image"),
+        NOTIFICATION("notification"),
+        GENRE_REVIEW_EVENT("genre_review_event"),
+        NOTIFICATION_OUTBOX("notification_outbox");
+
+        private final String tableName;
+    }
+
+    /**
+     * 회원이 남긴 행 중 member_id 하나로 지울 수 있는 테이블. 리뷰를 지운 뒤에 처리한다.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum MemberChildTable {
+        COMMENT_LIKE("comment_like"),
+        COMMENT("comment"),
+        REVIEW_EVALUATION("review_evaluation"),
+        INTEREST("interest"),
+        NOTIFICATION("notification"),
+        NOTIFICATION_INBOX_STATE("notification_inbox_state");
+
+        private final String tableName;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class DeletableReview {
+        private final Long reviewId;
+        private final Long memberId;
+        private final Long genreId;
+    }
+
+    public List<DeletableReview> findReviewsByIds(Collection<Long> reviewIds) {
+        return namedParameterJdbcTemplate.query(FIND_REVIEWS_BY_ID_SQL, new MapSqlParameterSource("ids", reviewIds),
+                (rs, rowNum) -> new DeletableReview(rs.getLong("review_id"), rs.getLong("member_id"), rs.getObject("genre_id", Long.class)));
+    }
+
+    public List<DeletableReview> findReviewsByMemberId(Long memberId, long lastReviewId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("memberId", memberId)
+                .addValue("lastId", lastReviewId)
+                .addValue("limit", limit);
+        return namedParameterJdbcTemplate.query(FIND_REVIEWS_BY_MEMBER_SQL, params,
+                (rs, rowNum) -> new DeletableReview(rs.getLong("review_id"), rs.getLong("member_id"), rs.getObject("genre_id", Long.class)));
+    }
+
+    public List<Long> findNotifiedMemberIds(Collection<Long> reviewIds) {
+        return namedParameterJdbcTemplate.queryForList(FIND_NOTIFIED_MEMBERS_SQL, new MapSqlParameterSource("ids", reviewIds), Long.class);
+    }
+
+    public int deleteCommentLikesByReviewIds(Collection<Long> reviewIds, int limit) {
+        return namedParameterJdbcTemplate.update(DELETE_COMMENT_LIKES_BY_REVIEW_SQL, reviewParams(reviewIds, limit));
+    }
+
+    public int deleteByReviewIds(ReviewChildTable table, Collection<Long> reviewIds, int limit) {
+        return namedParameterJdbcTemplate.update(String.format(DELETE_BY_REVIEW_SQL, table.getTableName()), reviewParams(reviewIds, limit));
+    }
+
+    public int deleteReviews(Collection<Long> reviewIds) {
+        return namedParameterJdbcTemplate.update(DELETE_REVIEWS_SQL, new MapSqlParameterSource("ids", reviewIds));
+    }
+
+    public int deleteCommentLikesByCommentWriter(Long memberId, int limit) {
+        return namedParameterJdbcTemplate.update(DELETE_COMMENT_LIKES_BY_COMMENT_WRITER_SQL, memberParams(memberId, limit));
+    }
+
+    public int deleteByMemberId(MemberChildTable table, Long memberId, int limit) {
+        return namedParameterJdbcTemplate.update(String.format(DELETE_BY_MEMBER_SQL, table.getTableName()), memberParams(memberId, limit));
+    }
+
+    public int deleteFollows(Long memberId, int limit) {
+        return namedParameterJdbcTemplate.update(DELETE_FOLLOWS_SQL, memberParams(memberId, limit));
+    }
+
+    public int subtractEvaluationCounts(Long memberId) {
+        return namedParameterJdbcTemplate.update(SUBTRACT_EVALUATION_COUNTS_SQL, new MapSqlParameterSource("memberId", memberId));
+    }
+
+    public int subtractCommentCounts(Long memberId) {
+        return namedParameterJdbcTemplate.update(SUBTRACT_COMMENT_COUNTS_SQL, new MapSqlParameterSource("memberId", memberId));
+    }
+
+    /**
+     * private methods
+     */
+
+    private MapSqlParameterSource reviewParams(Collection<Long> reviewIds, int limit) {
+        return new MapSqlParameterSource("ids", reviewIds).addValue("limit", limit);
+    }
+
+    private MapSqlParameterSource memberParams(Long memberId, int limit) {
+        return new MapSqlParameterSource("memberId", memberId).addValue("limit", limit);
+    }
+}
@@ -0,0 +1,24 @@
+package com.ssafy.mereview.domain.review.repository.command;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+@Repository
+public class ReviewHitsRepository {
+
+    private static final String INCREASE_HITS_SQL = "UPDATE review SET hits = hits + ? WHERE review_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void increaseHits(Map<Long, Integer> hitsByReviewId) {
+        List<Object[]> batchArgs = new ArrayList<>(hitsByReviewId.size());
+        hitsByReviewId.forEach((reviewId, hits) -> batchArgs.add(new Object[]{hits, reviewId}));
+        jdbcTemplate.batchUpdate(INCREASE_HITS_SQL, batchArgs);
+    }
+}
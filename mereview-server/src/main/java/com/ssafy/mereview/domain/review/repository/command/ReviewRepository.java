@@ -2,8 +2,45 @@ package com.ssafy.mereview.domain.review.repository.command;
 
 import com.ssafy.mereview.domain.review.entity.Review;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Review r set r.funCount = r.funCount + :delta where r.id = :reviewId")
+    int updateFunCount(@Param("reviewId") Long reviewId, @Param("delta") int delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Review r set r.usefulCount = r.usefulCount + :delta where r.id = :reviewId")
+    int updateUsefulCount(@Param("reviewId") Long reviewId, @Param("delta") int delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Review r set r.badCount = r.badCount + :delta where r.id = :reviewId")
+    int updateBadCount(@Param("reviewId") Long reviewId, @Param("delta") int delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Review r set r.commentCount = r.commentCount + :delta where r.id = :reviewId and r.commentCount + :delta >= 0")
+    int updateCommentCount(@Param("reviewId") Long reviewId, @Param("delta") int delta);
+
+    // 읽은 시점의 카운터 값과 같을 때만 덮어쓴다. 그 사이 평가가 바뀌었다면 다음 보정 때 다시 맞춘다.
+    @Modifying(flushAutomatically = true)
+    @Query("update Review r set r.funCount = :funCount, r.usefulCount = :usefulCount, r.badCount = :badCount " +
+            "where r.id = :reviewId and r.funCount = :oldFunCount and r.usefulCount = :oldUsefulCount and r.badCount = :oldBadCount")
+    int reconcileEvaluationCounts(@Param("reviewId") Long reviewId,
+                                  @Param("funCount") int funCount,
+                                  @Param("usefulCount") int usefulCount,
+                                  @Param("badCount") int badCount,
+                                  @Param("oldFunCount") int oldFunCount,
+                                  @Param("oldUsefulCount") int oldUsefulCount,
+                                  @Param("oldBadCount") int oldBadCount);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Review r set r.commentCount = :commentCount where r.id = :reviewId and r.commentCount = :oldCommentCount")
+    int reconcileCommentCount(@Param("reviewId") Long reviewId,
+                              @Param("commentCount") int commentCount,
+                              @Param("oldCommentCount") int oldCommentCount);
 }
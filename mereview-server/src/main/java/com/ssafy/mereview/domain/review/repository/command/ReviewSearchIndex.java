@@ -0,0 +1,22 @@
+package com.ssafy.mereview.domain.review.repository.command;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public enum ReviewSearchIndex {
+    MOVIE_TITLE("movie", "ft_movie_title", List.of("title")),
+    REVIEW_CONTENT("review", "ft_review_content", List.of("content")),
+    MEMBER_NICKNAME("member", "ft_member_nickname", List.of("nickname"));
+
+    private final String tableName;
+    private final String indexName;
+    private final List<String> columns;
+
+    public String getColumnNames() {
+        return String.join(", ", columns);
+    }
+}
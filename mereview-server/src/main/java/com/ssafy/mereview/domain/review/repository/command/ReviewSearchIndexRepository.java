@@ -0,0 +1,21 @@
+package com.ssafy.mereview.domain.review.repository.command;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@Repository
+public class ReviewSearchIndexRepository {
+
+    private static final String FIND_INDEX_COLUMNS_SQL = "SELECT column_name FROM information_schema.statistics " +
+            "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ? ORDER BY seq_in_index";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<String> findIndexColumns(ReviewSearchIndex index) {
+        return jdbcTemplate.queryForList(FIND_INDEX_COLUMNS_SQL, String.class, index.getTableName(), index.getIndexName());
+    }
+}
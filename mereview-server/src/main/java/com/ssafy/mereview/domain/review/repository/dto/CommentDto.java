@@ -0,0 +1,30 @@
+package com.ssafy.mereview.domain.review.repository.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@ToString
+@Getter
+public class CommentDto {
+    private Long commentId;
+    private Long memberId;
+    private String nickname;
+    private String content;
+    private Long profileImageId;
+    private String profileImageFileName;
+    private LocalDateTime profileImageCreatedTime;
+    private LocalDateTime createdTime;
+
+    public CommentDto(Long commentId, Long memberId, String nickname, String content, Long profileImageId, String profileImageFileName, LocalDateTime profileImageCreatedTime, LocalDateTime createdTime) {
+        this.commentId = commentId;
+        this.memberId = memberId;
+        this.nickname = nickname;
+        this.content = content;
+        this.profileImageId = profileImageId;
+        this.profileImageFileName = profileImageFileName;
+        this.profileImageCreatedTime = profileImageCreatedTime;
+        this.createdTime = createdTime;
+    }
+}
@@ -0,0 +1,24 @@
+package com.ssafy.mereview.domain.review.repository.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@ToString
+@Getter
+public class GenreReviewEventDto {
+    private Long eventId;
+    private Long reviewId;
+    private Long genreId;
+    private Long memberId;
+    private LocalDateTime createdTime;
+
+    public GenreReviewEventDto(Long eventId, Long reviewId, Long genreId, Long memberId, LocalDateTime createdTime) {
+        this.eventId = eventId;
+        this.reviewId = reviewId;
+        this.genreId = genreId;
+        this.memberId = memberId;
+        this.createdTime = createdTime;
+    }
+}
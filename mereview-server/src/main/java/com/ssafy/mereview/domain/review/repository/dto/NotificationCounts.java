@@ -0,0 +1,16 @@
+package com.ssafy.mereview.domain.review.repository.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+@ToString
+@Getter
+public class NotificationCounts {
+    private int totalCount;
+    private int unreadCount;
+
+    public NotificationCounts(int totalCount, int unreadCount) {
+        this.totalCount = totalCount;
+        this.unreadCount = unreadCount;
+    }
+}
@@ -0,0 +1,45 @@
+package com.ssafy.mereview.domain.review.repository.dto;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.springframework.util.StringUtils.hasText;
+
+@Getter
+public class NotificationCursor {
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdTime;
+    private final Long notificationId;
+
+    private NotificationCursor(LocalDateTime createdTime, Long notificationId) {
+        this.createdTime = createdTime;
+        this.notificationId = notificationId;
+    }
+
+    public static NotificationCursor of(NotifiedReviewDto notifiedReview) {
+        return new NotificationCursor(notifiedReview.getNotifiedTime(), notifiedReview.getNotificationId());
+    }
+
+    // 빈 커서는 첫 페이지를 의미한다.
+    public static NotificationCursor decode(String cursor) {
+        if (!hasText(cursor)) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] tokens = decoded.split("\\" + DELIMITER, -1);
+            return new NotificationCursor(LocalDateTime.parse(tokens[0]), Long.parseLong(tokens[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER, String.valueOf(createdTime), String.valueOf(notificationId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
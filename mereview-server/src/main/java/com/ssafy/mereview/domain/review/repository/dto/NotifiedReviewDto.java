@@ -0,0 +1,20 @@
+package com.ssafy.mereview.domain.review.repository.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@ToString
+@Getter
+public class NotifiedReviewDto {
+    private Long notificationId;
+    private LocalDateTime notifiedTime;
+    private ReviewDto review;
+
+    public NotifiedReviewDto(Long notificationId, LocalDateTime notifiedTime, ReviewDto review) {
+        this.notificationId = notificationId;
+        this.notifiedTime = notifiedTime;
+        this.review = review;
+    }
+}
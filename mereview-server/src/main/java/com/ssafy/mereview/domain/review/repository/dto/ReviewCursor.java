@@ -0,0 +1,95 @@
+package com.ssafy.mereview.domain.review.repository.dto;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+
+import static org.springframework.util.StringUtils.hasText;
+
+@Getter
+public class ReviewCursor {
+    private static final String DELIMITER = "|";
+
+    private final String orderBy;
+    private final String orderDir;
+    private final String sortValue;
+    private final Long reviewId;
+
+    private ReviewCursor(String orderBy, String orderDir, String sortValue, Long reviewId) {
+        this.orderBy = orderBy;
+        this.orderDir = orderDir;
+        this.sortValue = sortValue;
+        this.reviewId = reviewId;
+    }
+
+    public static ReviewCursor of(ReviewDto review, String orderBy, String orderDir) {
+        return new ReviewCursor(orderBy, orderDir, getSortValue(review, orderBy), review.getReviewId());
+    }
+
+    // 빈 커서는 첫 페이지를 의미한다.
+    public static ReviewCursor decode(String cursor, String orderBy, String orderDir) {
+        if (!hasText(cursor)) {
+            return null;
+        }
+        ReviewCursor reviewCursor;
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] tokens = decoded.split("\\" + DELIMITER, -1);
+            reviewCursor = new ReviewCursor(tokens[0], tokens[1], tokens[2], Long.parseLong(tokens[3]));
+            reviewCursor.validateSortValue();
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+        if (!Objects.equals(reviewCursor.orderBy, orderBy) || !Objects.equals(reviewCursor.orderDir, orderDir)) {
+            throw new IllegalArgumentException("정렬 조건이 커서와 일치하지 않습니다.");
+        }
+        return reviewCursor;
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER, orderBy, orderDir, sortValue, String.valueOf(reviewId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getCreatedTime() {
+        return LocalDateTime.parse(sortValue);
+    }
+
+    public int getCount() {
+        return Integer.parseInt(sortValue);
+    }
+
+    public boolean isOrderByCreatedTime() {
+        return !hasText(orderBy) || !List.of("hits", "FUN", "USEFUL", "POSITIVE").contains(orderBy);
+    }
+
+    private void validateSortValue() {
+        if (isOrderByCreatedTime()) {
+            getCreatedTime();
+        } else {
+            getCount();
+        }
+    }
+
+    private static String getSortValue(ReviewDto review, String orderBy) {
+        if (!hasText(orderBy)) {
+            return String.valueOf(review.getCreatedTime());
+        }
+        switch (orderBy) {
+            case "hits":
+                return String.valueOf(review.getHits());
+            case "FUN":
+                return String.valueOf(review.getFunCount());
+            case "USEFUL":
+                return String.valueOf(review.getUsefulCount());
+            case "POSITIVE":
+                return String.valueOf(review.getPositiveCount());
+            default:
+                return String.valueOf(review.getCreatedTime());
+        }
+    }
+}
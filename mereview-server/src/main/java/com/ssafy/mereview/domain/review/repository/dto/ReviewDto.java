@@ -0,0 +1,75 @@
+package com.ssafy.mereview.domain.review.repository.dto;
+
+import com.ssafy.mereview.domain.review.entity.MovieRecommendType;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@ToString
+@Getter
+public class ReviewDto {
+    private Long reviewId;
+    private String reviewTitle;
+    private int hits;
+    private String highlight;
+    private MovieRecommendType movieRecommendType;
+    private int commentCount;
+    private int funCount;
+    private int usefulCount;
+    private int badCount;
+    private Long backgroundImageId;
+    private String backgroundImageFileName;
+    private LocalDateTime backgroundImageCreatedTime;
+    private LocalDateTime createdTime;
+    private Long memberId;
+    private String nickname;
+    private Long profileImageId;
+    private String profileImageFileName;
+    private LocalDateTime profileImageCreatedTime;
+    private Long movieId;
+    private String movieTitle;
+    private String movieReleaseDate;
+    private Long genreId;
+    private Integer genreNumber;
+    private String genreName;
+    private Boolean genreUsing;
+
+    public ReviewDto(Long reviewId, String reviewTitle, int hits, String highlight, MovieRecommendType movieRecommendType,
+                     int commentCount, int funCount, int usefulCount, int badCount,
+                     Long backgroundImageId, String backgroundImageFileName, LocalDateTime backgroundImageCreatedTime,
+                     LocalDateTime createdTime, Long memberId, String nickname,
+                     Long profileImageId, String profileImageFileName, LocalDateTime profileImageCreatedTime,
+                     Long movieId, String movieTitle, String movieReleaseDate,
+                     Long genreId, Integer genreNumber, String genreName, Boolean genreUsing) {
+        this.reviewId = reviewId;
+        this.reviewTitle = reviewTitle;
+        this.hits = hits;
+        this.highlight = highlight;
+        this.movieRecommendType = movieRecommendType;
+        this.commentCount = commentCount;
+        this.funCount = funCount;
+        this.usefulCount = usefulCount;
+        this.badCount = badCount;
+        this.backgroundImageId = backgroundImageId;
+        this.backgroundImageFileName = backgroundImageFileName;
+        this.backgroundImageCreatedTime = backgroundImageCreatedTime;
+        this.createdTime = createdTime;
+        this.memberId = memberId;
+        this.nickname = nickname;
+        this.profileImageId = profileImageId;
+        this.profileImageFileName = profileImageFileName;
+        this.profileImageCreatedTime = profileImageCreatedTime;
+        this.movieId = movieId;
+        this.movieTitle = movieTitle;
+        this.movieReleaseDate = movieReleaseDate;
+        this.genreId = genreId;
+        this.genreNumber = genreNumber;
+        this.genreName = genreName;
+        this.genreUsing = genreUsing;
+    }
+
+    public int getPositiveCount() {
+        return funCount + usefulCount;
+    }
+}
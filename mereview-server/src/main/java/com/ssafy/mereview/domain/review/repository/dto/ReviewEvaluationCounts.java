@@ -0,0 +1,22 @@
+package com.ssafy.mereview.domain.review.repository.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+@ToString
+@Getter
+public class ReviewEvaluationCounts {
+    private Long reviewId;
+    private int funCount;
+    private int usefulCount;
+    private int badCount;
+    private int commentCount;
+
+    public ReviewEvaluationCounts(Long reviewId, int funCount, int usefulCount, int badCount, int commentCount) {
+        this.reviewId = reviewId;
+        this.funCount = funCount;
+        this.usefulCount = usefulCount;
+        this.badCount = badCount;
+        this.commentCount = commentCount;
+    }
+}
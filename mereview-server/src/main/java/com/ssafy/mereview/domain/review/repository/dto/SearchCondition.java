@@ -3,6 +3,8 @@ package com.ssafy.mereview.domain.review.repository.dto;
 import lombok.Builder;
 import lombok.Getter;
 
+import static org.springframework.util.StringUtils.hasText;
+
 @Getter
 public class SearchCondition {
     private String title;
@@ -27,4 +29,13 @@ public class SearchCondition {
         this.term = term;
         this.genreId = genreId;
     }
+
+    public boolean hasTextFilter() {
+        return hasText(title) || hasText(content) || hasText(nickname);
+    }
+
+    // 정렬 조건 없이 검색어로 찾으면 관련도 순으로 보여 준다.
+    public boolean isOrderByRelevance() {
+        return hasTextFilter() && !hasText(orderBy);
+    }
 }
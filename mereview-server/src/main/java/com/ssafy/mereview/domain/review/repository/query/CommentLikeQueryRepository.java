@@ -6,9 +6,7 @@ import com.ssafy.mereview.domain.review.entity.CommentLikeType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
-import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import static com.ssafy.mereview.domain.review.entity.QCommentLike.commentLike;
@@ -43,4 +41,38 @@ public class CommentLikeQueryRepository {
                 ));
     }
 
+    public Map<Long, Map<CommentLikeType, Integer>> getCountByCommentIdsGroupByType(Collection<Long> commentIds) {
+        Map<Long, Map<CommentLikeType, Integer>> countsMap = new HashMap<>();
+        if (commentIds == null || commentIds.isEmpty()) {
+            return countsMap;
+        }
+
+        queryFactory
+                .select(commentLike.comment.id, commentLike.type, commentLike.count())
+                .from(commentLike)
+                .where(commentLike.comment.id.in(commentIds))
+                .groupBy(commentLike.comment.id, commentLike.type)
+                .fetch()
+                .forEach(tuple -> countsMap
+                        .computeIfAbsent(tuple.get(commentLike.comment.id), id -> new EnumMap<>(CommentLikeType.class))
+                        .put(tuple.get(commentLike.type), Objects.requireNonNull(tuple.get(commentLike.count())).intValue()));
+
+        return countsMap;
+    }
+
+    public Set<Long> searchCommentIdsByMember(Collection<Long> commentIds, Long memberId) {
+        if (commentIds == null || commentIds.isEmpty() || memberId == null) {
+            return new HashSet<>();
+        }
+
+        return new HashSet<>(queryFactory
+                .select(commentLike.comment.id)
+                .from(commentLike)
+                .where(
+                        commentLike.comment.id.in(commentIds),
+                        commentLike.member.id.eq(memberId)
+                )
+                .fetch());
+    }
+
 }
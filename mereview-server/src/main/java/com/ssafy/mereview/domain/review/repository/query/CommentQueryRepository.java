@@ -0,0 +1,83 @@
+package com.ssafy.mereview.domain.review.repository.query;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ssafy.mereview.domain.review.repository.dto.CommentDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.ssafy.mereview.domain.member.entity.QMember.member;
+import static com.ssafy.mereview.domain.member.entity.QProfileImage.profileImage;
+import static com.ssafy.mereview.domain.review.entity.QComment.comment;
+
+@RequiredArgsConstructor
+@Repository
+public class CommentQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    // 댓글은 작성 순서(id 오름차순)로 보여 주며, 마지막으로 받은 댓글 id 이후부터 조회한다.
+    public List<CommentDto> searchByReviewId(Long reviewId, Long lastCommentId, int size) {
+        return queryFactory
+                .select(Projections.constructor(CommentDto.class,
+                        comment.id,
+                        member.id,
+                        member.nickname,
+                        comment.content,
+                        profileImage.id,
+                        profileImage.uploadFile.uploadFileName,
+                        profileImage.createdTime,
+                        comment.createdTime))
+                .from(comment)
+                .join(comment.member, member)
+                .leftJoin(member.profileImage, profileImage)
+                .where(
+                        comment.review.id.eq(reviewId),
+                        isAfter(lastCommentId)
+                )
+                .orderBy(comment.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    public int countByReviewId(Long reviewId) {
+        Long count = queryFactory
+                .select(comment.count())
+                .from(comment)
+                .where(comment.review.id.eq(reviewId))
+                .fetchOne();
+        return count == null ? 0 : count.intValue();
+    }
+
+    public Map<Long, Integer> countByReviewIds(Collection<Long> reviewIds) {
+        Map<Long, Integer> countMap = new HashMap<>();
+        if (reviewIds == null || reviewIds.isEmpty()) {
+            return countMap;
+        }
+
+        queryFactory
+                .select(comment.review.id, comment.count())
+                .from(comment)
+                .where(comment.review.id.in(reviewIds))
+                .groupBy(comment.review.id)
+                .fetch()
+                .forEach(tuple -> countMap.put(tuple.get(comment.review.id), Objects.requireNonNull(tuple.get(comment.count())).intValue()));
+
+        return countMap;
+    }
+
+    /**
+     * private methods
+     */
+
+    private BooleanExpression isAfter(Long lastCommentId) {
+        return lastCommentId != null ? comment.id.gt(lastCommentId) : null;
+    }
+}
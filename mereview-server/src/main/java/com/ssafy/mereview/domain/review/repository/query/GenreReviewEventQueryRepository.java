@@ -0,0 +1,120 @@
+package com.ssafy.mereview.domain.review.repository.query;
+
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ssafy.mereview.domain.review.repository.dto.GenreReviewEventDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static com.ssafy.mereview.domain.review.entity.QGenreReviewEvent.genreReviewEvent;
+
+@RequiredArgsConstructor
+@Repository
+public class GenreReviewEventQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    // (genre_id, event_id) 인덱스를 역순으로 읽는다.
+    public List<GenreReviewEventDto> searchByGenreId(Long genreId, Long lastEventId, int size) {
+        return queryFactory
+                .select(selectEventDto())
+                .from(genreReviewEvent)
+                .where(
+                        genreReviewEvent.genreId.eq(genreId),
+                        isBefore(lastEventId)
+                )
+                .orderBy(genreReviewEvent.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    // 관심 장르의 이벤트 중 회원 알림함에 들어갈 수 있는 것을 센다. eventIds 가 있으면 그 안에서만 센다.
+    public long countInboxEvents(List<Long> genreIds, Long memberId, LocalDateTime joinedTime, Collection<Long> eventIds) {
+        Long result = queryFactory
+                .select(genreReviewEvent.count())
+                .from(genreReviewEvent)
+                .where(
+                        isInbox(genreIds, memberId, joinedTime),
+                        isIn(eventIds)
+                )
+                .fetchOne();
+        return result == null ? 0 : result;
+    }
+
+    // (afterEventId, toEventId] 범위에서 센다. null 인 쪽은 열려 있다.
+    public long countInboxEventsBetween(List<Long> genreIds, Long memberId, LocalDateTime joinedTime, Long afterEventId, Long toEventId) {
+        Long result = queryFactory
+                .select(genreReviewEvent.count())
+                .from(genreReviewEvent)
+                .where(
+                        isInbox(genreIds, memberId, joinedTime),
+                        isAfter(afterEventId),
+                        isUpTo(toEventId)
+                )
+                .fetchOne();
+        return result == null ? 0 : result;
+    }
+
+    public Long searchMaxEventId() {
+        Long maxEventId = queryFactory
+                .select(genreReviewEvent.id.max())
+                .from(genreReviewEvent)
+                .fetchOne();
+        return maxEventId == null ? 0L : maxEventId;
+    }
+
+    public List<Long> searchInboxEventIds(List<Long> genreIds, Long memberId, LocalDateTime joinedTime, Collection<Long> eventIds) {
+        return queryFactory
+                .select(genreReviewEvent.id)
+                .from(genreReviewEvent)
+                .where(
+                        isInbox(genreIds, memberId, joinedTime),
+                        isIn(eventIds)
+                )
+                .orderBy(genreReviewEvent.id.desc())
+                .fetch();
+    }
+
+    /**
+     * private methods
+     */
+
+    private ConstructorExpression<GenreReviewEventDto> selectEventDto() {
+        return Projections.constructor(GenreReviewEventDto.class,
+                genreReviewEvent.id,
+                genreReviewEvent.review.id,
+                genreReviewEvent.genreId,
+                genreReviewEvent.memberId,
+                genreReviewEvent.createdTime
+        );
+    }
+
+    // 가입 이후 관심 장르에 다른 회원이 쓴 리뷰만 알림함에 들어간다.
+    private BooleanExpression isInbox(List<Long> genreIds, Long memberId, LocalDateTime joinedTime) {
+        return genreReviewEvent.genreId.in(genreIds)
+                .and(genreReviewEvent.memberId.ne(memberId))
+                .and(genreReviewEvent.createdTime.goe(joinedTime));
+    }
+
+    private BooleanExpression isIn(Collection<Long> eventIds) {
+        return eventIds == null ? null : genreReviewEvent.id.in(eventIds);
+    }
+
+    private BooleanExpression isAfter(Long afterEventId) {
+        return afterEventId == null ? null : genreReviewEvent.id.gt(afterEventId);
+    }
+
+    private BooleanExpression isUpTo(Long toEventId) {
+        return toEventId == null ? null : genreReviewEvent.id.loe(toEventId);
+    }
+
+    private BooleanExpression isBefore(Long lastEventId) {
+        return lastEventId == null ? null : genreReviewEvent.id.lt(lastEventId);
+    }
+}
@@ -1,15 +1,35 @@
 package com.ssafy.mereview.domain.review.repository.query;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.ssafy.mereview.domain.review.entity.Keyword;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.ssafy.mereview.domain.review.entity.QKeyword.keyword;
+import static com.ssafy.mereview.domain.review.entity.QReview.review;
+
 @RequiredArgsConstructor
 @Repository
 public class KeywordQueryRepository {
 
     private final JPAQueryFactory queryFactory;
 
-
+    // 영화에 달린 리뷰들의 키워드를 이름별 가중치 합으로 묶는다.
+    public Map<String, Integer> searchWeightsByMovieId(Long movieId) {
+        Map<String, Integer> weightMap = new LinkedHashMap<>();
+        queryFactory
+                .select(keyword.name, keyword.weight.sum())
+                .from(keyword)
+                .join(keyword.review, review)
+                .where(review.movie.id.eq(movieId))
+                .groupBy(keyword.name)
+                .fetch()
+                .forEach(tuple -> {
+                    Integer weight = tuple.get(keyword.weight.sum());
+                    weightMap.put(tuple.get(keyword.name), weight == null ? 0 : weight);
+                });
+        return weightMap;
+    }
 }
@@ -0,0 +1,233 @@
+package com.ssafy.mereview.domain.review.repository.query;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ssafy.mereview.api.service.review.dto.response.NotificationResponse;
+import com.ssafy.mereview.domain.member.repository.MemberInterestQueryRepository;
+import com.ssafy.mereview.domain.review.entity.NotificationInboxState;
+import com.ssafy.mereview.domain.review.entity.NotificationStatus;
+import com.ssafy.mereview.domain.review.repository.command.NotificationInboxStateRepository;
+import com.ssafy.mereview.domain.review.repository.dto.GenreReviewEventDto;
+import com.ssafy.mereview.domain.review.repository.dto.NotificationCounts;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static com.ssafy.mereview.domain.member.entity.QMember.member;
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * PULL 모드 알림함. 관심 장르별 이벤트 스트림을 event_id 역순으로 k-way 병합하고
+ * 회원별 확인, 삭제 상태를 덧입혀 알림 목록을 만든다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class NotificationInboxQueryRepository {
+
+    private static final int STREAM_FETCH_SIZE = 100;
+    private static final int ID_CHUNK_SIZE = 1000;
+
+    private final JPAQueryFactory queryFactory;
+    private final GenreReviewEventQueryRepository eventQueryRepository;
+    private final MemberInterestQueryRepository interestQueryRepository;
+    private final NotificationInboxStateRepository stateRepository;
+
+    // lastEventId 보다 오래된 이벤트 중 조건에 맞는 것을 최신순으로 최대 size 개 돌려준다.
+    public List<NotificationResponse> searchInbox(Long memberId, String status, Long lastEventId, int size) {
+        List<Long> genreIds = interestQueryRepository.searchGenreIdsByMemberId(memberId);
+        LocalDateTime joinedTime = searchJoinedTime(memberId);
+        if (genreIds.isEmpty() || joinedTime == null) {
+            return new ArrayList<>();
+        }
+
+        NotificationInboxState state = searchState(memberId);
+        NotificationStatus targetStatus = hasText(status) ? NotificationStatus.valueOf(status) : null;
+
+        PriorityQueue<GenreStream> heads = new PriorityQueue<>(Comparator.comparing(GenreStream::getHeadEventId, Comparator.reverseOrder()));
+        for (Long genreId : genreIds) {
+            offerIfAvailable(heads, new GenreStream(genreId, lastEventId), joinedTime);
+        }
+
+        List<NotificationResponse> responses = new ArrayList<>();
+        while (responses.size() < size && !heads.isEmpty()) {
+            GenreStream stream = heads.poll();
+            GenreReviewEventDto event = stream.poll();
+            NotificationStatus eventStatus = state.getStatus(event.getEventId());
+            if (isVisible(event, memberId, state) && (targetStatus == null || targetStatus == eventStatus)) {
+                responses.add(createNotificationResponse(event, memberId, eventStatus));
+            }
+            offerIfAvailable(heads, stream, joinedTime);
+        }
+        return responses;
+    }
+
+    // 병합 없이 개수만 센다. 삭제 범위와 확인 기준선은 범위 COUNT 로, 따로 처리한 id 는 IN 으로 센다.
+    public NotificationCounts countInbox(Long memberId) {
+        List<Long> genreIds = interestQueryRepository.searchGenreIdsByMemberId(memberId);
+        LocalDateTime joinedTime = searchJoinedTime(memberId);
+        if (genreIds.isEmpty() || joinedTime == null) {
+            return new NotificationCounts(0, 0);
+        }
+
+        InboxScope scope = new InboxScope(genreIds, memberId, joinedTime, searchState(memberId));
+        long readUpTo = scope.state.getReadUpToEventId();
+        long[] toggledIds = scope.state.getToggledEventIds().toArray();
+        long totalCount = scope.countVisible(null);
+        long readCount = scope.countVisible(readUpTo)
+                - scope.countVisibleIds(LongStream.of(toggledIds).filter(eventId -> eventId <= readUpTo))
+                + scope.countVisibleIds(LongStream.of(toggledIds).filter(eventId -> eventId > readUpTo));
+        return new NotificationCounts((int) totalCount, (int) (totalCount - readCount));
+    }
+
+    // 전체 확인, 상태별 삭제의 기준선으로 쓴다.
+    public long searchMaxEventId() {
+        return eventQueryRepository.searchMaxEventId();
+    }
+
+    // eventIds 중 알림함에 보이는 이벤트 id 를 최신순으로 돌려준다.
+    public List<Long> searchInboxEventIds(Long memberId, String status, Collection<Long> eventIds) {
+        List<Long> genreIds = interestQueryRepository.searchGenreIdsByMemberId(memberId);
+        LocalDateTime joinedTime = searchJoinedTime(memberId);
+        if (genreIds.isEmpty() || joinedTime == null || eventIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        NotificationInboxState state = searchState(memberId);
+        NotificationStatus targetStatus = hasText(status) ? NotificationStatus.valueOf(status) : null;
+        return eventQueryRepository.searchInboxEventIds(genreIds, memberId, joinedTime, eventIds).stream()
+                .filter(eventId -> !state.isDeleted(eventId))
+                .filter(eventId -> targetStatus == null || targetStatus == state.getStatus(eventId))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * private methods
+     */
+
+    private NotificationInboxState searchState(Long memberId) {
+        return stateRepository.findById(memberId)
+                .orElseGet(() -> NotificationInboxState.builder().memberId(memberId).build());
+    }
+
+    private LocalDateTime searchJoinedTime(Long memberId) {
+        return queryFactory
+                .select(member.createdTime)
+                .from(member)
+                .where(member.id.eq(memberId))
+                .fetchOne();
+    }
+
+    // 가입 전에 작성된 리뷰는 알림함에 넣지 않는다. 이벤트는 최신순이라 만나면 그 스트림은 끝이다.
+    private void offerIfAvailable(PriorityQueue<GenreStream> heads, GenreStream stream, LocalDateTime joinedTime) {
+        GenreReviewEventDto head = stream.peek();
+        if (head != null && !head.getCreatedTime().isBefore(joinedTime)) {
+            heads.offer(stream);
+        }
+    }
+
+    private boolean isVisible(GenreReviewEventDto event, Long memberId, NotificationInboxState state) {
+        return !event.getMemberId().equals(memberId) && !state.isDeleted(event.getEventId());
+    }
+
+    private NotificationResponse createNotificationResponse(GenreReviewEventDto event, Long memberId, NotificationStatus status) {
+        return NotificationResponse.builder()
+                .notificationId(event.getEventId())
+                .memberId(memberId)
+                .reviewId(event.getReviewId())
+                .status(status)
+                .createdTime(event.getCreatedTime())
+                .build();
+    }
+
+    private class InboxScope {
+        private final List<Long> genreIds;
+        private final Long memberId;
+        private final LocalDateTime joinedTime;
+        private final NotificationInboxState state;
+
+        private InboxScope(List<Long> genreIds, Long memberId, LocalDateTime joinedTime, NotificationInboxState state) {
+            this.genreIds = genreIds;
+            this.memberId = memberId;
+            this.joinedTime = joinedTime;
+            this.state = state;
+        }
+
+        // toEventId 이하(null 이면 전체)에서 삭제되지 않은 이벤트를 센다.
+        private long countVisible(Long toEventId) {
+            long count = countBetween(null, toEventId);
+            long[] bounds = state.getDeletedRanges().toArray();
+            for (int i = 0; i < bounds.length; i += 2) {
+                long to = toEventId == null ? bounds[i + 1] : Math.min(bounds[i + 1], toEventId);
+                if (to > bounds[i]) {
+                    count -= countBetween(bounds[i], to);
+                }
+            }
+            count += countIds(LongStream.of(state.getKeptEventIds().toArray()).filter(eventId -> isUpTo(eventId, toEventId)));
+            count -= countIds(LongStream.of(state.getDeletedEventIds().toArray()).filter(eventId -> isUpTo(eventId, toEventId)));
+            return count;
+        }
+
+        private long countVisibleIds(LongStream eventIds) {
+            return countIds(eventIds.filter(eventId -> !state.isDeleted(eventId)));
+        }
+
+        private long countBetween(Long afterEventId, Long toEventId) {
+            return eventQueryRepository.countInboxEventsBetween(genreIds, memberId, joinedTime, afterEventId, toEventId);
+        }
+
+        private long countIds(LongStream eventIds) {
+            List<Long> ids = eventIds.boxed().collect(Collectors.toList());
+            long count = 0;
+            for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size()));
+                count += eventQueryRepository.countInboxEvents(genreIds, memberId, joinedTime, chunk);
+            }
+            return count;
+        }
+
+        private boolean isUpTo(long eventId, Long toEventId) {
+            return toEventId == null || eventId <= toEventId;
+        }
+    }
+
+    private class GenreStream {
+        private final Long genreId;
+        private final Deque<GenreReviewEventDto> buffer = new ArrayDeque<>();
+        private Long cursor;
+        private boolean exhausted;
+
+        private GenreStream(Long genreId, Long cursor) {
+            this.genreId = genreId;
+            this.cursor = cursor;
+        }
+
+        private GenreReviewEventDto peek() {
+            if (buffer.isEmpty() && !exhausted) {
+                fetchNext();
+            }
+            return buffer.peekFirst();
+        }
+
+        private GenreReviewEventDto poll() {
+            GenreReviewEventDto head = peek();
+            buffer.pollFirst();
+            return head;
+        }
+
+        private Long getHeadEventId() {
+            return buffer.getFirst().getEventId();
+        }
+
+        private void fetchNext() {
+            List<GenreReviewEventDto> events = eventQueryRepository.searchByGenreId(genreId, cursor, STREAM_FETCH_SIZE);
+            exhausted = events.size() < STREAM_FETCH_SIZE;
+            if (!events.isEmpty()) {
+                cursor = events.get(events.size() - 1).getEventId();
+                buffer.addAll(events);
+            }
+        }
+    }
+}
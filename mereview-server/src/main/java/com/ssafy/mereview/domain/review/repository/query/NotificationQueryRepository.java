@@ -1,30 +1,58 @@
 package com.ssafy.mereview.domain.review.repository.query;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.ssafy.mereview.api.service.review.dto.response.NotificationResponse;
 import com.ssafy.mereview.domain.review.entity.Notification;
+import com.ssafy.mereview.domain.review.entity.NotificationInboxMode;
 import com.ssafy.mereview.domain.review.entity.NotificationStatus;
-import lombok.RequiredArgsConstructor;
+import com.ssafy.mereview.domain.review.repository.dto.NotificationCounts;
+import com.ssafy.mereview.domain.review.repository.dto.NotificationCursor;
+import com.ssafy.mereview.domain.review.repository.dto.NotifiedReviewDto;
+import com.ssafy.mereview.domain.review.repository.dto.ReviewDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.ssafy.mereview.domain.member.entity.QMember.member;
+import static com.ssafy.mereview.domain.review.entity.NotificationInboxMode.PULL;
+import static com.ssafy.mereview.domain.review.entity.NotificationStatus.UNCONFIRMED;
 import static com.ssafy.mereview.domain.review.entity.QNotification.notification;
 import static com.ssafy.mereview.domain.review.entity.QReview.review;
 import static org.springframework.util.StringUtils.hasText;
 
-@RequiredArgsConstructor
+/**
+ * 알림함 조회. PUSH 모드는 notification 테이블을, PULL 모드는 장르 이벤트 병합 결과를 읽는다.
+ */
 @Repository
 public class NotificationQueryRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final NotificationInboxQueryRepository inboxQueryRepository;
+    private final ReviewQueryRepository reviewQueryRepository;
+    private final NotificationInboxMode inboxMode;
+
+    public NotificationQueryRepository(JPAQueryFactory queryFactory,
+                                       NotificationInboxQueryRepository inboxQueryRepository,
+                                       ReviewQueryRepository reviewQueryRepository,
+                                       @Value("${app.review.notification.inbox-mode:PUSH}") NotificationInboxMode inboxMode) {
+        this.queryFactory = queryFactory;
+        this.inboxQueryRepository = inboxQueryRepository;
+        this.reviewQueryRepository = reviewQueryRepository;
+        this.inboxMode = inboxMode;
+    }
 
     public List<NotificationResponse> searchByMemberId(Long memberId) {
+        if (inboxMode == PULL) {
+            return inboxQueryRepository.searchInbox(memberId, null, null, Integer.MAX_VALUE);
+        }
         List<Long> ids = queryFactory
                 .select(notification.id)
                 .from(notification)
@@ -53,6 +81,9 @@ public class NotificationQueryRepository {
     }
 
     public int countByMemberId(Long memberId) {
+        if (inboxMode == PULL) {
+            return inboxQueryRepository.countInbox(memberId).getTotalCount();
+        }
         Long result = queryFactory
                 .select(notification.id.count())
                 .from(notification)
@@ -63,7 +94,35 @@ public class NotificationQueryRepository {
         return result == null ? 0 : result.intValue();
     }
 
+    public NotificationCounts searchNotificationCounts(Long memberId) {
+        if (inboxMode == PULL) {
+            return inboxQueryRepository.countInbox(memberId);
+        }
+        int totalCount = 0;
+        int unreadCount = 0;
+        List<Tuple> tuples = queryFactory
+                .select(notification.status, notification.count())
+                .from(notification)
+                .where(isMember(memberId))
+                .groupBy(notification.status)
+                .fetch();
+        for (Tuple tuple : tuples) {
+            Long count = tuple.get(notification.count());
+            int statusCount = count == null ? 0 : count.intValue();
+            totalCount += statusCount;
+            if (tuple.get(notification.status) == UNCONFIRMED) {
+                unreadCount += statusCount;
+            }
+        }
+        return new NotificationCounts(totalCount, unreadCount);
+    }
+
     public List<Long> searchReviewIdsByMemberIdAndStatus(Long memberId, String status) {
+        if (inboxMode == PULL) {
+            return inboxQueryRepository.searchInbox(memberId, status, null, Integer.MAX_VALUE).stream()
+                    .map(NotificationResponse::getReviewId)
+                    .collect(Collectors.toList());
+        }
         return queryFactory
                 .select(notification.review.id)
                 .from(notification)
@@ -85,6 +144,111 @@ public class NotificationQueryRepository {
                 .fetchOne());
     }
 
+    // 알림과 리뷰를 조인해 (알림 시각, 알림 id) 역순 keyset 으로 자르고, 리뷰는 목록 projection 으로 채운다.
+    public List<NotifiedReviewDto> searchNotifiedReviews(Long memberId, String status, NotificationCursor cursor, int size) {
+        if (inboxMode == PULL) {
+            return searchInboxReviews(memberId, status, cursor == null ? null : cursor.getNotificationId(), 0, size);
+        }
+        return toNotifiedReviews(selectNotifiedReviews(memberId, status)
+                .where(isBefore(cursor))
+                .limit(size)
+                .fetch());
+    }
+
+    public List<NotifiedReviewDto> searchNotifiedReviews(Long memberId, String status, Pageable pageable) {
+        if (inboxMode == PULL) {
+            return searchInboxReviews(memberId, status, null, (int) pageable.getOffset(), pageable.getPageSize());
+        }
+        return toNotifiedReviews(selectNotifiedReviews(memberId, status)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch());
+    }
+
+    public int countNotifiedReviews(Long memberId, String status) {
+        if (inboxMode == PULL) {
+            return countInboxByStatus(memberId, status);
+        }
+        Long result = queryFactory
+                .select(notification.count())
+                .from(notification)
+                .join(notification.review, review)
+                .where(
+                        isMember(memberId),
+                        isStatus(status)
+                )
+                .fetchOne();
+        return result == null ? 0 : result.intValue();
+    }
+
+    /**
+     * private methods
+     */
+
+    private int countInboxByStatus(Long memberId, String status) {
+        NotificationCounts counts = inboxQueryRepository.countInbox(memberId);
+        if (!hasText(status)) {
+            return counts.getTotalCount();
+        }
+        return NotificationStatus.valueOf(status) == UNCONFIRMED
+                ? counts.getUnreadCount()
+                : counts.getTotalCount() - counts.getUnreadCount();
+    }
+
+    private JPAQuery<Tuple> selectNotifiedReviews(Long memberId, String status) {
+        return queryFactory
+                .select(notification.id, notification.createdTime, review.id)
+                .from(notification)
+                .join(notification.review, review)
+                .where(
+                        isMember(memberId),
+                        isStatus(status)
+                )
+                .orderBy(notification.createdTime.desc(), notification.id.desc());
+    }
+
+    private List<NotifiedReviewDto> toNotifiedReviews(List<Tuple> tuples) {
+        List<Long> reviewIds = tuples.stream().map(tuple -> tuple.get(review.id)).collect(Collectors.toList());
+        Map<Long, ReviewDto> reviews = searchReviews(reviewIds);
+        return tuples.stream()
+                .filter(tuple -> reviews.containsKey(tuple.get(review.id)))
+                .map(tuple -> new NotifiedReviewDto(
+                        tuple.get(notification.id),
+                        tuple.get(notification.createdTime),
+                        reviews.get(tuple.get(review.id))))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, ReviewDto> searchReviews(List<Long> reviewIds) {
+        return reviewQueryRepository.searchByIds(reviewIds).stream()
+                .collect(Collectors.toMap(ReviewDto::getReviewId, Function.identity()));
+    }
+
+    // PULL 모드는 알림함 병합 결과가 이미 한 페이지 크기로 잘려 있어 리뷰 IN 조회도 그만큼만 한다.
+    private List<NotifiedReviewDto> searchInboxReviews(Long memberId, String status, Long lastEventId, int offset, int size) {
+        List<NotificationResponse> inbox = inboxQueryRepository.searchInbox(memberId, status, lastEventId, offset + size);
+        if (inbox.size() <= offset) {
+            return new ArrayList<>();
+        }
+        inbox = inbox.subList(offset, inbox.size());
+
+        List<Long> reviewIds = inbox.stream().map(NotificationResponse::getReviewId).collect(Collectors.toList());
+        Map<Long, ReviewDto> reviews = searchReviews(reviewIds);
+
+        return inbox.stream()
+                .filter(response -> reviews.containsKey(response.getReviewId()))
+                .map(response -> new NotifiedReviewDto(response.getNotificationId(), response.getCreatedTime(), reviews.get(response.getReviewId())))
+                .collect(Collectors.toList());
+    }
+
+    private BooleanExpression isBefore(NotificationCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return notification.createdTime.lt(cursor.getCreatedTime())
+                .or(notification.createdTime.eq(cursor.getCreatedTime()).and(notification.id.lt(cursor.getNotificationId())));
+    }
+
     private BooleanExpression isMember(Long memberId) {
         return notification.member.id.eq(memberId);
     }
@@ -8,9 +8,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 
-import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import static com.ssafy.mereview.domain.review.entity.QReviewEvaluation.reviewEvaluation;
@@ -46,6 +44,25 @@ public class ReviewEvaluationQueryRepository {
                 ));
     }
 
+    public Map<Long, Map<ReviewEvaluationType, Integer>> getCountByReviewIdsGroupedByType(Collection<Long> reviewIds) {
+        Map<Long, Map<ReviewEvaluationType, Integer>> countsMap = new HashMap<>();
+        if (reviewIds == null || reviewIds.isEmpty()) {
+            return countsMap;
+        }
+
+        queryFactory
+                .select(reviewEvaluation.review.id, reviewEvaluation.type, reviewEvaluation.count())
+                .from(reviewEvaluation)
+                .where(reviewEvaluation.review.id.in(reviewIds))
+                .groupBy(reviewEvaluation.review.id, reviewEvaluation.type)
+                .fetch()
+                .forEach(tuple -> countsMap
+                        .computeIfAbsent(tuple.get(reviewEvaluation.review.id), id -> new EnumMap<>(ReviewEvaluationType.class))
+                        .put(tuple.get(reviewEvaluation.type), Objects.requireNonNull(tuple.get(reviewEvaluation.count())).intValue()));
+
+        return countsMap;
+    }
+
     public int getCountByReviewIdAndType(Long reviewId, ReviewEvaluationType type) {
         Long result = queryFactory
                 .select(reviewEvaluation.count())
@@ -3,24 +3,39 @@ package com.ssafy.mereview.domain.review.repository.query;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.ssafy.mereview.domain.member.entity.QMember;
 import com.ssafy.mereview.domain.review.entity.Review;
+import com.ssafy.mereview.domain.review.repository.dto.ReviewCursor;
+import com.ssafy.mereview.domain.review.repository.dto.ReviewDto;
+import com.ssafy.mereview.domain.review.repository.dto.ReviewEvaluationCounts;
 import com.ssafy.mereview.domain.review.repository.dto.SearchCondition;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.querydsl.core.types.Order.ASC;
 import static com.querydsl.core.types.Order.DESC;
+import static com.ssafy.mereview.common.config.FullTextSearchFunctionContributor.MATCH_AGAINST;
 import static com.ssafy.mereview.domain.member.entity.QInterest.interest;
 import static com.ssafy.mereview.domain.member.entity.QMember.member;
+import static com.ssafy.mereview.domain.member.entity.QProfileImage.profileImage;
+import static com.ssafy.mereview.domain.movie.entity.QGenre.genre;
 import static com.ssafy.mereview.domain.movie.entity.QMovie.movie;
+import static com.ssafy.mereview.domain.review.entity.QBackgroundImage.backgroundImage;
 import static com.ssafy.mereview.domain.review.entity.QReview.review;
 import static org.springframework.util.CollectionUtils.isEmpty;
 import static org.springframework.util.StringUtils.hasText;
@@ -28,9 +43,13 @@ import static org.springframework.util.StringUtils.hasText;
 @RequiredArgsConstructor
 @Repository
 public class ReviewQueryRepository {
+    // ngram_token_size 보다 짧은 단어는 구문 대신 접두어(*)로 찾는다.
+    private static final int MIN_TOKEN_SIZE = 2;
+    private static final String BOOLEAN_MODE_OPERATORS = "[+\\-<>()~*\"@'\\\\]";
+
     private final JPAQueryFactory queryFactory;
 
-    public List<Review> searchByCondition(SearchCondition condition, Pageable pageable) {
+    public List<ReviewDto> searchByCondition(SearchCondition condition, Pageable pageable) {
         List<Long> genreIds = getGenreIds(condition);
 
         List<Long> reviewIds = getReviewIds(condition, pageable, genreIds);
@@ -39,37 +58,84 @@ public class ReviewQueryRepository {
             return new ArrayList<>();
         }
 
-        return queryFactory
-                .select(review)
-                .from(review)
-                .join(review.member, member).fetchJoin()
-                .join(review.movie, movie).fetchJoin()
+        // id 를 찾은 순서(관련도 순일 수 있다)를 그대로 유지한다.
+        Map<Long, ReviewDto> reviewsById = selectReviewDto()
                 .where(review.id.in(reviewIds))
-                .orderBy(sortByField(condition.getOrderBy(), condition.getOrderDir()))
+                .fetch().stream()
+                .collect(Collectors.toMap(ReviewDto::getReviewId, Function.identity()));
+        return reviewIds.stream()
+                .map(reviewsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    public List<ReviewDto> searchByMovieId(Long movieId) {
+        return selectReviewDto()
+                .where(review.movie.id.eq(movieId))
+                .orderBy(review.id.asc())
                 .fetch();
+    }
 
+    // 주어진 id 순서는 보장하지 않는다.
+    public List<ReviewDto> searchByIds(Collection<Long> reviewIds) {
+        if (isEmpty(reviewIds)) {
+            return new ArrayList<>();
+        }
+        return selectReviewDto()
+                .where(review.id.in(reviewIds))
+                .fetch();
     }
 
-    public int getTotalPages(SearchCondition condition) {
+    public List<ReviewDto> searchByMemberId(Long memberId) {
+        return selectReviewDto()
+                .where(review.member.id.eq(memberId))
+                .orderBy(review.id.asc())
+                .fetch();
+    }
+
+    // 관련도 점수는 커서에 담을 수 없어 커서 조회는 검색어가 있어도 정렬 필드 순서를 따른다.
+    public List<ReviewDto> searchByCursor(SearchCondition condition, ReviewCursor cursor, int size) {
         List<Long> genreIds = getGenreIds(condition);
 
-        return queryFactory
-                .select(review.count())
+        List<Long> reviewIds = queryFactory
+                .select(review.id)
                 .from(review)
                 .join(review.member, member)
                 .join(review.movie, movie)
-                .where(
-                        isTitle(condition.getTitle()),
-                        isContent(condition.getContent()),
-                        isTerm(condition.getTerm()),
-                        isNickname(condition.getNickname()),
-                        isMember(condition.getMemberId()),
-                        isGenreId(condition.getGenreId()),
-                        inGenreIds(condition.getMyInterest(), genreIds)
-                )
+                .where(searchConditions(condition, genreIds))
+                .where(afterCursor(cursor, condition.getOrderDir()))
+                .orderBy(sortByField(condition.getOrderBy(), condition.getOrderDir()))
+                .limit(size)
+                .fetch();
+
+        if (isEmpty(reviewIds)) {
+            return new ArrayList<>();
+        }
+
+        return selectReviewDto()
+                .where(review.id.in(reviewIds))
+                .orderBy(sortByField(condition.getOrderBy(), condition.getOrderDir()))
+                .fetch();
+    }
+
+    public int getTotalPages(SearchCondition condition) {
+        List<Long> genreIds = getGenreIds(condition);
+
+        return joinForFilters(queryFactory.select(review.count()).from(review), condition)
+                .where(searchConditions(condition, genreIds))
                 .fetchFirst().intValue();
     }
 
+    // 검색어 조건은 전부 세지 않고 limit 개까지만 센다. 결과가 limit 이면 그 이상일 수 있다.
+    public long countUpTo(SearchCondition condition, long limit) {
+        List<Long> genreIds = getGenreIds(condition);
+
+        return joinForFilters(queryFactory.select(review.id).from(review), condition)
+                .where(searchConditions(condition, genreIds))
+                .limit(limit)
+                .fetch().size();
+    }
+
     public Review searchById(Long reviewId) {
         return queryFactory
                 .select(review)
@@ -81,40 +147,20 @@ public class ReviewQueryRepository {
                 ).fetchOne();
     }
 
-    public List<Review> searchNotifiedReviews(List<Long> reviewIds, Pageable pageable) {
-        List<Long> notifiedIds = queryFactory
-                .select(review.id)
-                .from(review)
-                .where(review.id.in(reviewIds))
-                .orderBy(review.createdTime.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        if (isEmpty(notifiedIds)) {
-            return new ArrayList<>();
-        }
-
+    public List<ReviewEvaluationCounts> searchEvaluationCountsAfter(Long lastReviewId, int size) {
         return queryFactory
-                .select(review)
-                .from(review)
-                .where(review.id.in(notifiedIds))
-                .orderBy(review.createdTime.desc())
-                .fetch();
-    }
-
-    public int getNotifiedTotalPages(List<Long> reviewIds) {
-        List<Long> notifiedIds = queryFactory
-                .select(review.id)
+                .select(Projections.constructor(ReviewEvaluationCounts.class,
+                        review.id,
+                        review.funCount,
+                        review.usefulCount,
+                        review.badCount,
+                        review.commentCount
+                ))
                 .from(review)
-                .where(review.id.in(reviewIds))
+                .where(review.id.gt(lastReviewId))
+                .orderBy(review.id.asc())
+                .limit(size)
                 .fetch();
-
-        return queryFactory
-                .select(review.count())
-                .from(review)
-                .where(review.id.in(notifiedIds))
-                .fetchFirst().intValue();
     }
 
     /**
@@ -136,35 +182,135 @@ public class ReviewQueryRepository {
                 .from(review)
                 .join(review.member, member)
                 .join(review.movie, movie)
-                .where(
-                        isTitle(condition.getTitle()),
-                        isContent(condition.getContent()),
-                        isTerm(condition.getTerm()),
-                        isNickname(condition.getNickname()),
-                        isMember(condition.getMemberId()),
-                        isGenreId(condition.getGenreId()),
-                        inGenreIds(condition.getMyInterest(), genreIds)
-                )
-                .orderBy(sortByField(condition.getOrderBy(), condition.getOrderDir()))
+                .where(searchConditions(condition, genreIds))
+                .orderBy(sortBy(condition))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
     }
 
+    // 닉네임, 영화 제목 조건이 있을 때만 회원, 영화를 조인한다. 리뷰는 항상 회원과 영화를 가지므로 개수는 같다.
+    private <T> JPAQuery<T> joinForFilters(JPAQuery<T> query, SearchCondition condition) {
+        if (hasText(condition.getNickname())) {
+            query.join(review.member, member);
+        }
+        if (hasText(condition.getTitle())) {
+            query.join(review.movie, movie);
+        }
+        return query;
+    }
+
+    // 목록 응답에 필요한 컬럼만 한 번에 조회한다. 댓글 수와 평가 수는 리뷰 테이블의 카운터를 읽는다.
+    private JPAQuery<ReviewDto> selectReviewDto() {
+        return queryFactory
+                .select(Projections.constructor(ReviewDto.class,
+                        review.id,
+                        review.title,
+                        review.hits,
+                        review.highlight,
+                        review.type,
+                        review.commentCount,
+                        review.funCount,
+                        review.usefulCount,
+                        review.badCount,
+                        backgroundImage.id,
+                        backgroundImage.uploadFile.uploadFileName,
+                        backgroundImage.createdTime,
+                        review.createdTime,
+                        member.id,
+                        member.nickname,
+                        profileImage.id,
+                        profileImage.uploadFile.uploadFileName,
+                        profileImage.createdTime,
+                        movie.id,
+                        movie.title,
+                        movie.releaseDate,
+                        genre.id,
+                        genre.genreNumber,
+                        genre.genreName,
+                        genre.isUsing))
+                .from(review)
+                .join(review.member, member)
+                .join(review.movie, movie)
+                .leftJoin(review.genre, genre)
+                .leftJoin(review.backgroundImage, backgroundImage)
+                .leftJoin(member.profileImage, profileImage);
+    }
+
+    private Predicate[] searchConditions(SearchCondition condition, List<Long> genreIds) {
+        return new Predicate[]{
+                matchesText(movie.title, condition.getTitle()),
+                matchesText(review.content, condition.getContent()),
+                matchesText(member.nickname, condition.getNickname()),
+                isTerm(condition.getTerm()),
+                isMember(condition.getMemberId()),
+                isGenreId(condition.getGenreId()),
+                inGenreIds(condition.getMyInterest(), genreIds)
+        };
+    }
+
+    private BooleanExpression afterCursor(ReviewCursor cursor, String direction) {
+        if (cursor == null) {
+            return null;
+        }
+        boolean isAsc = direction.equals("ASC");
+        BooleanExpression isAfterId = isAsc ? review.id.gt(cursor.getReviewId()) : review.id.lt(cursor.getReviewId());
+
+        if (cursor.isOrderByCreatedTime()) {
+            LocalDateTime createdTime = cursor.getCreatedTime();
+            return (isAsc ? review.createdTime.gt(createdTime) : review.createdTime.lt(createdTime))
+                    .or(review.createdTime.eq(createdTime).and(isAfterId));
+        }
+
+        NumberExpression<Integer> field = getCountSortField(cursor.getOrderBy());
+        int count = cursor.getCount();
+        return (isAsc ? field.gt(count) : field.lt(count))
+                .or(field.eq(count).and(isAfterId));
+    }
+
     private BooleanExpression isGenreId(String genreId) {
         return hasText(genreId) ? review.genre.id.eq(Long.parseLong(genreId)) : null;
     }
 
-    private BooleanExpression isTitle(String title) {
-        return hasText(title) ? review.movie.title.like("%" + title + "%") : null;
+    // 영화 제목, 리뷰 내용, 닉네임은 각 컬럼의 전문 검색 인덱스로 찾는다.
+    private BooleanExpression matchesText(StringExpression column, String keyword) {
+        if (!hasText(keyword)) {
+            return null;
+        }
+        NumberExpression<Double> score = matchScore(column, keyword);
+        return score != null ? score.gt(0) : Expressions.FALSE.isTrue();
+    }
+
+    private NumberExpression<Double> matchScore(StringExpression column, String keyword) {
+        String booleanQuery = hasText(keyword) ? toBooleanQuery(keyword) : null;
+        if (booleanQuery == null) {
+            return null;
+        }
+        return Expressions.numberTemplate(Double.class, "function('" + MATCH_AGAINST + "', {0}, {1})", column, booleanQuery);
     }
 
-    private BooleanExpression isContent(String content) {
-        return hasText(content) ? review.content.like("%" + content + "%") : null;
+    // 모든 단어를 포함하도록 + 를 붙이고, 긴 단어는 큰따옴표로 묶어 ngram 구문 검색을 한다.
+    private String toBooleanQuery(String keyword) {
+        List<String> words = Arrays.stream(keyword.trim().split("\\s+"))
+                .map(word -> word.replaceAll(BOOLEAN_MODE_OPERATORS, ""))
+                .filter(word -> !word.isEmpty())
+                .collect(Collectors.toList());
+        if (words.isEmpty()) {
+            return null;
+        }
+        return words.stream()
+                .map(word -> word.length() < MIN_TOKEN_SIZE ? "+" + word + "*" : "+\"" + word + "\"")
+                .collect(Collectors.joining(" "));
     }
 
-    private BooleanExpression isNickname(String nickname) {
-        return hasText(nickname) ? review.member.nickname.like("%" + nickname + "%") : null;
+    private NumberExpression<Double> relevance(SearchCondition condition) {
+        return Stream.of(
+                        matchScore(movie.title, condition.getTitle()),
+                        matchScore(review.content, condition.getContent()),
+                        matchScore(member.nickname, condition.getNickname()))
+                .filter(Objects::nonNull)
+                .reduce((left, right) -> left.add(right))
+                .orElse(null);
     }
 
     private BooleanExpression isMember(String memberId) {
@@ -184,17 +330,50 @@ public class ReviewQueryRepository {
         return hasText(myInterest) ? interest.member.id.eq(Long.parseLong(myInterest)) : null;
     }
 
-    private OrderSpecifier<?> sortByField(String filedName, String direction) {
+    private OrderSpecifier<?>[] sortBy(SearchCondition condition) {
+        NumberExpression<Double> relevance = condition.isOrderByRelevance() ? relevance(condition) : null;
+        if (relevance != null) {
+            return new OrderSpecifier<?>[]{relevance.desc(), review.id.desc()};
+        }
+        return sortByField(condition.getOrderBy(), condition.getOrderDir());
+    }
+
+    private OrderSpecifier<?>[] sortByField(String filedName, String direction) {
         Order order = DESC;
         if (direction.equals("ASC")) {
             order = ASC;
         }
 
-        if (hasText(filedName)) {
-            if (filedName.equals("hits")) {
-                return new OrderSpecifier<>(order, review.hits);
-            }
+        return new OrderSpecifier<?>[]{
+                orderBy(order, getSortField(filedName)),
+                orderBy(order, review.id)
+        };
+    }
+
+    private OrderSpecifier<?> orderBy(Order order, ComparableExpressionBase<?> field) {
+        return order == ASC ? field.asc() : field.desc();
+    }
+
+    private ComparableExpressionBase<?> getSortField(String filedName) {
+        NumberExpression<Integer> countField = getCountSortField(filedName);
+        return countField != null ? countField : review.createdTime;
+    }
+
+    private NumberExpression<Integer> getCountSortField(String filedName) {
+        if (!hasText(filedName)) {
+            return null;
+        }
+        switch (filedName) {
+            case "hits":
+                return review.hits;
+            case "FUN":
+                return review.funCount;
+            case "USEFUL":
+                return review.usefulCount;
+            case "POSITIVE":
+                return review.funCount.add(review.usefulCount);
+            default:
+                return null;
         }
-        return new OrderSpecifier<>(order, review.createdTime);
     }
 }
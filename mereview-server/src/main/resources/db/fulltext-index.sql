@@ -0,0 +1,7 @@
+-- 리뷰 검색(영화 제목, 리뷰 내용, 닉네임)에 쓰는 전문 검색 인덱스.
+-- 배포 전에 DB 에 한 번 적용한다. 큰 테이블에서는 ALTER 가 오래 걸리므로 트래픽이 적은 시간에 실행한다.
+-- 한국어는 띄어쓰기만으로 단어를 나누기 어려워 MySQL ngram 파서(기본 2-gram)를 사용한다.
+-- 테스트 프로필은 스키마를 만든 뒤 hibernate import 로 이 파일을 실행하므로 한 줄에 한 문장씩 쓴다.
+ALTER TABLE movie ADD FULLTEXT INDEX ft_movie_title (title) WITH PARSER ngram;
+ALTER TABLE review ADD FULLTEXT INDEX ft_review_content (content) WITH PARSER ngram;
+ALTER TABLE member ADD FULLTEXT INDEX ft_member_nickname (nickname) WITH PARSER ngram;
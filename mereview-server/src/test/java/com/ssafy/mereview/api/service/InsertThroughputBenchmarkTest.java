@@ -0,0 +1,197 @@
+package com.ssafy.mereview.api.service;
+
+import com.ssafy.mereview.api.service.member.MemberService;
+import com.ssafy.mereview.api.service.member.dto.request.EmailCheckCode;
+import com.ssafy.mereview.api.service.member.dto.request.InterestServiceRequest;
+import com.ssafy.mereview.api.service.member.dto.request.MemberCreateServiceRequest;
+import com.ssafy.mereview.api.service.review.ReviewService;
+import com.ssafy.mereview.api.service.review.dto.request.KeywordCreateServiceRequest;
+import com.ssafy.mereview.api.service.review.dto.request.ReviewCreateServiceRequest;
+import com.ssafy.mereview.common.util.jwt.JwtUtils;
+import com.ssafy.mereview.domain.member.entity.Member;
+import com.ssafy.mereview.domain.member.repository.MemberRepository;
+import com.ssafy.mereview.domain.movie.entity.Genre;
+import com.ssafy.mereview.domain.movie.entity.Movie;
+import com.ssafy.mereview.domain.movie.repository.command.GenreRepository;
+import com.ssafy.mereview.domain.movie.repository.command.MovieRepository;
+import com.ssafy.mereview.domain.review.entity.Keyword;
+import com.ssafy.mereview.domain.review.repository.command.KeywordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.ssafy.mereview.common.util.EmailConstants.EMAIL_CHECK_CODE_HASH_MAP;
+import static com.ssafy.mereview.domain.review.entity.MovieRecommendType.YES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리뷰 작성, 회원 가입의 INSERT 처리량(rows/s) 측정. 기본 테스트에서는 돌지 않는다.
+ * ./gradlew test --tests '*InsertThroughputBenchmarkTest' -Dbenchmark=true
+ * test 프로필의 MySQL 컨테이너에 붙어 돌고, rows/s 는 로그로 남는다. 변경 전 커밋에서 같은 명령으로 돌린 값과 비교한다.
+ */
+@Slf4j
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@Transactional
+@SpringBootTest
+class InsertThroughputBenchmarkTest {
+
+    private static final int GENRE_COUNT = 19;
+    private static final int KEYWORD_COUNT = 5;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 200;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private KeywordRepository keywordRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @DisplayName("1. 리뷰 작성 처리량을 잰다.")
+    @Test
+    void reviewCreateThroughput() {
+        // given
+        List<Genre> genres = createGenres();
+        Member member = memberRepository.save(Member.builder().email("bench@gmail.com").password("123456").build());
+        Movie movie = movieRepository.save(Movie.builder().movieContentId(1).title("영화제목").build());
+        Long genreId = genres.get(0).getId();
+
+        // when
+        IntStream.range(0, WARMUP).forEach(i -> createReview(member.getId(), movie.getId(), genreId));
+        long startTime = System.nanoTime();
+        IntStream.range(0, ITERATIONS).forEach(i -> createReview(member.getId(), movie.getId(), genreId));
+        long elapsedNanos = System.nanoTime() - startTime;
+
+        // then
+        // 리뷰 1 + 키워드 + 알림 아웃박스 1
+        int rows = ITERATIONS * (1 + KEYWORD_COUNT + 1);
+        log.info("review create: {} rows/s", rowsPerSecond(rows, elapsedNanos));
+        assertThat(keywordRepository.count()).isGreaterThanOrEqualTo((long) (WARMUP + ITERATIONS) * KEYWORD_COUNT);
+    }
+
+    @DisplayName("2. 회원 가입 처리량을 잰다.")
+    @Test
+    void memberSignupThroughput() {
+        // given
+        List<Genre> genres = createGenres();
+        List<InterestServiceRequest> interests = genres.subList(0, 3).stream()
+                .map(genre -> InterestServiceRequest.builder().genreId(genre.getId()).build())
+                .collect(Collectors.toList());
+
+        // when
+        IntStream.range(0, WARMUP).forEach(i -> signup("warmup" + i, interests));
+        long startTime = System.nanoTime();
+        IntStream.range(0, ITERATIONS).forEach(i -> signup("bench" + i, interests));
+        long elapsedNanos = System.nanoTime() - startTime;
+
+        // then
+        // 회원 1 + 방문 수 1 + 관심사 + 티어(장르 수) + 업적(장르 수 x 2)
+        int genreCount = genreRepository.findAll().size();
+        int rows = ITERATIONS * (2 + interests.size() + genreCount * 3);
+        log.info("member signup: {} rows/s", rowsPerSecond(rows, elapsedNanos));
+    }
+
+    @DisplayName("3. 키워드를 한 건씩 보낼 때와 배치로 보낼 때를 비교한다.")
+    @Test
+    void keywordSaveThroughput() {
+        // when
+        long startTime = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            keywordRepository.save(Keyword.builder().name("keyword").weight(i).build());
+            em.flush();
+        }
+        long rowByRowNanos = System.nanoTime() - startTime;
+
+        List<Keyword> keywords = new ArrayList<>();
+        IntStream.range(0, ITERATIONS).forEach(i -> keywords.add(Keyword.builder().name("keyword").weight(i).build()));
+        startTime = System.nanoTime();
+        keywordRepository.saveAll(keywords);
+        em.flush();
+        long batchedNanos = System.nanoTime() - startTime;
+
+        // then
+        log.info("keyword row by row: {} rows/s, batched: {} rows/s",
+                rowsPerSecond(ITERATIONS, rowByRowNanos), rowsPerSecond(ITERATIONS, batchedNanos));
+    }
+
+    /**
+     * private methods
+     */
+
+    // 트랜잭션 커밋 시점의 flush 를 흉내 내 매 요청마다 쓰기 지연된 INSERT 까지 보낸다.
+    private void createReview(Long memberId, Long movieId, Long genreId) {
+        List<KeywordCreateServiceRequest> keywordRequests = IntStream.range(0, KEYWORD_COUNT)
+                .mapToObj(i -> KeywordCreateServiceRequest.builder().name("키워드" + i).weight(i).movieId(movieId).build())
+                .collect(Collectors.toList());
+        reviewService.create(ReviewCreateServiceRequest.builder()
+                .title("테스트 제목")
+                .content("테스트 내용")
+                .highlight("테스트 한줄평")
+                .type(YES)
+                .movieId(movieId)
+                .memberId(memberId)
+                .genreId(genreId)
+                .keywordCreateServiceRequests(keywordRequests)
+                .build(), null);
+        em.flush();
+        em.clear();
+    }
+
+    private void signup(String name, List<InterestServiceRequest> interests) {
+        String email = name + "@gmail.com";
+        EMAIL_CHECK_CODE_HASH_MAP.put(email, EmailCheckCode.builder()
+                .verificationCode("123456")
+                .jwtToken(jwtUtils.generateEmailToken(email))
+                .build());
+        memberService.createMember(MemberCreateServiceRequest.builder()
+                .email(email)
+                .password("123456")
+                .nickname(name)
+                .interests(interests)
+                .verificationCode("123456")
+                .build(), null);
+        em.flush();
+        em.clear();
+    }
+
+    private List<Genre> createGenres() {
+        List<Genre> genres = IntStream.range(0, GENRE_COUNT)
+                .mapToObj(i -> Genre.builder().genreNumber(1000 + i).genreName("genre" + i).isUsing(true).build())
+                .collect(Collectors.toList());
+        return genreRepository.saveAll(genres);
+    }
+
+    private long rowsPerSecond(int rows, long elapsedNanos) {
+        return rows * 1_000_000_000L / Math.max(1, elapsedNanos);
+    }
+}
@@ -0,0 +1,319 @@
+package com.ssafy.mereview.api.service.movie;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.mereview.api.service.movie.dto.response.MovieImportStatusResponse;
+import com.ssafy.mereview.domain.movie.entity.Genre;
+import com.ssafy.mereview.domain.movie.entity.Movie;
+import com.ssafy.mereview.domain.movie.entity.MovieGenre;
+import com.ssafy.mereview.domain.movie.entity.MovieImportCheckpoint;
+import com.ssafy.mereview.domain.movie.repository.command.GenreRepository;
+import com.ssafy.mereview.domain.movie.repository.command.MovieBatchRepository;
+import com.ssafy.mereview.domain.movie.repository.command.MovieGenreRepository;
+import com.ssafy.mereview.domain.movie.repository.command.MovieImportCheckpointRepository;
+import com.ssafy.mereview.domain.movie.repository.command.MovieRepository;
+import com.ssafy.mereview.domain.movie.repository.query.MovieGenreQueryRepository;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.ssafy.mereview.api.service.movie.MovieImportService.CHANGES_IMPORT;
+import static com.ssafy.mereview.api.service.movie.MovieImportService.DISCOVER_IMPORT;
+import static org.assertj.core.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+@SpringBootTest
+class MovieImportServiceTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final long IMPORT_TIMEOUT_MILLIS = 10000;
+
+    @Autowired
+    private MovieBatchRepository movieBatchRepository;
+
+    @Autowired
+    private MovieGenreQueryRepository movieGenreQueryRepository;
+
+    @Autowired
+    private MovieImportCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private MovieGenreRepository movieGenreRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private GenreDictionary genreDictionary;
+
+    @Autowired
+    private MovieTitleIndex movieTitleIndex;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private HttpServer server;
+    private MovieImportService movieImportService;
+    private final LocalDate yesterday = LocalDate.now().minusDays(1);
+
+    // 날짜별 discover 페이지(영화 JSON 목록), 바뀐 영화 id, 영화 상세 JSON
+    private final Map<LocalDate, List<List<String>>> discoverPages = new ConcurrentHashMap<>();
+    private final List<Integer> changedContentIds = new ArrayList<>();
+    private final Map<Integer, String> movieDetails = new ConcurrentHashMap<>();
+
+    private final List<LocalDate> discoverDates = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> changesWindows = Collections.synchronizedList(new ArrayList<>());
+    private final List<Integer> detailRequests = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/3/discover/movie", exchange -> {
+            Map<String, String> params = getParams(exchange);
+            LocalDate date = LocalDate.parse(params.get("primary_release_date.gte"));
+            int page = Integer.parseInt(params.get("page"));
+            if (page == 1) {
+                discoverDates.add(date);
+            }
+            List<List<String>> pages = discoverPages.getOrDefault(date, Collections.emptyList());
+            List<String> movies = page <= pages.size() ? pages.get(page - 1) : Collections.emptyList();
+            writeJson(exchange, pageJson(page, pages.size(), movies));
+        });
+        server.createContext("/3/movie/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            if (path.endsWith("/changes")) {
+                Map<String, String> params = getParams(exchange);
+                changesWindows.add(params.get("start_date") + "~" + params.get("end_date"));
+                List<String> ids = changedContentIds.stream()
+                        .map(contentId -> "{\"id\":" + contentId + "}")
+                        .collect(Collectors.toList());
+                writeJson(exchange, pageJson(1, 1, ids));
+                return;
+            }
+            int contentId = Integer.parseInt(path.substring(path.lastIndexOf('/') + 1));
+            detailRequests.add(contentId);
+            String detail = movieDetails.get(contentId);
+            if (detail == null) {
+                exchange.sendResponseHeaders(404, -1);
+                exchange.close();
+                return;
+            }
+            writeJson(exchange, detail);
+        });
+        server.start();
+
+        String baseUrl = "http://localhost:" + server.getAddress().getPort();
+        TmdbClient tmdbClient = new TmdbClient(new ObjectMapper(), baseUrl, "test-key", 100, 0, 2000);
+        movieImportService = new MovieImportService(tmdbClient, movieBatchRepository, movieGenreQueryRepository, checkpointRepository,
+                genreDictionary, movieTitleIndex, transactionTemplate, "2000-01-01", 2, BATCH_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        movieImportService.shutdown();
+        server.stop(0);
+        movieGenreRepository.deleteAllInBatch();
+        movieRepository.deleteAllInBatch();
+        genreRepository.deleteAllInBatch();
+        checkpointRepository.deleteAllInBatch();
+        genreDictionary.reload();
+    }
+
+    @DisplayName("1. 마지막으로 끝낸 날의 다음 날부터 어제까지 가져오고 체크포인트를 옮긴다.")
+    @Test
+    void resumeFromCheckpoint() throws InterruptedException {
+        // given
+        saveCheckpoint(DISCOVER_IMPORT, yesterday.minusDays(3));
+        saveCheckpoint(CHANGES_IMPORT, yesterday);
+
+        // when
+        MovieImportStatusResponse status = runImport();
+
+        // then
+        assertThat(status.getLastError()).isNull();
+        assertThat(discoverDates).containsExactly(yesterday.minusDays(2), yesterday.minusDays(1), yesterday);
+        assertThat(status.getCompletedDays()).isEqualTo(3);
+        assertThat(status.getLastCompletedDate()).isEqualTo(yesterday);
+        assertThat(changesWindows).isEmpty();
+    }
+
+    @DisplayName("2. 하루치 페이지를 받은 순서대로 batch-size 개씩 upsert 한다.")
+    @Test
+    void upsertInBatches() throws InterruptedException {
+        // given
+        saveCheckpoint(DISCOVER_IMPORT, yesterday.minusDays(1));
+        saveCheckpoint(CHANGES_IMPORT, yesterday);
+        discoverPages.put(yesterday, List.of(
+                List.of(movieJson(1, "영화1"), movieJson(2, "영화2")),
+                List.of(movieJson(3, "영화3"), movieJson(4, "영화4")),
+                List.of(movieJson(5, "영화5"))));
+
+        // when
+        MovieImportStatusResponse status = runImport();
+
+        // then
+        assertThat(status.getLastError()).isNull();
+        assertThat(status.getFetchedPages()).isEqualTo(3);
+        assertThat(status.getUpsertedBatches()).isEqualTo(3);
+        assertThat(status.getUpsertedMovies()).isEqualTo(5);
+        assertThat(movieBatchRepository.findIdsByContentIds(List.of(1, 2, 3, 4, 5))).hasSize(5);
+    }
+
+    @DisplayName("3. 내용이 같은 영화는 upsert 에서 빠지고, 장르는 달라진 행만 고친다.")
+    @Test
+    void skipUnchangedMoviesAndDiffGenres() throws InterruptedException {
+        // given
+        Genre drama = saveGenre(9001, "가져오기 드라마");
+        Genre thriller = saveGenre(9002, "가져오기 스릴러");
+        Genre comedy = saveGenre(9003, "가져오기 코미디");
+        genreDictionary.reload();
+
+        Movie unchanged = saveMovie(1, "영화1");
+        saveMovieGenre(unchanged, drama);
+        saveMovieGenre(unchanged, thriller);
+        Movie renamed = saveMovie(2, "예전 제목");
+
+        saveCheckpoint(DISCOVER_IMPORT, yesterday.minusDays(1));
+        saveCheckpoint(CHANGES_IMPORT, yesterday);
+        discoverPages.put(yesterday, List.of(
+                List.of(movieJson(1, "영화1", 9002, 9003), movieJson(2, "새 제목", 9001))));
+
+        // when
+        MovieImportStatusResponse status = runImport();
+
+        // then
+        assertThat(status.getLastError()).isNull();
+        assertThat(status.getUpsertedMovies()).isEqualTo(1);
+        assertThat(status.getUnchangedMovies()).isEqualTo(1);
+        assertThat(status.getUpsertedMovieGenres()).isEqualTo(3);
+        assertThat(movieBatchRepository.findMoviesByContentIds(List.of(2)).get(2).getTitle()).isEqualTo("새 제목");
+
+        Map<Long, List<Long>> genreIds = movieGenreQueryRepository.searchGenreIdsByMovieIds(List.of(unchanged.getId(), renamed.getId()));
+        assertThat(genreIds.get(unchanged.getId())).containsExactlyInAnyOrder(thriller.getId(), comedy.getId());
+        assertThat(genreIds.get(renamed.getId())).containsExactly(drama.getId());
+    }
+
+    @DisplayName("4. 바뀐 영화는 14일씩 나눠 조회하고, 이미 가진 영화만 상세를 받아 반영한 뒤 구간 끝을 체크포인트로 남긴다.")
+    @Test
+    void syncChangesByWindow() throws InterruptedException {
+        // given
+        saveMovie(1, "예전 제목");
+        saveCheckpoint(DISCOVER_IMPORT, yesterday);
+        saveCheckpoint(CHANGES_IMPORT, yesterday.minusDays(20));
+        changedContentIds.addAll(List.of(1, 999));
+        movieDetails.put(1, movieDetailJson(1, "새 제목"));
+
+        // when
+        MovieImportStatusResponse status = runImport();
+
+        // then
+        assertThat(status.getLastError()).isNull();
+        assertThat(discoverDates).isEmpty();
+        assertThat(changesWindows).containsExactly(
+                yesterday.minusDays(19) + "~" + yesterday.minusDays(6),
+                yesterday.minusDays(5) + "~" + yesterday);
+        assertThat(detailRequests).containsOnly(1);
+        assertThat(status.getChangedMovies()).isEqualTo(2);
+        assertThat(status.getLastSyncedDate()).isEqualTo(yesterday);
+        assertThat(movieBatchRepository.findMoviesByContentIds(List.of(1)).get(1).getTitle()).isEqualTo("새 제목");
+    }
+
+    /**
+     * private methods
+     */
+
+    private MovieImportStatusResponse runImport() throws InterruptedException {
+        movieImportService.startImport();
+        long deadline = System.currentTimeMillis() + IMPORT_TIMEOUT_MILLIS;
+        while (movieImportService.getStatus().isRunning()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("영화 가져오기가 시간 안에 끝나지 않았습니다.");
+            }
+            Thread.sleep(20);
+        }
+        return movieImportService.getStatus();
+    }
+
+    private void saveCheckpoint(String importName, LocalDate date) {
+        checkpointRepository.save(MovieImportCheckpoint.builder()
+                .importName(importName)
+                .lastCompletedDate(date)
+                .build());
+    }
+
+    private Genre saveGenre(int genreNumber, String genreName) {
+        return genreRepository.save(Genre.builder()
+                .genreNumber(genreNumber)
+                .genreName(genreName)
+                .build());
+    }
+
+    // movieJson 으로 받는 값과 같은 내용으로 저장한다.
+    private Movie saveMovie(int contentId, String title) {
+        return movieRepository.save(Movie.builder()
+                .movieContentId(contentId)
+                .title(title)
+                .overview("줄거리")
+                .posterImg("/p.jpg")
+                .voteAverage(7.5)
+                .releaseDate("2023-01-01")
+                .build());
+    }
+
+    private void saveMovieGenre(Movie movie, Genre genre) {
+        movieGenreRepository.save(MovieGenre.builder()
+                .movie(movie)
+                .genre(genre)
+                .build());
+    }
+
+    private String movieJson(int contentId, String title, int... genreNumbers) {
+        return "{\"id\":" + contentId + ",\"title\":\"" + title + "\",\"overview\":\"줄거리\",\"poster_path\":\"/p.jpg\"," +
+                "\"vote_average\":7.5,\"release_date\":\"2023-01-01\",\"genre_ids\":" + Arrays.toString(genreNumbers).replace(" ", "") + "}";
+    }
+
+    private String movieDetailJson(int contentId, String title, int... genreNumbers) {
+        String genres = IntStream.of(genreNumbers)
+                .mapToObj(genreNumber -> "{\"id\":" + genreNumber + ",\"name\":\"장르\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+        return "{\"id\":" + contentId + ",\"title\":\"" + title + "\",\"overview\":\"줄거리\",\"poster_path\":\"/p.jpg\"," +
+                "\"vote_average\":7.5,\"release_date\":\"2023-01-01\",\"genres\":" + genres + "}";
+    }
+
+    private String pageJson(int page, int totalPages, List<String> movies) {
+        return "{\"page\":" + page + ",\"total_pages\":" + totalPages + ",\"results\":[" + String.join(",", movies) + "]}";
+    }
+
+    private Map<String, String> getParams(HttpExchange exchange) {
+        Map<String, String> params = new HashMap<>();
+        for (String param : exchange.getRequestURI().getQuery().split("&")) {
+            int index = param.indexOf('=');
+            params.put(param.substring(0, index), param.substring(index + 1));
+        }
+        return params;
+    }
+
+    private void writeJson(HttpExchange exchange, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.ssafy.mereview.api.service.movie;
+
+import com.ssafy.mereview.domain.movie.repository.query.MovieQueryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+class MovieTitleIndexTest {
+
+    private MovieTitleIndex movieTitleIndex;
+
+    @BeforeEach
+    void setUp() {
+        Map<Long, String> titles = new LinkedHashMap<>();
+        titles.put(1L, "기생충");
+        titles.put(2L, "기억의 밤");
+        titles.put(3L, "살인의 추억");
+        titles.put(4L, "추격자");
+        titles.put(5L, "Spider-Man: No Way Home");
+
+        MovieQueryRepository movieQueryRepository = mock(MovieQueryRepository.class);
+        given(movieQueryRepository.searchTitlesAfter(anyLong(), anyInt()))
+                .willReturn(titles, Collections.emptyMap());
+        movieTitleIndex = new MovieTitleIndex(movieQueryRepository);
+        movieTitleIndex.reload();
+    }
+
+    @DisplayName("1. 접두어가 맞는 영화를 제목 순으로 찾는다.")
+    @Test
+    void searchByPrefix() {
+        // when // then
+        assertThat(movieTitleIndex.search("기", 10)).containsExactly(1L, 2L);
+        assertThat(movieTitleIndex.search("기생", 10)).containsExactly(1L);
+        assertThat(movieTitleIndex.search("괴물", 10)).isEmpty();
+    }
+
+    @DisplayName("2. 제목 맨 앞이 맞는 영화가 중간 단어가 맞는 영화보다 앞선다.")
+    @Test
+    void searchTitleStartFirst() {
+        // when // then
+        assertThat(movieTitleIndex.search("추", 10)).containsExactly(4L, 3L);
+        assertThat(movieTitleIndex.search("추", 1)).containsExactly(4L);
+    }
+
+    @DisplayName("3. 초성으로, 또는 음절과 초성을 섞어서 찾는다.")
+    @Test
+    void searchByChosung() {
+        // when // then
+        assertThat(movieTitleIndex.search("ㄱㅅㅊ", 10)).containsExactly(1L);
+        assertThat(movieTitleIndex.search("기ㅅ", 10)).containsExactly(1L);
+        assertThat(movieTitleIndex.search("ㅊㅇ", 10)).containsExactly(3L);
+    }
+
+    @DisplayName("4. 대소문자, 공백과 문장부호는 무시한다.")
+    @Test
+    void searchIgnoresCaseAndPunctuation() {
+        // when // then
+        assertThat(movieTitleIndex.search("spiderman", 10)).containsExactly(5L);
+        assertThat(movieTitleIndex.search("NO WAY", 10)).containsExactly(5L);
+        assertThat(movieTitleIndex.search(" - ", 10)).isEmpty();
+    }
+
+    @DisplayName("5. 추가된 제목은 병합 주기에 반영되고, 다시 들어온 영화는 새 제목으로만 찾는다.")
+    @Test
+    void mergePending() {
+        // given
+        Map<Long, String> added = new LinkedHashMap<>();
+        added.put(6L, "기적");
+        added.put(1L, "괴물");
+        movieTitleIndex.add(added);
+
+        // when
+        boolean foundBeforeMerge = !movieTitleIndex.search("기적", 10).isEmpty();
+        movieTitleIndex.mergePending();
+
+        // then
+        assertThat(foundBeforeMerge).isFalse();
+        assertThat(movieTitleIndex.search("기적", 10)).containsExactly(6L);
+        assertThat(movieTitleIndex.search("괴물", 10)).containsExactly(1L);
+        assertThat(movieTitleIndex.search("기생충", 10)).isEmpty();
+        assertThat(movieTitleIndex.search("기", 10)).containsExactly(2L, 6L);
+    }
+}
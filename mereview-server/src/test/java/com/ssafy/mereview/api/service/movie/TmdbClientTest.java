@@ -0,0 +1,147 @@
+package com.ssafy.mereview.api.service.movie;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.mereview.api.service.movie.dto.response.TmdbMovieResponse;
+import com.ssafy.mereview.api.service.movie.dto.response.TmdbPageResponse;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+class TmdbClientTest {
+
+    private static final String PAGE_BODY = "{\"page\":1,\"total_pages\":3,\"unknown\":{\"a\":[1,2]}," +
+            "\"results\":[{\"id\":10,\"title\":\"기생충\",\"poster_path\":\"/p.jpg\",\"vote_average\":8.5," +
+            "\"release_date\":\"2019-05-30\",\"genre_ids\":[18,53],\"adult\":false}," +
+            "{\"id\":11,\"title\":null}]}";
+    private static final String MOVIE_BODY = "{\"id\":10,\"title\":\"기생충\",\"overview\":\"줄거리\",\"vote_average\":8.6," +
+            "\"genres\":[{\"id\":18,\"name\":\"드라마\"},{\"id\":53,\"name\":\"스릴러\"}],\"runtime\":132}";
+
+    private HttpServer server;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile int failuresBeforeSuccess;
+    private volatile int failureStatus;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/3/discover/movie", exchange -> {
+            int count = requestCount.incrementAndGet();
+            byte[] body = PAGE_BODY.getBytes(StandardCharsets.UTF_8);
+            if (count <= failuresBeforeSuccess) {
+                if (failureStatus == 429) {
+                    exchange.getResponseHeaders().add("Retry-After", "0");
+                }
+                exchange.sendResponseHeaders(failureStatus, -1);
+                exchange.close();
+                return;
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/3/movie/", exchange -> {
+            if (!exchange.getRequestURI().getPath().endsWith("/10")) {
+                exchange.sendResponseHeaders(404, -1);
+                exchange.close();
+                return;
+            }
+            byte[] body = MOVIE_BODY.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @DisplayName("1. 응답의 영화 목록을 읽고 모르는 필드는 건너뛴다.")
+    @Test
+    void discoverByReleaseDate() throws IOException {
+        // given
+        TmdbClient client = createClient();
+
+        // when
+        TmdbPageResponse response = client.discoverByReleaseDate(LocalDate.of(2019, 5, 30), 1);
+
+        // then
+        assertThat(response.getPage()).isEqualTo(1);
+        assertThat(response.getTotalPages()).isEqualTo(3);
+        assertThat(response.getMovies()).hasSize(2);
+        TmdbMovieResponse movie = response.getMovies().get(0);
+        assertThat(movie.getMovieContentId()).isEqualTo(10);
+        assertThat(movie.getTitle()).isEqualTo("기생충");
+        assertThat(movie.getGenreNumbers()).containsExactly(18, 53);
+        assertThat(response.getMovies().get(1).toEntity().getTitle()).isEmpty();
+    }
+
+    @DisplayName("2. 429 와 5xx 응답은 다시 요청한다.")
+    @Test
+    void retryOnTooManyRequests() throws IOException {
+        // given
+        failuresBeforeSuccess = 2;
+        failureStatus = 429;
+        TmdbClient client = createClient();
+
+        // when
+        TmdbPageResponse response = client.discoverByReleaseDate(LocalDate.of(2019, 5, 30), 1);
+
+        // then
+        assertThat(response.getMovies()).hasSize(2);
+        assertThat(requestCount.get()).isEqualTo(3);
+        assertThat(client.getRetryCount()).isEqualTo(2);
+    }
+
+    @DisplayName("3. 그 밖의 4xx 응답은 다시 요청하지 않는다.")
+    @Test
+    void failOnClientError() {
+        // given
+        failuresBeforeSuccess = 1;
+        failureStatus = 401;
+        TmdbClient client = createClient();
+
+        // when // then
+        assertThatThrownBy(() -> client.discoverByReleaseDate(LocalDate.of(2019, 5, 30), 1))
+                .isInstanceOf(TmdbClient.TmdbRequestException.class);
+        assertThat(requestCount.get()).isEqualTo(1);
+        assertThat(client.getRetryCount()).isZero();
+    }
+
+    @DisplayName("4. 영화 상세의 장르 목록을 장르 번호로 읽고, 없는 영화는 비어 있다.")
+    @Test
+    void getMovie() throws IOException {
+        // given
+        TmdbClient client = createClient();
+
+        // when
+        Optional<TmdbMovieResponse> movie = client.getMovie(10);
+        Optional<TmdbMovieResponse> deleted = client.getMovie(11);
+
+        // then
+        assertThat(movie).isPresent();
+        assertThat(movie.get().getOverview()).isEqualTo("줄거리");
+        assertThat(movie.get().getGenreNumbers()).containsExactly(18, 53);
+        assertThat(deleted).isEmpty();
+    }
+
+    private TmdbClient createClient() {
+        String baseUrl = "http://localhost:" + server.getAddress().getPort();
+        return new TmdbClient(new ObjectMapper(), baseUrl, "test-key", 100, 3, 2000);
+    }
+}
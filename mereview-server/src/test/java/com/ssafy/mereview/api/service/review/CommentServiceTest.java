@@ -141,6 +141,33 @@ class CommentServiceTest {
         assertThat(comments).isEmpty();
     }
 
+    @DisplayName("댓글을 작성하면 리뷰의 댓글 수가 늘고, 삭제하면 줄어든다.")
+    @Test
+    void updateReviewCommentCount() {
+        // given
+        Long reviewId = reviewRepository.findAll().stream().findAny()
+                .orElseThrow().getId();
+        Long memberId = memberRepository.findAll().stream().findAny()
+                .orElseThrow().getId();
+
+        CommentCreateServiceRequest request = CommentCreateServiceRequest.builder()
+                .memberId(memberId)
+                .reviewId(reviewId)
+                .content("content")
+                .build();
+
+        // when
+        Long commentId = commentService.save(request);
+        commentService.save(request);
+        int savedCount = reviewRepository.findById(reviewId).orElseThrow().getCommentCount();
+        commentService.delete(commentId);
+        int deletedCount = reviewRepository.findById(reviewId).orElseThrow().getCommentCount();
+
+        // then
+        assertThat(savedCount).isEqualTo(2);
+        assertThat(deletedCount).isEqualTo(1);
+    }
+
     @DisplayName("작성되어있지 않은 댓글을 삭제한다.")
     @Test
     void deleteCommentNotExists() {
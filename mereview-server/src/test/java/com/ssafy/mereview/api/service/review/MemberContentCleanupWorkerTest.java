@@ -0,0 +1,184 @@
+package com.ssafy.mereview.api.service.review;
+
+import com.ssafy.mereview.domain.member.entity.Member;
+import com.ssafy.mereview.domain.member.repository.MemberRepository;
+import com.ssafy.mereview.domain.movie.entity.Genre;
+import com.ssafy.mereview.domain.movie.entity.Movie;
+import com.ssafy.mereview.domain.movie.repository.command.GenreRepository;
+import com.ssafy.mereview.domain.movie.repository.command.MovieRepository;
+import com.ssafy.mereview.domain.review.entity.Comment;
+import com.ssafy.mereview.domain.review.entity.MemberContentCleanup;
+import com.ssafy.mereview.domain.review.entity.Review;
+import com.ssafy.mereview.domain.review.entity.ReviewEvaluation;
+import com.ssafy.mereview.domain.review.repository.command.*;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static com.ssafy.mereview.domain.review.entity.CleanupStatus.PENDING;
+import static com.ssafy.mereview.domain.review.entity.MovieRecommendType.YES;
+import static com.ssafy.mereview.domain.review.entity.ReviewEvaluationType.FUN;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+@SpringBootTest
+class MemberContentCleanupWorkerTest {
+
+    @Autowired
+    private MemberContentCleanupWorker cleanupWorker;
+
+    @Autowired
+    private MemberContentCleanupRepository cleanupRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ReviewEvaluationRepository evaluationRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long writerReviewId;
+    private Long deletedMemberReviewId;
+    private Long deletedMemberId;
+
+    @BeforeEach
+    void setUp() {
+        Member writer = createMember("writer@test.com");
+        Member deletedMember = createMember("deleted@test.com");
+        Movie movie = createMovie();
+        Genre genre = createGenre();
+
+        Review writerReview = reviewRepository.save(createReview(writer, movie, genre));
+        Review deletedMemberReview = reviewRepository.save(createReview(deletedMember, movie, genre));
+        commentRepository.save(Comment.builder().content("댓글").review(writerReview).member(deletedMember).build());
+        commentRepository.save(Comment.builder().content("댓글").review(deletedMemberReview).member(writer).build());
+        evaluationRepository.save(ReviewEvaluation.builder().type(FUN).review(writerReview).member(deletedMember).build());
+        transactionTemplate.executeWithoutResult(status -> {
+            reviewRepository.updateCommentCount(writerReview.getId(), 1);
+            reviewRepository.updateFunCount(writerReview.getId(), 1);
+        });
+
+        writerReviewId = writerReview.getId();
+        deletedMemberReviewId = deletedMemberReview.getId();
+        deletedMemberId = deletedMember.getId();
+        cleanupRepository.save(MemberContentCleanup.builder().memberId(deletedMemberId).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanupRepository.deleteAllInBatch();
+        evaluationRepository.deleteAllInBatch();
+        commentRepository.deleteAllInBatch();
+        reviewRepository.deleteAllInBatch();
+        genreRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+        movieRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("1. 정리 기록이 남은 회원의 리뷰와 활동 기록을 지우고 남의 리뷰 카운터를 뺀 뒤 기록을 지운다.")
+    @Test
+    void drain() {
+        // when
+        int cleanedCount = cleanupWorker.drain();
+
+        // then
+        assertThat(cleanedCount).isEqualTo(1);
+        assertThat(reviewRepository.findById(deletedMemberReviewId)).isEmpty();
+        assertThat(commentRepository.findAll()).isEmpty();
+        assertThat(evaluationRepository.findAll()).isEmpty();
+        Review writerReview = reviewRepository.findById(writerReviewId).orElseThrow();
+        assertThat(writerReview.getCommentCount()).isZero();
+        assertThat(writerReview.getFunCount()).isZero();
+        assertThat(cleanupRepository.findById(deletedMemberId)).isEmpty();
+    }
+
+    @DisplayName("2. 다시 시도할 때 이미 뺀 카운터는 또 빼지 않는다.")
+    @Test
+    void drainAfterCountersSubtracted() {
+        // given
+        transactionTemplate.executeWithoutResult(status -> cleanupRepository.markCountersSubtracted(deletedMemberId));
+
+        // when
+        cleanupWorker.drain();
+
+        // then
+        Review writerReview = reviewRepository.findById(writerReviewId).orElseThrow();
+        assertThat(writerReview.getCommentCount()).isEqualTo(1);
+        assertThat(writerReview.getFunCount()).isEqualTo(1);
+        assertThat(commentRepository.findAll()).isEmpty();
+        assertThat(cleanupRepository.findById(deletedMemberId)).isEmpty();
+    }
+
+    @DisplayName("3. 다른 곳에서 가져간 정리 기록은 건너뛴다.")
+    @Test
+    void skipClaimedCleanup() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> cleanupRepository.claim(deletedMemberId, PENDING, now, now.plusMinutes(10)));
+
+        // when
+        int cleanedCount = cleanupWorker.drain();
+
+        // then
+        assertThat(cleanedCount).isZero();
+        assertThat(reviewRepository.findById(deletedMemberReviewId)).isPresent();
+        assertThat(cleanupRepository.findById(deletedMemberId)).isPresent();
+    }
+
+    /**
+     * private methods
+     */
+
+    private Member createMember(String email) {
+        Member member = Member.builder()
+                .email(email)
+                .password("123456")
+                .build();
+        return memberRepository.save(member);
+    }
+
+    private Movie createMovie() {
+        Movie movie = Movie.builder()
+                .movieContentId(1)
+                .title("영화제목")
+                .build();
+        return movieRepository.save(movie);
+    }
+
+    private Genre createGenre() {
+        Genre genre = Genre.builder()
+                .genreName("name")
+                .isUsing(true)
+                .build();
+        return genreRepository.save(genre);
+    }
+
+    private Review createReview(Member member, Movie movie, Genre genre) {
+        return Review.builder()
+                .title("제목")
+                .content("내용")
+                .highlight("한줄평")
+                .type(YES)
+                .member(member)
+                .movie(movie)
+                .genre(genre)
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.ssafy.mereview.api.service.review;
 
 import com.ssafy.mereview.api.service.review.dto.response.ReviewDetailResponse;
 import com.ssafy.mereview.api.service.review.dto.response.ReviewResponse;
+import com.ssafy.mereview.common.response.PageCount;
 import com.ssafy.mereview.domain.member.entity.Member;
 import com.ssafy.mereview.domain.member.repository.MemberRepository;
 import com.ssafy.mereview.domain.movie.entity.Genre;
@@ -104,10 +105,14 @@ class ReviewQueryServiceTest {
 
     }
 
-    @DisplayName("2. 제목이 일치하는 모든 리뷰를 조회한다.")
+    @DisplayName("2. 영화 제목이 일치하는 모든 리뷰를 조회한다.")
     @Test
     void searchReviewsByTitle() {
         // given
+        Review saved = reviewRepository.findAll().stream().findAny().orElseThrow(NoSuchElementException::new);
+        Movie movie = createMovie(100 + (int) (Math.random() * 100), "테스트 영화");
+        reviewRepository.save(createReview("다른 제목", "다른 내용", "다른 한줄평", 0, saved.getMember(), movie, saved.getGenre()));
+
         SearchCondition condition = new SearchCondition("테스트", "", "", "", "", "", "", "", "");
         PageRequest pageRequest = PageRequest.of(0, PAGE_SIZE);
 
@@ -115,11 +120,10 @@ class ReviewQueryServiceTest {
         List<ReviewResponse> responses = reviewQueryService.searchByCondition(condition, pageRequest);
 
         // then
-        assertThat(responses).hasSize(2)
+        assertThat(responses).hasSize(1)
                 .extracting("movieTitle", "reviewTitle", "hits", "highlight")
-                .containsExactlyInAnyOrder(
-                        tuple("영화제목", "테스트 제목2", 20, "테스트 한줄평2"),
-                        tuple("영화제목", "테스트 제목1", 0, "테스트 한줄평1")
+                .containsExactly(
+                        tuple("테스트 영화", "다른 제목", 0, "다른 한줄평")
                 );
 
     }
@@ -239,6 +243,8 @@ class ReviewQueryServiceTest {
 
         // then
         assertThat(response).isNotNull();
+        assertThat(response.getComments()).isEmpty();
+        assertThat(response.getCommentCount()).isZero();
     }
 
     @DisplayName("9. 존재하지 않는 리뷰를 리뷰의 id 값으로 조회한다.")
@@ -254,6 +260,52 @@ class ReviewQueryServiceTest {
                 .hasMessage("존재하지 않는 리뷰입니다.");
     }
 
+    @DisplayName("10. 한줄평에만 있는 검색어는 내용 검색에 걸리지 않는다.")
+    @Test
+    void searchReviewsByContentExceptHighlight() {
+        // given
+        SearchCondition condition = new SearchCondition("", "한줄평", "", "", "", "", "", "", "");
+        PageRequest pageRequest = PageRequest.of(0, PAGE_SIZE);
+
+        // when
+        List<ReviewResponse> responses = reviewQueryService.searchByCondition(condition, pageRequest);
+
+        // then
+        assertThat(responses).isEmpty();
+    }
+
+    @DisplayName("11. 정렬 조건 없이 내용으로 검색하면 관련도 순으로 조회한다.")
+    @Test
+    void searchReviewsByContentOrderByRelevance() {
+        // given
+        Review saved = reviewRepository.findAll().stream().findAny().orElseThrow(NoSuchElementException::new);
+        reviewRepository.save(createReview("관련도 제목", "테스트 테스트 테스트 내용", "관련도 한줄평", 0, saved.getMember(), saved.getMovie(), saved.getGenre()));
+
+        SearchCondition condition = new SearchCondition("", "테스트", "", "", "", "", "", "", "");
+        PageRequest pageRequest = PageRequest.of(0, PAGE_SIZE);
+
+        // when
+        List<ReviewResponse> responses = reviewQueryService.searchByCondition(condition, pageRequest);
+
+        // then
+        assertThat(responses).hasSize(3);
+        assertThat(responses.get(0).getReviewTitle()).isEqualTo("관련도 제목");
+    }
+
+    @DisplayName("12. 검색어 결과가 상한보다 적으면 전체 개수를 정확한 값으로 계산한다.")
+    @Test
+    void calculatePageCountWithTextFilter() {
+        // given
+        SearchCondition condition = new SearchCondition("", "테스트", "", "", "", "", "", "", "");
+
+        // when
+        PageCount pageCount = reviewQueryService.calculatePageCount(condition);
+
+        // then
+        assertThat(pageCount.getTotalCount()).isEqualTo(2);
+        assertThat(pageCount.isExact()).isTrue();
+    }
+
     /**
      * private methods
      */
@@ -267,9 +319,13 @@ class ReviewQueryServiceTest {
     }
 
     private Movie createMovie(int id) {
+        return createMovie(id, "영화제목");
+    }
+
+    private Movie createMovie(int id, String title) {
         Movie movie = Movie.builder()
                 .movieContentId(id)
-                .title("영화제목")
+                .title(title)
                 .build();
         return movieRepository.save(movie);
     }
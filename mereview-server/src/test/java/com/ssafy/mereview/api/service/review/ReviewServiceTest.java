@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
@@ -165,18 +166,30 @@ class ReviewServiceTest {
                 .isInstanceOf(NoSuchElementException.class);
     }
 
+    // 삭제는 청크마다 커밋하므로 리뷰도 테스트 트랜잭션 밖에서 커밋해 두고, 끝나면 남은 행을 직접 지운다.
     @DisplayName("3. 작성된 리뷰를 삭제한다.")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @Test
     void deleteExistingReview() {
         // given
         Long reviewId = createReview();
-
-        // when
-        reviewService.delete(reviewId);
-        List<Review> reviews = reviewRepository.findAll();
-
-        // then
-        assertThat(reviews).isEmpty();
+        Long keywordId = keywordRepository.save(Keyword.builder()
+                .name("keyword1")
+                .weight(1)
+                .review(Review.builder().id(reviewId).build())
+                .build()).getId();
+
+        try {
+            // when
+            reviewService.delete(reviewId);
+
+            // then
+            assertThat(reviewRepository.findById(reviewId)).isEmpty();
+            assertThat(keywordRepository.findById(keywordId)).isEmpty();
+        } finally {
+            keywordRepository.findById(keywordId).ifPresent(keywordRepository::delete);
+            reviewRepository.findById(reviewId).ifPresent(reviewRepository::delete);
+        }
     }
 
     @DisplayName("4. 작성되지 않은 리뷰를 삭제한다.")
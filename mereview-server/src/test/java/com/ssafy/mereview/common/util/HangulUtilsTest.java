@@ -0,0 +1,41 @@
+package com.ssafy.mereview.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.assertj.core.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+class HangulUtilsTest {
+
+    @DisplayName("1. 완성형 음절을 초성으로 바꾼다.")
+    @Test
+    void toChosung() {
+        // when // then
+        assertThat(HangulUtils.toChosung("기생충")).isEqualTo("ㄱㅅㅊ");
+        assertThat(HangulUtils.toChosung("까치")).isEqualTo("ㄲㅊ");
+        assertThat(HangulUtils.toChosung('가')).isEqualTo('ㄱ');
+        assertThat(HangulUtils.toChosung('힣')).isEqualTo('ㅎ');
+    }
+
+    @DisplayName("2. 완성형 음절이 아닌 문자는 그대로 둔다.")
+    @Test
+    void toChosungKeepsOtherCharacters() {
+        // when // then
+        assertThat(HangulUtils.toChosung("Up 2")).isEqualTo("Up 2");
+        assertThat(HangulUtils.toChosung("기ㅅ충")).isEqualTo("ㄱㅅㅊ");
+    }
+
+    @DisplayName("3. 초성 문자와 초성이 섞인 문자열을 구분한다.")
+    @Test
+    void containsChosung() {
+        // when // then
+        assertThat(HangulUtils.isChosung('ㄲ')).isTrue();
+        assertThat(HangulUtils.isChosung('ㅏ')).isFalse();
+        assertThat(HangulUtils.isChosung('가')).isFalse();
+        assertThat(HangulUtils.containsChosung("기ㅅ")).isTrue();
+        assertThat(HangulUtils.containsChosung("기생충")).isFalse();
+    }
+}
@@ -0,0 +1,81 @@
+package com.ssafy.mereview.domain.review.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+class EventIdSetTest {
+
+    @DisplayName("1. 인코딩한 값을 디코딩하면 같은 집합이 된다.")
+    @Test
+    void encodeAndDecode() {
+        // given
+        EventIdSet eventIds = EventIdSet.empty().addAll(List.of(1L, 127L, 128L, 16_384L, 5_000_000_000L));
+
+        // when
+        EventIdSet decoded = EventIdSet.decode(eventIds.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(eventIds);
+        assertThat(decoded.toList()).containsExactly(1L, 127L, 128L, 16_384L, 5_000_000_000L);
+    }
+
+    @DisplayName("2. 차이가 127 이하인 id 는 한 바이트로 적는다.")
+    @Test
+    void encodeSmallDeltaInOneByte() {
+        // given
+        EventIdSet eventIds = EventIdSet.empty().addAll(List.of(100L, 200L, 300L));
+
+        // when
+        byte[] bytes = Base64.getDecoder().decode(eventIds.encode());
+
+        // then
+        assertThat(bytes).containsExactly(100, 100, 100);
+    }
+
+    @DisplayName("3. 빈 집합과 빈 문자열은 서로 바뀐다.")
+    @Test
+    void encodeEmpty() {
+        // when // then
+        assertThat(EventIdSet.empty().encode()).isEmpty();
+        assertThat(EventIdSet.decode("")).isEqualTo(EventIdSet.empty());
+        assertThat(EventIdSet.decode(null).size()).isZero();
+    }
+
+    @DisplayName("4. 추가는 정렬과 중복 제거를 하고, 제거한 id 는 더 이상 포함하지 않는다.")
+    @Test
+    void addAndRemove() {
+        // given
+        EventIdSet eventIds = EventIdSet.empty().addAll(List.of(30L, 10L, 20L, 10L)).add(20L);
+
+        // when
+        EventIdSet removed = eventIds.remove(20L);
+
+        // then
+        assertThat(eventIds.toList()).containsExactly(10L, 20L, 30L);
+        assertThat(removed.contains(20L)).isFalse();
+        assertThat(removed.toList()).containsExactly(10L, 30L);
+        assertThat(eventIds.remove(40L)).isSameAs(eventIds);
+    }
+
+    @DisplayName("5. 배열로 만들면 정렬과 중복 제거를 하고, 작은 id 의 개수를 센다.")
+    @Test
+    void ofAndCountLessThan() {
+        // given
+        EventIdSet eventIds = EventIdSet.of(30L, 10L, 20L, 10L);
+
+        // when // then
+        assertThat(eventIds.toArray()).containsExactly(10L, 20L, 30L);
+        assertThat(eventIds.countLessThan(5L)).isZero();
+        assertThat(eventIds.countLessThan(20L)).isEqualTo(1);
+        assertThat(eventIds.countLessThan(25L)).isEqualTo(2);
+        assertThat(eventIds.countLessThan(31L)).isEqualTo(3);
+    }
+}
@@ -0,0 +1,99 @@
+package com.ssafy.mereview.domain.review.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.List;
+
+import static com.ssafy.mereview.domain.review.entity.NotificationStatus.CONFIRMED;
+import static com.ssafy.mereview.domain.review.entity.NotificationStatus.UNCONFIRMED;
+import static org.assertj.core.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.DisplayName.class)
+class NotificationInboxStateTest {
+
+    @DisplayName("1. 전체 확인은 기준선만 올리고, 기준선 아래에서 다시 안 읽음으로 돌릴 수 있다.")
+    @Test
+    void markAllRead() {
+        // given
+        NotificationInboxState state = NotificationInboxState.builder().memberId(1L).build();
+        state.markRead(List.of(3L));
+
+        // when
+        state.markAllRead(1_000L);
+        state.toggleStatus(500L);
+
+        // then
+        assertThat(state.getStatus(1L)).isEqualTo(CONFIRMED);
+        assertThat(state.getStatus(500L)).isEqualTo(UNCONFIRMED);
+        assertThat(state.getStatus(1_001L)).isEqualTo(UNCONFIRMED);
+        assertThat(state.getToggledEventIds().toList()).containsExactly(500L);
+    }
+
+    @DisplayName("2. 확인한 알림을 모두 지우면 안 읽은 알림만 남고 상태는 범위 하나로 적힌다.")
+    @Test
+    void deleteAllConfirmed() {
+        // given
+        NotificationInboxState state = NotificationInboxState.builder().memberId(1L).build();
+        state.markAllRead(1_000L);
+        state.toggleStatus(500L);
+        state.markRead(List.of(1_200L));
+
+        // when
+        state.deleteAll(CONFIRMED, 1_500L);
+
+        // then
+        assertThat(state.isDeleted(1L)).isTrue();
+        assertThat(state.isDeleted(1_200L)).isTrue();
+        assertThat(state.isDeleted(500L)).isFalse();
+        assertThat(state.isDeleted(1_300L)).isFalse();
+        assertThat(state.getStatus(500L)).isEqualTo(UNCONFIRMED);
+        assertThat(state.getStatus(1_300L)).isEqualTo(UNCONFIRMED);
+        assertThat(state.getDeletedRanges().toList()).containsExactly(0L, 1_000L);
+        assertThat(state.getKeptEventIds().toList()).containsExactly(500L);
+    }
+
+    @DisplayName("3. 안 읽은 알림을 모두 지우면 확인한 알림만 남고, 그 뒤에 온 알림은 남는다.")
+    @Test
+    void deleteAllUnconfirmed() {
+        // given
+        NotificationInboxState state = NotificationInboxState.builder().memberId(1L).build();
+        state.markAllRead(100L);
+        state.toggleStatus(50L);
+        state.markRead(List.of(150L));
+
+        // when
+        state.deleteAll(UNCONFIRMED, 200L);
+
+        // then
+        assertThat(state.isDeleted(50L)).isTrue();
+        assertThat(state.isDeleted(120L)).isTrue();
+        assertThat(state.isDeleted(10L)).isFalse();
+        assertThat(state.isDeleted(150L)).isFalse();
+        assertThat(state.isDeleted(201L)).isFalse();
+        assertThat(state.getStatus(150L)).isEqualTo(CONFIRMED);
+        assertThat(state.getStatus(201L)).isEqualTo(UNCONFIRMED);
+        assertThat(state.getToggledEventIds().size()).isZero();
+    }
+
+    @DisplayName("4. 삭제 범위 안에 남긴 알림도 하나씩 지울 수 있다.")
+    @Test
+    void deleteKeptEvent() {
+        // given
+        NotificationInboxState state = NotificationInboxState.builder().memberId(1L).build();
+        state.markAllRead(100L);
+        state.toggleStatus(50L);
+        state.deleteAll(CONFIRMED, 100L);
+
+        // when
+        int deletedCount = state.deleteAll(List.of(50L, 60L));
+
+        // then
+        assertThat(deletedCount).isEqualTo(1);
+        assertThat(state.isDeleted(50L)).isTrue();
+        assertThat(state.getKeptEventIds().size()).isZero();
+        assertThat(state.getDeletedEventIds().size()).isZero();
+    }
+}